@@ -0,0 +1,99 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.model.game.BoardCells;
+import com.comp2042.model.game.SimpleBoard;
+import java.util.Random;
+
+/**
+ * Board fill states shared by the benchmarks.
+ * Fills the bottom rows with scattered cells, leaving at least one hole per row so
+ * nothing is cleared by accident, which is closer to mid-game than an empty board.
+ */
+final class BoardFixtures {
+
+    /** Board rows used by the game */
+    static final int ROWS = 25;
+
+    /** Board columns used by the game */
+    static final int COLUMNS = 10;
+
+    /** Fixed seed so every run measures the same boards */
+    private static final long SEED = 2042L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoardFixtures() {
+    }
+
+    /**
+     * Creates a matrix whose bottom rows are partly filled.
+     *
+     * @param filledRows number of rows from the bottom to fill
+     * @return board matrix indexed [row][column]
+     */
+    static int[][] partiallyFilled(int filledRows) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        fill(matrix, filledRows);
+        return matrix;
+    }
+
+    /**
+     * Fills the bottom rows of an existing matrix.
+     * Each row gets one guaranteed hole and roughly 70% of its other cells filled.
+     *
+     * @param matrix board matrix to fill
+     * @param filledRows number of rows from the bottom to fill
+     */
+    static void fill(int[][] matrix, int filledRows) {
+        Random random = new Random(SEED);
+        int rows = matrix.length;
+        for (int r = rows - filledRows; r < rows; r++) {
+            int hole = random.nextInt(matrix[r].length);
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (c != hole && random.nextInt(10) < 7) {
+                    matrix[r][c] = 1 + random.nextInt(7);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the bottom rows of a board the same way, merging each cell so the
+     * board's row counts and column tops stay in step.
+     *
+     * @param board board to fill
+     * @param filledRows number of rows from the bottom to fill
+     */
+    static void fill(SimpleBoard board, int filledRows) {
+        int[][] cells = board.getBoardMatrix();
+        int[][] pattern = new int[cells.length][cells[0].length];
+        fill(pattern, filledRows);
+        for (int r = 0; r < pattern.length; r++) {
+            for (int c = 0; c < pattern[r].length; c++) {
+                if (pattern[r][c] != 0) {
+                    BoardCells.set(board, r, c, pattern[r][c]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a matrix with the bottom rows completely filled, for line clear
+     * benchmarks.
+     *
+     * @param fullRows number of full rows at the bottom
+     * @param filledRows number of partly filled rows above them
+     * @return board matrix indexed [row][column]
+     */
+    static int[][] withFullRows(int fullRows, int filledRows) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        fill(matrix, fullRows + filledRows);
+        for (int r = ROWS - fullRows; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                matrix[r][c] = 1;
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.game.SimpleBoard;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Input and lock costs of {@link SimpleBoard} across board sizes. Per-input costs
+ * should stay flat as the board grows; only clears depend on the stack height.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSizeBenchmark {
+
+    /** Board size as rows x columns */
+    @Param({"25x10", "100x40", "1000x64"})
+    public String size;
+
+    private SimpleBoard board;
+    private boolean movingLeft;
+
+    @Setup
+    public void setUp() {
+        String[] parts = size.split("x");
+        board = new SimpleBoard(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                GameMode.ZEN, new SeededBrickGenerator(2042L));
+        board.newGame();
+        BoardFixtures.fill(board, 8);
+    }
+
+    @Benchmark
+    public ViewData moveSideways() {
+        boolean moved = movingLeft ? board.moveBrickLeft() : board.moveBrickRight();
+        if (!moved) {
+            movingLeft = !movingLeft;
+        }
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ClearRow lockCycle() {
+        // Zen mode clears the board when it tops out, so this runs indefinitely
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        board.createNewBrick();
+        return clearRow;
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.util.GameConstants;
+import com.comp2042.view.rendering.BoardRenderer;
+import com.comp2042.view.rendering.BrickRenderer;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One sideways step of the falling brick on the node renderer, followed by the
+ * GridPane layout pass the next pulse would run: moving fixed cell nodes against
+ * removing and re-adding them at new grid coordinates. Runs without a stage, so it
+ * measures the scene-graph work only, not painting.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickRendererBenchmark {
+
+    private SimpleBoard board;
+    private GridPane movedPanel;
+    private GridPane readdedPanel;
+    private BrickRenderer brickRenderer;
+    private Rectangle[] readdedCells;
+    private boolean movingLeft;
+
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(GameConstants.BOARD_ROWS, GameConstants.BOARD_COLUMNS,
+                GameMode.ZEN, new SeededBrickGenerator(2042L));
+        board.newGame();
+        ViewData view = board.getViewData();
+
+        movedPanel = new GridPane();
+        new BoardRenderer(movedPanel).initialize(board.getBoardMatrix());
+        brickRenderer = new BrickRenderer(new GridPane(), movedPanel);
+        brickRenderer.initialize(view.getBrickPiece(), GameConstants.BOARD_ROWS, GameConstants.BRICK_SIZE);
+        movedPanel.layout();
+
+        readdedPanel = new GridPane();
+        new BoardRenderer(readdedPanel).initialize(board.getBoardMatrix());
+        readdedCells = new Rectangle[view.getBrickPiece().getCellCount()];
+        for (int i = 0; i < readdedCells.length; i++) {
+            readdedCells[i] = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+        }
+        readdedPanel.layout();
+    }
+
+    @Benchmark
+    public GridPane moveNodes() {
+        brickRenderer.refresh(step());
+        movedPanel.layout();
+        return movedPanel;
+    }
+
+    @Benchmark
+    public GridPane readdNodes() {
+        ViewData view = step();
+        PieceShape piece = view.getBrickPiece();
+        readdedPanel.getChildren().removeAll(readdedCells);
+        for (int i = 0; i < readdedCells.length; i++) {
+            int gridY = view.getyPosition() + piece.getCellRow(i);
+            if (gridY >= GameConstants.VISIBLE_START_ROW) {
+                readdedPanel.add(readdedCells[i], view.getxPosition() + piece.getCellColumn(i),
+                        gridY - GameConstants.VISIBLE_START_ROW);
+            }
+        }
+        readdedPanel.layout();
+        return readdedPanel;
+    }
+
+    private ViewData step() {
+        boolean moved = movingLeft ? board.moveBrickLeft() : board.moveBrickRight();
+        if (!moved) {
+            movingLeft = !movingLeft;
+        }
+        return board.getViewData();
+    }
+}
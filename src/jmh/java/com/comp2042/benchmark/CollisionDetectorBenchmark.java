@@ -0,0 +1,57 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.model.game.CollisionDetector;
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shadow (ghost) position search in {@link CollisionDetector} from the spawn row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionDetectorBenchmark {
+
+    /** Number of partly filled rows at the bottom of the board */
+    @Param({"0", "8", "16"})
+    public int filledRows;
+
+    private CollisionDetector detector;
+    private PieceShape piece;
+    private int[][] shapeMatrix;
+    private Point spawn;
+
+    @Setup
+    public void setUp() {
+        detector = new CollisionDetector(BoardFixtures.partiallyFilled(filledRows));
+        piece = new IBrick().getPiece(1);
+        shapeMatrix = piece.toMatrix();
+        spawn = new Point(3, 0);
+    }
+
+    @Benchmark
+    public int calculateShadowYMatrix() {
+        return detector.calculateShadowY(shapeMatrix, spawn);
+    }
+
+    @Benchmark
+    public int calculateShadowYPiece() {
+        return detector.calculateShadowY(piece, spawn.x, spawn.y);
+    }
+}
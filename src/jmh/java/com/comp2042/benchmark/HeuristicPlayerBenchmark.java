@@ -0,0 +1,71 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.ai.BoardEvaluator;
+import com.comp2042.model.ai.HeuristicPlayer;
+import com.comp2042.model.ai.Placement;
+import com.comp2042.model.game.SimpleBoard;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One bot decision (current brick plus preview) on a partly filled board, with
+ * the branch search on one thread and on all cores. Blitz level 14 drops a row
+ * every 35 ms, so a decision has to fit well inside that.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeuristicPlayerBenchmark {
+
+    /** Number of partly filled rows at the bottom of the board */
+    @Param({"0", "8"})
+    public int filledRows;
+
+    private SimpleBoard board;
+    private ForkJoinPool single;
+    private HeuristicPlayer serialPlayer;
+    private HeuristicPlayer parallelPlayer;
+
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, GameMode.BLITZ,
+                new SeededBrickGenerator(2042L));
+        BoardFixtures.fill(board, filledRows);
+        board.createNewBrick();
+        single = new ForkJoinPool(1);
+        serialPlayer = new HeuristicPlayer(new BoardEvaluator(), single);
+        parallelPlayer = new HeuristicPlayer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        single.shutdown();
+    }
+
+    @Benchmark
+    public Placement decideSerial() {
+        return serialPlayer.decide(board);
+    }
+
+    @Benchmark
+    public Placement decideParallel() {
+        return parallelPlayer.decide(board);
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.util.MatrixOperations;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Collision, merge and line clear primitives in {@link MatrixOperations}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    /** Number of partly filled rows at the bottom of the board */
+    @Param({"0", "8", "16"})
+    public int filledRows;
+
+    private int[][] board;
+    private int[][] boardWithFullRows;
+    private int[][] shapeMatrix;
+    private PieceShape piece;
+    private int landingY;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.partiallyFilled(filledRows);
+        boardWithFullRows = BoardFixtures.withFullRows(2, filledRows);
+        piece = new TBrick().getPiece(0);
+        shapeMatrix = piece.toMatrix();
+        landingY = BoardFixtures.ROWS - filledRows - 1 - piece.getMaxRow();
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(board, shapeMatrix, 3, landingY);
+    }
+
+    @Benchmark
+    public boolean intersectPiece() {
+        return MatrixOperations.intersect(board, piece, 3, landingY);
+    }
+
+    @Benchmark
+    public int[][] mergeCopy() {
+        return MatrixOperations.merge(board, shapeMatrix, 3, landingY);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingNoFullRows() {
+        return MatrixOperations.checkRemoving(board);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingTwoFullRows() {
+        return MatrixOperations.checkRemoving(boardWithFullRows);
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.model.game.PlacementEnumerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reachable placement search for one T brick from the spawn position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementEnumeratorBenchmark {
+
+    /** Number of partly filled rows at the bottom of the board */
+    @Param({"0", "8", "16"})
+    public int filledRows;
+
+    private PlacementEnumerator enumerator;
+    private int[][] matrix;
+    private int pieceId;
+
+    @Setup
+    public void setUp() {
+        enumerator = new PlacementEnumerator(BoardFixtures.ROWS, BoardFixtures.COLUMNS);
+        matrix = BoardFixtures.partiallyFilled(filledRows);
+        pieceId = new TBrick().getPieceId();
+    }
+
+    @Benchmark
+    public int enumerate() {
+        return enumerator.enumerate(matrix, pieceId, 0, 3, 0);
+    }
+}
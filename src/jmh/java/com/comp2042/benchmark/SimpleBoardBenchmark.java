@@ -0,0 +1,73 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.game.SimpleBoard;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Player input handling on {@link SimpleBoard}: each operation is followed by
+ * {@code getViewData()} because that is what the controller does on every input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    /** Number of partly filled rows at the bottom of the board */
+    @Param({"0", "8", "16"})
+    public int filledRows;
+
+    private SimpleBoard board;
+    private boolean movingLeft;
+
+    @Setup
+    public void setUp() {
+        board = new SimpleBoard(BoardFixtures.ROWS, BoardFixtures.COLUMNS, GameMode.BLITZ);
+        board.createNewBrick();
+        BoardFixtures.fill(board, filledRows);
+    }
+
+    @Benchmark
+    public ViewData moveSideways() {
+        // Sweep wall to wall so most calls are successful moves
+        boolean moved = movingLeft ? board.moveBrickLeft() : board.moveBrickRight();
+        if (!moved) {
+            movingLeft = !movingLeft;
+        }
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ViewData rotate() {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ViewData spawnAndHold() {
+        // Hold is only re-enabled by spawning, so both are measured together
+        board.createNewBrick();
+        board.holdBrick();
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ViewData viewData() {
+        return board.getViewData();
+    }
+}
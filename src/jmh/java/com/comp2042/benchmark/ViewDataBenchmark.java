@@ -0,0 +1,72 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+import com.comp2042.model.data.ViewData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ViewData} construction from shared shapes and from matrices, the cost of
+ * reading a matrix back out, and the change mask a renderer computes per refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewDataBenchmark {
+
+    private PieceShape current;
+    private PieceShape next;
+    private PieceShape hold;
+    private int[][] currentMatrix;
+    private int[][] nextMatrix;
+    private int[][] holdMatrix;
+    private ViewData viewData;
+    private ViewData movedViewData;
+
+    @Setup
+    public void setUp() {
+        current = new TBrick().getPiece(0);
+        next = new ZBrick().getPiece(0);
+        hold = new JBrick().getPiece(0);
+        currentMatrix = current.toMatrix();
+        nextMatrix = next.toMatrix();
+        holdMatrix = hold.toMatrix();
+        viewData = new ViewData(current, 3, 5, next, 20, hold);
+        movedViewData = new ViewData(current, 4, 5, next, 20, hold);
+    }
+
+    @Benchmark
+    public ViewData constructFromPieces() {
+        return new ViewData(current, 3, 5, next, 20, hold);
+    }
+
+    @Benchmark
+    public ViewData constructFromMatrices() {
+        return new ViewData(currentMatrix, 3, 5, nextMatrix, 20, holdMatrix);
+    }
+
+    @Benchmark
+    public int[][] getBrickData() {
+        return viewData.getBrickData();
+    }
+
+    @Benchmark
+    public int changesSince() {
+        return movedViewData.changesSince(viewData);
+    }
+}
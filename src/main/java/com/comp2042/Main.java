@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import com.comp2042.util.ColorPalette;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
@@ -92,6 +93,7 @@ public class Main extends Application {
         // Apply scaling to the centered content only
         centeredRoot.setScaleX(scale);
         centeredRoot.setScaleY(scale);
+        ColorPalette.setUiScale(scale);
     }
 
     /**
@@ -3,34 +3,80 @@ package com.comp2042.controller.game;
 import com.comp2042.controller.input.InputEventListener;
 import com.comp2042.enums.EventSource;
 import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
 import com.comp2042.model.game.Board;
+import com.comp2042.model.game.GameEngine;
 import com.comp2042.model.game.SimpleBoard;
 import com.comp2042.model.data.ClearRow;
 import com.comp2042.model.data.DownData;
 import com.comp2042.model.data.MoveEvent;
 import com.comp2042.model.data.ViewData;
+import com.comp2042.model.replay.ReplayWriter;
+import com.comp2042.util.GameConstants;
 import com.comp2042.view.game.GuiController;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Main game controller connecting model and view.
+ * Game rules run in a {@link GameEngine}; this class forwards input to it and
+ * pushes the results to the GUI. Bricks come from a seeded generator, and when the
+ * {@value #REPLAY_DIR_PROPERTY} system property names a directory every event is
+ * recorded there as a replay, one file per game, closed when the game ends or the
+ * controller is disposed. The board size is fixed when the game is created,
+ * from the constructor or the {@value #BOARD_SIZE_PROPERTY} system property.
  */
 public class GameController implements InputEventListener {
 
-    private Board board;
+    /** System property naming the directory replays are written to */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replayDir";
+
+    /** System property giving the board size as {@code <rows>x<columns>}, e.g. {@code 100x40} */
+    public static final String BOARD_SIZE_PROPERTY = "tetris.boardSize";
+
+    private final Board board;
+    private final GameEngine engine;
+    private final long seed;
+    private ReplayWriter replayWriter;
     private final GuiController viewGuiController;
     private final GameMode gameMode;
 
     /**
-     * Creates a new game controller.
+     * Creates a new game controller with the board size from
+     * {@value #BOARD_SIZE_PROPERTY}, or the default size.
      * @param c GUI controller
      * @param gameMode game mode
      */
     public GameController(GuiController c, GameMode gameMode) {
+        this(c, gameMode, parseBoardSize(System.getProperty(BOARD_SIZE_PROPERTY)));
+    }
+
+    /**
+     * Creates a new game controller.
+     * @param c GUI controller
+     * @param gameMode game mode
+     * @param rows board rows, including the hidden spawn rows
+     * @param columns board columns
+     * @throws IllegalArgumentException if the size is outside the supported range
+     */
+    public GameController(GuiController c, GameMode gameMode, int rows, int columns) {
+        if (!isSupportedSize(rows, columns)) {
+            throw new IllegalArgumentException("Unsupported board size: " + rows + "x" + columns);
+        }
         this.gameMode = gameMode;
         this.viewGuiController = c;
-        this.board = new SimpleBoard(25, 10, gameMode);
+        this.seed = System.nanoTime();
+        this.board = new SimpleBoard(rows, columns, gameMode, new SeededBrickGenerator(seed));
+        this.engine = new GameEngine(board, gameMode, board.getScore());
 
-        board.createNewBrick();
+        engine.start();
+        openReplay();
+        viewGuiController.setEngine(engine);
         viewGuiController.setGameMode(gameMode);
         viewGuiController.setEventListener(this);
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
@@ -38,103 +84,216 @@ public class GameController implements InputEventListener {
         viewGuiController.bindHighScore(board.getScore().highScoreProperty());
     }
 
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        boolean boardCleared = false;
+    /**
+     * Creates a controller from a parsed {@code {rows, columns}} pair.
+     */
+    private GameController(GuiController c, GameMode gameMode, int[] size) {
+        this(c, gameMode, size[0], size[1]);
+    }
 
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
+    /**
+     * Parses a board size given as {@code <rows>x<columns>}. A missing, malformed or
+     * unsupported value falls back to the default size.
+     * @param value size text, or null
+     * @return {rows, columns}
+     */
+    static int[] parseBoardSize(String value) {
+        int[] size = {GameConstants.BOARD_ROWS, GameConstants.BOARD_COLUMNS};
+        if (value == null) {
+            return size;
+        }
+        String[] parts = value.trim().toLowerCase().split("x");
+        try {
+            if (parts.length == 2) {
+                int rows = Integer.parseInt(parts[0].trim());
+                int columns = Integer.parseInt(parts[1].trim());
+                if (isSupportedSize(rows, columns)) {
+                    size[0] = rows;
+                    size[1] = columns;
+                    return size;
+                }
             }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Ignoring unsupported board size: " + value);
+        return size;
+    }
 
-            boolean gameOver = board.createNewBrick();
+    /**
+     * Checks a board size against the limits in {@link GameConstants}.
+     * @param rows board rows
+     * @param columns board columns
+     * @return true if a game can be played on the board
+     */
+    static boolean isSupportedSize(int rows, int columns) {
+        return rows >= GameConstants.MIN_BOARD_ROWS
+                && columns >= GameConstants.MIN_BOARD_COLUMNS
+                && columns <= GameConstants.MAX_BOARD_COLUMNS;
+    }
 
-            if (board.wasBoardCleared()) {
-                boardCleared = true;
-                viewGuiController.refreshGameBackground(board.getBoardMatrix());
-            } else if (gameOver) {
-                viewGuiController.gameOver();
-            }
+    /**
+     * Starts recording a replay if a replay directory is configured.
+     */
+    private void openReplay() {
+        String directory = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (directory == null) {
+            return;
+        }
+        try {
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            Path file = dir.resolve("replay-" + System.currentTimeMillis() + ".trpl");
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            int[][] matrix = board.getBoardMatrix();
+            replayWriter = new ReplayWriter(channel, seed, gameMode,
+                    matrix.length, matrix[0].length, currentTimeMillis());
+        } catch (IOException e) {
+            System.err.println("Could not start replay recording: " + e.getMessage());
+        }
+    }
 
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    /**
+     * Records an event in the replay, if recording.
+     * @param event move event
+     */
+    private void record(MoveEvent event) {
+        if (replayWriter != null) {
+            replayWriter.record(event, currentTimeMillis());
+        }
+    }
 
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
+    /**
+     * Gets a monotonic timestamp for replay events.
+     * @return milliseconds
+     */
+    private static long currentTimeMillis() {
+        return System.nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * Gets the seed of the brick sequence.
+     * @return generator seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event);
+        ClearRow clearRow = engine.moveDown(event.getEventSource() == EventSource.USER);
+        boolean boardCleared = false;
+
+        if (clearRow != null) {
+            boardCleared = showLockResult();
         }
-        return new DownData(clearRow, board.getViewData(), boardCleared);
+        return new DownData(clearRow, engine.getViewData(), boardCleared);
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        record(event);
+        engine.moveLeft();
+        return engine.getViewData();
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        record(event);
+        engine.moveRight();
+        return engine.getViewData();
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        record(event);
+        engine.rotate(RotationDirection.fromEventType(event.getEventType()));
+        return engine.getViewData();
     }
 
-    @Override
-    public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    /**
+     * Finishes the replay, writing any buffered events and closing the file.
+     */
+    private void closeReplay() {
+        if (replayWriter == null) {
+            return;
+        }
+        try {
+            replayWriter.close();
+        } catch (IOException e) {
+            System.err.println("Error finishing replay: " + e.getMessage());
+        }
+        replayWriter = null;
     }
 
     @Override
-    public DownData onHardDropEvent(MoveEvent event) {
-        ClearRow clearRow = null;
-        int dropDistance = 0;
-        boolean boardCleared = false;
+    public void dispose() {
+        closeReplay();
+    }
 
-        while (board.moveBrickDown()) {
-            dropDistance++;
+    @Override
+    public void createNewGame() {
+        if (replayWriter != null) {
+            replayWriter.recordNewGame(currentTimeMillis());
+        } else {
+            openReplay();
         }
-
-        if (dropDistance > 0) {
-            board.getScore().add(dropDistance * 2);
+        boolean spawnBlocked = engine.newGame();
+        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        board.resetChangedRows();
+        if (spawnBlocked) {
+            closeReplay();
+            viewGuiController.gameOver();
         }
+    }
 
-        board.mergeBrickToBackground();
-        clearRow = board.clearRows();
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(event);
+        ClearRow clearRow = engine.hardDrop();
+        boolean boardCleared = showLockResult();
 
-        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-            board.getScore().add(clearRow.getScoreBonus());
-        }
+        return new DownData(clearRow, engine.getViewData(), boardCleared);
+    }
 
-        boolean gameOver = board.createNewBrick();
+    /**
+     * Updates the GUI after a brick locked and the next one spawned. Only the rows
+     * the lock, line clear or Zen board reset changed are repainted.
+     * @return true if the board was cleared (Zen mode)
+     */
+    private boolean showLockResult() {
+        boolean boardCleared = false;
 
-        if (board.wasBoardCleared()) {
+        if (engine.wasBoardCleared()) {
             boardCleared = true;
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        } else if (gameOver) {
+        } else if (engine.isGameOver()) {
+            closeReplay();
             viewGuiController.gameOver();
         }
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        // Hand buffered events to the writer thread once per locked brick
+        if (replayWriter != null) {
+            replayWriter.flush();
+        }
 
-        return new DownData(clearRow, board.getViewData(), boardCleared);
+        int top = board.getChangedRowsTop();
+        int bottom = board.getChangedRowsBottom();
+        if (top <= bottom) {
+            viewGuiController.refreshGameRows(board.getBoardMatrix(), top, bottom);
+        }
+        board.resetChangedRows();
+        return boardCleared;
     }
 
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        if (board.holdBrick()) {
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        }
-        return board.getViewData();
+        record(event);
+        // Hold only swaps the falling brick; the board cells stay as they are
+        engine.hold();
+        return engine.getViewData();
     }
 
     @Override
@@ -130,8 +130,9 @@ public class GameEventHandler {
         if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
             soundManager.playClearRow();
 
+            // The engine already counted the lines on the shared progression
             if (gameMode == GameMode.BLITZ && blitzModeManager != null) {
-                blitzModeManager.addLines(downData.getClearRow().getLinesRemoved());
+                blitzModeManager.refresh();
             }
 
             if (onNotification != null) {
@@ -154,6 +155,13 @@ public class GameEventHandler {
         eventListener.createNewGame();
     }
 
+    /**
+     * Releases the game session's resources.
+     */
+    public void dispose() {
+        eventListener.dispose();
+    }
+
     /**
      * Gets the current score.
      * @return current score
@@ -56,6 +56,14 @@ public interface InputEventListener {
      */
     void createNewGame();
 
+    /**
+     * Releases resources held by the game session, such as an open replay.
+     * Called when a game ends or is abandoned; a later {@link #createNewGame()}
+     * acquires them again. Does nothing by default.
+     */
+    default void dispose() {
+    }
+
     /**
      * Gets the current score.
      * @return current score value
@@ -153,11 +153,21 @@ public class InputHandler {
             return;
         }
 
-        if ((code == KeyCode.UP || code == KeyCode.W) && callback != null) {
+        if ((code == KeyCode.UP || code == KeyCode.W || code == KeyCode.X) && callback != null) {
+            callback.onRotate(new MoveEvent(EventType.ROTATE_CW, EventSource.USER));
+            pressedKeys.add(code);
+            keyEvent.consume();
+        }
+        else if (code == KeyCode.Z && callback != null) {
             callback.onRotate(new MoveEvent(EventType.ROTATE, EventSource.USER));
             pressedKeys.add(code);
             keyEvent.consume();
         }
+        else if (code == KeyCode.Q && callback != null) {
+            callback.onRotate(new MoveEvent(EventType.ROTATE_180, EventSource.USER));
+            pressedKeys.add(code);
+            keyEvent.consume();
+        }
         else if ((code == KeyCode.C || code == KeyCode.SHIFT) && callback != null) {
             callback.onHold(new MoveEvent(EventType.HOLD, EventSource.USER));
             pressedKeys.add(code);
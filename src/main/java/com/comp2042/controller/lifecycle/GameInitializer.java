@@ -8,6 +8,10 @@ import com.comp2042.controller.input.InputHandler;
 import com.comp2042.controller.mode.BlitzModeManager;
 import com.comp2042.controller.mode.ZenModeManager;
 import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RenderBackend;
+import com.comp2042.model.game.GameClock;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.mode.LevelProgression;
 import com.comp2042.util.SoundManager;
 import com.comp2042.util.TimerManager;
 import com.comp2042.view.rendering.GameRendererCoordinator;
@@ -21,6 +25,9 @@ import javafx.scene.layout.Pane;
  */
 public class GameInitializer {
 
+    /** System property choosing the board renderer: {@code nodes} (default) or {@code canvas} */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+
     private final GameMode gameMode;
     private final GameStateManager stateManager;
     private final InputHandler inputHandler;
@@ -33,6 +40,8 @@ public class GameInitializer {
     private GameLoopManager loopManager;
     private BlitzModeManager blitzModeManager;
     private ZenModeManager zenModeManager;
+    private LevelProgression levelProgression = new LevelProgression();
+    private GameClock gameClock = new GameClock();
 
     /**
      * Creates a new game initializer.
@@ -52,6 +61,17 @@ public class GameInitializer {
         this.soundManager = soundManager;
     }
 
+    /**
+     * Shows the engine's level progression and advances its clock, so the
+     * display and the engine share one level and one game time.
+     * Must be called before the mode and timer are initialized.
+     * @param engine game engine
+     */
+    public void setEngine(GameEngine engine) {
+        this.levelProgression = engine.getLevel();
+        this.gameClock = engine.getClock();
+    }
+
     /**
      * Initializes game mode specific components.
      * @param blitzLevelLabel label for Blitz level
@@ -62,7 +82,7 @@ public class GameInitializer {
         uiManager.setupGameMode(gameMode);
 
         if (gameMode == GameMode.BLITZ) {
-            blitzModeManager = new BlitzModeManager(blitzLevelLabel, blitzProgressLabel);
+            blitzModeManager = new BlitzModeManager(blitzLevelLabel, blitzProgressLabel, levelProgression);
         } else if (gameMode == GameMode.ZEN) {
             zenModeManager = new ZenModeManager(timerLabel);
         }
@@ -83,17 +103,35 @@ public class GameInitializer {
                                     Pane parentPane, int[][] boardMatrix,
                                     com.comp2042.model.data.ViewData brick) {
         rendererCoordinator = new GameRendererCoordinator(gamePanel, brickPanel,
-                nextBrickPanel, holdBrickPanel);
+                nextBrickPanel, holdBrickPanel, parseRenderBackend(System.getProperty(RENDERER_PROPERTY)));
         rendererCoordinator.initialize(boardMatrix, brick, parentPane);
     }
 
+    /**
+     * Parses a renderer name. A missing or unknown value falls back to nodes.
+     * @param value renderer name, or null
+     * @return render backend
+     */
+    static RenderBackend parseRenderBackend(String value) {
+        if (value == null) {
+            return RenderBackend.NODES;
+        }
+        for (RenderBackend backend : RenderBackend.values()) {
+            if (backend.name().equalsIgnoreCase(value.trim())) {
+                return backend;
+            }
+        }
+        System.err.println("Ignoring unknown renderer: " + value);
+        return RenderBackend.NODES;
+    }
+
     /**
      * Initializes timer system.
      * @param timerLabel timer label
      * @param onBlitzTimeUp callback when Blitz time expires
      */
     public void initializeTimer(Label timerLabel, Runnable onBlitzTimeUp) {
-        timerManager = new TimerManager(gameMode, timerLabel);
+        timerManager = new TimerManager(gameMode, timerLabel, gameClock);
         timerManager.setOnBlitzTimeUp(onBlitzTimeUp);
         timerManager.start();
     }
@@ -127,6 +127,17 @@ public class GameLifecycleManager {
         stateManager.setPaused(false);
         rendererCoordinator.setVisible(false);
         inputHandler.reset();
+        eventHandler.dispose();
+    }
+
+    /**
+     * Releases the game session's resources when leaving the game screen or
+     * closing the window.
+     */
+    public void dispose() {
+        if (eventHandler != null) {
+            eventHandler.dispose();
+        }
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.comp2042.controller.mode;
 
 import com.comp2042.model.mode.BlitzLevel;
+import com.comp2042.model.mode.LevelProgression;
 import javafx.scene.control.Label;
 
 /**
@@ -19,7 +20,17 @@ public class BlitzModeManager {
      * @param progressLabel label to display line progress
      */
     public BlitzModeManager(Label levelLabel, Label progressLabel) {
-        this.blitzLevel = new BlitzLevel();
+        this(levelLabel, progressLabel, new LevelProgression());
+    }
+
+    /**
+     * Creates a Blitz mode manager that shows the given level progression.
+     * @param levelLabel label to display current level
+     * @param progressLabel label to display line progress
+     * @param progression level progression, usually the engine's
+     */
+    public BlitzModeManager(Label levelLabel, Label progressLabel, LevelProgression progression) {
+        this.blitzLevel = new BlitzLevel(progression);
         this.levelLabel = levelLabel;
         this.progressLabel = progressLabel;
         setupListeners();
@@ -43,7 +54,7 @@ public class BlitzModeManager {
 
         updateProgressLabel();
         if (levelLabel != null) {
-            levelLabel.setText("LEVEL 1");
+            levelLabel.setText("LEVEL " + blitzLevel.getLevel());
         }
     }
 
@@ -64,6 +75,13 @@ public class BlitzModeManager {
         blitzLevel.addLines(lines);
     }
 
+    /**
+     * Shows lines the engine already counted on the shared progression.
+     */
+    public void refresh() {
+        blitzLevel.refresh();
+    }
+
     /**
      * Gets the current drop speed for this level.
      * @return drop speed in milliseconds
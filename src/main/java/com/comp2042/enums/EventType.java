@@ -11,10 +11,14 @@ public enum EventType {
     LEFT,
     /** Move brick right */
     RIGHT,
-    /** Rotate brick */
+    /** Rotate brick counter-clockwise */
     ROTATE,
     /** Instantly drop brick to bottom */
     HARD_DROP,
     /** Hold current brick and swap with held brick */
-    HOLD
+    HOLD,
+    /** Rotate brick clockwise */
+    ROTATE_CW,
+    /** Rotate brick by half a turn */
+    ROTATE_180
 }
@@ -0,0 +1,11 @@
+package com.comp2042.enums;
+
+/**
+ * Defines how the game board is drawn.
+ */
+public enum RenderBackend {
+    /** One Rectangle node per cell, laid out in GridPanes */
+    NODES,
+    /** Board, brick, shadow and previews painted onto canvases from cached cell images */
+    CANVAS
+}
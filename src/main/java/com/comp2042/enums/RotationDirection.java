@@ -0,0 +1,56 @@
+package com.comp2042.enums;
+
+/**
+ * Defines the directions a brick can be rotated in.
+ * Each direction has its own wall kick offsets.
+ */
+public enum RotationDirection {
+    /** Quarter turn clockwise */
+    CLOCKWISE(1, EventType.ROTATE_CW),
+    /** Quarter turn counter-clockwise */
+    COUNTER_CLOCKWISE(3, EventType.ROTATE),
+    /** Half turn */
+    HALF_TURN(2, EventType.ROTATE_180);
+
+    private final int quarterTurns;
+    private final EventType eventType;
+
+    RotationDirection(int quarterTurns, EventType eventType) {
+        this.quarterTurns = quarterTurns;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets the clockwise quarter turns this direction adds to an orientation.
+     * @return quarter turns (1-3)
+     */
+    public int getQuarterTurns() {
+        return quarterTurns;
+    }
+
+    /**
+     * Gets the input event that requests this rotation.
+     * @return event type
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Gets the rotation requested by an input event.
+     * @param eventType event type
+     * @return rotation direction, or null if the event is not a rotation
+     */
+    public static RotationDirection fromEventType(EventType eventType) {
+        switch (eventType) {
+            case ROTATE:
+                return COUNTER_CLOCKWISE;
+            case ROTATE_CW:
+                return CLOCKWISE;
+            case ROTATE_180:
+                return HALF_TURN;
+            default:
+                return null;
+        }
+    }
+}
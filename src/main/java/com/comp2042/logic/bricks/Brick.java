@@ -14,4 +14,28 @@ public interface Brick {
      * @return list of 2D arrays, each representing a rotation state
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the piece id of this brick type.
+     * The id doubles as the color value of the brick's cells.
+     *
+     * @return piece id (1-7)
+     */
+    int getPieceId();
+
+    /**
+     * Gets the precomputed shape of one rotation state.
+     * The returned instance is shared and immutable, so no copy is made.
+     *
+     * @param rotation rotation index
+     * @return shape for the rotation
+     */
+    PieceShape getPiece(int rotation);
+
+    /**
+     * Gets the number of rotation states.
+     *
+     * @return rotation count
+     */
+    int getRotationCount();
 }
\ No newline at end of file
@@ -1,38 +1,63 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.util.MatrixOperations;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * I-shaped Tetris brick (straight line piece).
- * Has 2 rotation states (horizontal and vertical).
+ * Has 4 rotation states in a 4x4 box, laid out as in SRS.
  */
 public final class IBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    /**
-     * Constructs I-brick with horizontal and vertical orientations.
-     * Uses color value 1 (cyan).
-     */
-    public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
-    }
+    /** Piece id, also used as the color value (cyan) */
+    static final int PIECE_ID = 1;
+
+    /** Rotation states in SRS order (spawn, R, 2, L), shared by all instances */
+    static final int[][][] SHAPES = {
+            {
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            {
+                    {0, 0, 1, 0},
+                    {0, 0, 1, 0},
+                    {0, 0, 1, 0},
+                    {0, 0, 1, 0}
+            },
+            {
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0}
+            },
+            {
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    };
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(Arrays.asList(SHAPES));
+    }
+
+    @Override
+    public int getPieceId() {
+        return PIECE_ID;
+    }
+
+    @Override
+    public PieceShape getPiece(int rotation) {
+        return PieceTable.get(PIECE_ID, rotation);
+    }
+
+    @Override
+    public int getRotationCount() {
+        return SHAPES.length;
     }
-}
\ No newline at end of file
+}
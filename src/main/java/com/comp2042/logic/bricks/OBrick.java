@@ -1,7 +1,7 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.util.MatrixOperations;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -10,22 +10,35 @@ import java.util.List;
  */
 public final class OBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    /**
-     * Constructs O-brick with single rotation state.
-     */
-    public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 4, 4, 0},
-                {0, 4, 4, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    /** Piece id, also used as the color value (yellow) */
+    static final int PIECE_ID = 4;
+
+    /** Rotation states, shared by all instances */
+    static final int[][][] SHAPES = {
+            {
+                    {0, 4, 4},
+                    {0, 4, 4},
+                    {0, 0, 0}
+            }
+    };
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(Arrays.asList(SHAPES));
+    }
+
+    @Override
+    public int getPieceId() {
+        return PIECE_ID;
+    }
+
+    @Override
+    public PieceShape getPiece(int rotation) {
+        return PieceTable.get(PIECE_ID, rotation);
+    }
+
+    @Override
+    public int getRotationCount() {
+        return SHAPES.length;
     }
-}
\ No newline at end of file
+}
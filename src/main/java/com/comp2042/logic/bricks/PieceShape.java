@@ -0,0 +1,225 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed description of one brick rotation state.
+ * Holds the cell values, the filled cell coordinates, one column bitmask per row,
+ * the lowest filled row of each column and the bounding box of filled cells. Instances are shared, so callers can read
+ * them on every input without copying.
+ */
+public final class PieceShape {
+
+    private final int[][] cells;
+    private final int rows;
+    private final int columns;
+    private final int colorId;
+    private final long[] rowMasks;
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private final int[] columnBottoms;
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+
+    /**
+     * Creates a shape from a rectangular matrix.
+     * The matrix is copied, so later changes to it do not affect the shape.
+     *
+     * @param matrix shape matrix indexed [row][column], zero for empty cells
+     * @throws IllegalArgumentException if the shape is wider than 64 columns
+     */
+    public PieceShape(int[][] matrix) {
+        this.rows = matrix.length;
+        this.columns = rows > 0 ? matrix[0].length : 0;
+        if (columns > Long.SIZE) {
+            throw new IllegalArgumentException("Shape is wider than " + Long.SIZE + " columns");
+        }
+        this.cells = new int[rows][];
+        this.rowMasks = new long[rows];
+        this.columnBottoms = new int[columns];
+        Arrays.fill(columnBottoms, -1);
+
+        int count = 0;
+        int color = 0;
+        int top = -1;
+        int bottom = -1;
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        for (int r = 0; r < rows; r++) {
+            cells[r] = matrix[r].clone();
+            for (int c = 0; c < cells[r].length; c++) {
+                if (cells[r][c] != 0) {
+                    rowMasks[r] |= 1L << c;
+                    columnBottoms[c] = r;
+                    if (color == 0) {
+                        color = cells[r][c];
+                    }
+                    if (top < 0) {
+                        top = r;
+                    }
+                    bottom = r;
+                    left = Math.min(left, c);
+                    right = Math.max(right, c);
+                    count++;
+                }
+            }
+        }
+
+        this.colorId = color;
+        this.minRow = top;
+        this.maxRow = bottom;
+        this.minColumn = count > 0 ? left : -1;
+        this.maxColumn = right;
+        this.cellRows = new int[count];
+        this.cellColumns = new int[count];
+
+        int index = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cells[r].length; c++) {
+                if (cells[r][c] != 0) {
+                    cellRows[index] = r;
+                    cellColumns[index] = c;
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix.
+     *
+     * @return matrix row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns in the shape matrix.
+     *
+     * @return matrix column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the value of a single cell.
+     *
+     * @param row row index
+     * @param column column index
+     * @return cell value, zero if empty
+     */
+    public int getCell(int row, int column) {
+        return cells[row][column];
+    }
+
+    /**
+     * Gets the color id of the filled cells.
+     *
+     * @return color id, or 0 for an empty shape
+     */
+    public int getColorId() {
+        return colorId;
+    }
+
+    /**
+     * Gets the filled columns of a row as a bitmask.
+     *
+     * @param row row index
+     * @return bitmask with bit n set when column n is filled
+     */
+    public long getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return filled cell count
+     */
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    /**
+     * Gets the row of the i-th filled cell (row-major order).
+     *
+     * @param index filled cell index
+     * @return row index within the matrix
+     */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Gets the column of the i-th filled cell (row-major order).
+     *
+     * @param index filled cell index
+     * @return column index within the matrix
+     */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     * Gets the lowest filled row of a column.
+     *
+     * @param column column index
+     * @return bottom row of the column, or -1 if the column is empty
+     */
+    public int getColumnBottom(int column) {
+        return columnBottoms[column];
+    }
+
+    /**
+     * Gets the first row containing a filled cell.
+     *
+     * @return top row of the bounding box, or -1 if empty
+     */
+    public int getMinRow() {
+        return minRow;
+    }
+
+    /**
+     * Gets the last row containing a filled cell.
+     *
+     * @return bottom row of the bounding box, or -1 if empty
+     */
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    /**
+     * Gets the first column containing a filled cell.
+     *
+     * @return left column of the bounding box, or -1 if empty
+     */
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    /**
+     * Gets the last column containing a filled cell.
+     *
+     * @return right column of the bounding box, or -1 if empty
+     */
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     * Creates a mutable copy of the shape matrix.
+     *
+     * @return new matrix with the shape's cell values
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            copy[r] = cells[r].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Shared, read-only table of every brick rotation state.
+ * Built once when the class is loaded from the shape definitions of each brick type,
+ * indexed by piece id (which is also the brick's color value) and rotation.
+ */
+public final class PieceTable {
+
+    /** Number of distinct brick types */
+    public static final int PIECE_COUNT = 7;
+
+    private static final PieceShape[][] PIECES = new PieceShape[PIECE_COUNT + 1][];
+
+    static {
+        PIECES[0] = new PieceShape[0];
+        register(IBrick.PIECE_ID, IBrick.SHAPES);
+        register(JBrick.PIECE_ID, JBrick.SHAPES);
+        register(LBrick.PIECE_ID, LBrick.SHAPES);
+        register(OBrick.PIECE_ID, OBrick.SHAPES);
+        register(SBrick.PIECE_ID, SBrick.SHAPES);
+        register(TBrick.PIECE_ID, TBrick.SHAPES);
+        register(ZBrick.PIECE_ID, ZBrick.SHAPES);
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private PieceTable() {
+    }
+
+    /**
+     * Builds the shapes for one brick type.
+     *
+     * @param pieceId piece id
+     * @param shapes rotation matrices
+     */
+    private static void register(int pieceId, int[][][] shapes) {
+        PieceShape[] rotations = new PieceShape[shapes.length];
+        for (int i = 0; i < shapes.length; i++) {
+            rotations[i] = new PieceShape(shapes[i]);
+        }
+        PIECES[pieceId] = rotations;
+    }
+
+    /**
+     * Gets the shape of a brick rotation.
+     *
+     * @param pieceId piece id (1-7)
+     * @param rotation rotation index
+     * @return shared shape instance
+     * @throws IndexOutOfBoundsException if the piece id or rotation is invalid
+     */
+    public static PieceShape get(int pieceId, int rotation) {
+        return PIECES[pieceId][rotation];
+    }
+
+    /**
+     * Gets the number of rotation states of a brick type.
+     *
+     * @param pieceId piece id (1-7)
+     * @return rotation count
+     */
+    public static int getRotationCount(int pieceId) {
+        return PIECES[pieceId].length;
+    }
+}
@@ -1,37 +1,59 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.util.MatrixOperations;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * S-shaped Tetris brick.
- * Has 2 rotation states. Uses color value 5 (red).
+ * Has 4 rotation states in a 3x3 box, laid out as in SRS. Uses color value 5 (red).
  */
 public final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    /**
-     * Constructs S-brick with 2 rotation states.
-     */
-    public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-    }
+    /** Piece id, also used as the color value (red) */
+    static final int PIECE_ID = 5;
+
+    /** Rotation states in SRS order (spawn, R, 2, L), shared by all instances */
+    static final int[][][] SHAPES = {
+            {
+                    {0, 5, 5},
+                    {5, 5, 0},
+                    {0, 0, 0}
+            },
+            {
+                    {0, 5, 0},
+                    {0, 5, 5},
+                    {0, 0, 5}
+            },
+            {
+                    {0, 0, 0},
+                    {0, 5, 5},
+                    {5, 5, 0}
+            },
+            {
+                    {5, 0, 0},
+                    {5, 5, 0},
+                    {0, 5, 0}
+            }
+    };
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return MatrixOperations.deepCopyList(Arrays.asList(SHAPES));
+    }
+
+    @Override
+    public int getPieceId() {
+        return PIECE_ID;
+    }
+
+    @Override
+    public PieceShape getPiece(int rotation) {
+        return PieceTable.get(PIECE_ID, rotation);
+    }
+
+    @Override
+    public int getRotationCount() {
+        return SHAPES.length;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Reproducible 7-bag brick generator.
+ * Each bag is shuffled with values from a SplitMix64 stream, which is counter
+ * based: the n-th value is a pure function of the seed and n. Any bag can
+ * therefore be rebuilt on its own, so the brick at sequence index N is available
+ * without generating the ones before it, and workers can share one seed space.
+ */
+public class SeededBrickGenerator implements SeekableBrickGenerator {
+
+    /** SplitMix64 increment (the 64-bit golden ratio) */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final int BAG_SIZE = PieceTable.PIECE_COUNT;
+
+    private static final Brick[] BRICKS = {
+            null,
+            new IBrick(),
+            new JBrick(),
+            new LBrick(),
+            new OBrick(),
+            new SBrick(),
+            new TBrick(),
+            new ZBrick()
+    };
+
+    private final long seed;
+    private final int[] bag = new int[BAG_SIZE];
+    private long bagIndex = -1;
+    private long position;
+
+    /**
+     * Constructs a generator for the given seed, starting at index 0.
+     *
+     * @param seed sequence seed
+     */
+    public SeededBrickGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Derives an independent seed, e.g. one per simulated game or worker.
+     *
+     * @param seed parent seed
+     * @param stream stream number
+     * @return derived seed
+     */
+    public static long deriveSeed(long seed, long stream) {
+        return mix(mix(seed + GOLDEN_GAMMA) ^ (stream * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Gets the piece id at a sequence index without moving the generator.
+     *
+     * @param seed sequence seed
+     * @param index sequence index, zero based
+     * @return piece id (1-7)
+     */
+    public static int pieceIdAt(long seed, long index) {
+        int[] ids = new int[BAG_SIZE];
+        shuffleBag(seed, Math.floorDiv(index, BAG_SIZE), ids);
+        return ids[Math.floorMod(index, BAG_SIZE)];
+    }
+
+    @Override
+    public Brick getBrick() {
+        return brickAt(position++);
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brickAt(position);
+    }
+
+    /**
+     * Restarts the sequence from index 0 with the same seed.
+     */
+    @Override
+    public void reset() {
+        position = 0;
+    }
+
+    /**
+     * Gets the brick at a sequence index without moving the generator.
+     *
+     * @param index sequence index, zero based
+     * @return brick at that index
+     */
+    public Brick brickAt(long index) {
+        long wanted = Math.floorDiv(index, BAG_SIZE);
+        if (wanted != bagIndex) {
+            shuffleBag(seed, wanted, bag);
+            bagIndex = wanted;
+        }
+        return BRICKS[bag[Math.floorMod(index, BAG_SIZE)]];
+    }
+
+    /**
+     * Gets the seed.
+     *
+     * @return sequence seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the index of the brick the next {@link #getBrick()} call returns.
+     *
+     * @return sequence position
+     */
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Jumps to a sequence index.
+     *
+     * @param position index of the next brick to return
+     * @throws IllegalArgumentException if position is negative
+     */
+    @Override
+    public void setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position cannot be negative: " + position);
+        }
+        this.position = position;
+    }
+
+    /**
+     * Builds one bag with a Fisher-Yates shuffle of the seven piece ids.
+     *
+     * @param seed sequence seed
+     * @param bagNumber bag index
+     * @param ids receives the shuffled piece ids
+     */
+    private static void shuffleBag(long seed, long bagNumber, int[] ids) {
+        for (int i = 0; i < BAG_SIZE; i++) {
+            ids[i] = i + 1;
+        }
+        long counter = bagNumber * BAG_SIZE;
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            long random = mix(seed + (++counter) * GOLDEN_GAMMA);
+            int j = (int) (((random >>> 32) * (i + 1)) >>> 32);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+    }
+
+    /**
+     * SplitMix64 output function.
+     *
+     * @param z counter value
+     * @return mixed 64-bit value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Brick generator that can report and jump to a position in its sequence,
+ * so a board snapshot can bring the upcoming bricks back with it.
+ */
+public interface SeekableBrickGenerator extends BrickGenerator {
+
+    /**
+     * Gets the index of the brick the next {@link #getBrick()} call returns.
+     *
+     * @return sequence position
+     */
+    long getPosition();
+
+    /**
+     * Jumps to a sequence index.
+     *
+     * @param position index of the next brick to return
+     * @throws IllegalArgumentException if position is negative
+     */
+    void setPosition(long position);
+}
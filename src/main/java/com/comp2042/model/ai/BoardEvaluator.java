@@ -0,0 +1,152 @@
+package com.comp2042.model.ai;
+
+/**
+ * Scores a board for the heuristic player. Higher is better.
+ * The score is a weighted sum of aggregate column height, holes (empty cells with
+ * a filled cell above), bumpiness (height steps between neighbours), well depth
+ * (columns lower than both neighbours, walls counting as full) and lines cleared.
+ * Boards are given as one occupancy bitmask per row, as used by
+ * {@link com.comp2042.model.game.PlacementEnumerator}. Instances are immutable and
+ * can be shared between search threads.
+ */
+public class BoardEvaluator {
+
+    /** Default weight per cell of aggregate column height */
+    public static final double DEFAULT_HEIGHT_WEIGHT = -0.51;
+
+    /** Default weight per cleared line */
+    public static final double DEFAULT_LINES_WEIGHT = 0.76;
+
+    /** Default weight per hole */
+    public static final double DEFAULT_HOLES_WEIGHT = -0.36;
+
+    /** Default weight per cell of bumpiness */
+    public static final double DEFAULT_BUMPINESS_WEIGHT = -0.18;
+
+    /** Default weight per cell of well depth */
+    public static final double DEFAULT_WELLS_WEIGHT = -0.12;
+
+    private final double heightWeight;
+    private final double linesWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+    private final double wellsWeight;
+
+    /**
+     * Creates an evaluator with the default weights.
+     */
+    public BoardEvaluator() {
+        this(DEFAULT_HEIGHT_WEIGHT, DEFAULT_LINES_WEIGHT, DEFAULT_HOLES_WEIGHT,
+                DEFAULT_BUMPINESS_WEIGHT, DEFAULT_WELLS_WEIGHT);
+    }
+
+    /**
+     * Creates an evaluator with custom weights, e.g. for tuning runs.
+     * @param heightWeight weight per cell of aggregate height
+     * @param linesWeight weight per cleared line
+     * @param holesWeight weight per hole
+     * @param bumpinessWeight weight per cell of bumpiness
+     * @param wellsWeight weight per cell of well depth
+     */
+    public BoardEvaluator(double heightWeight, double linesWeight, double holesWeight,
+                          double bumpinessWeight, double wellsWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellsWeight = wellsWeight;
+    }
+
+    /**
+     * Scores a board.
+     * @param rowMasks row bitmasks, top row first
+     * @param columns board columns
+     * @param linesCleared lines cleared on the way to this board
+     * @return board score
+     */
+    public double evaluate(long[] rowMasks, int columns, int linesCleared) {
+        return evaluateBoard(rowMasks, columns) + scoreLines(linesCleared);
+    }
+
+    /**
+     * Scores the shape of a board alone. This part depends only on the filled
+     * cells, so it can be cached by board hash.
+     * @param rowMasks row bitmasks, top row first
+     * @param columns board columns
+     * @return board shape score
+     */
+    public double evaluateBoard(long[] rowMasks, int columns) {
+        return evaluateBoard(rowMasks, columns, new int[columns]);
+    }
+
+    /**
+     * Scores the shape of a board using a caller-owned buffer for the column
+     * heights, so searches can reuse one buffer per thread.
+     * @param rowMasks row bitmasks, top row first
+     * @param columns board columns
+     * @param heights scratch buffer of at least {@code columns} entries
+     * @return board shape score
+     */
+    public double evaluateBoard(long[] rowMasks, int columns, int[] heights) {
+        int holes = columnHeights(rowMasks, columns, heights);
+
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int c = 0; c < columns; c++) {
+            aggregateHeight += heights[c];
+            if (c > 0) {
+                bumpiness += Math.abs(heights[c] - heights[c - 1]);
+            }
+            int left = c > 0 ? heights[c - 1] : Integer.MAX_VALUE;
+            int right = c < columns - 1 ? heights[c + 1] : Integer.MAX_VALUE;
+            int depth = Math.min(left, right) - heights[c];
+            if (depth > 0 && columns > 1) {
+                wells += depth;
+            }
+        }
+
+        return heightWeight * aggregateHeight
+                + holesWeight * holes
+                + bumpinessWeight * bumpiness
+                + wellsWeight * wells;
+    }
+
+    /**
+     * Scores the lines cleared on the way to a board.
+     * @param linesCleared lines cleared
+     * @return line clear score
+     */
+    public double scoreLines(int linesCleared) {
+        return linesWeight * linesCleared;
+    }
+
+    /**
+     * Computes column heights and counts holes in one top-down pass.
+     * @param rowMasks row bitmasks, top row first
+     * @param columns board columns
+     * @param heights receives the height of each column, 0 if empty
+     * @return number of holes
+     */
+    public static int columnHeights(long[] rowMasks, int columns, int[] heights) {
+        int rows = rowMasks.length;
+        long covered = 0L;
+        int holes = 0;
+        for (int r = 0; r < rows; r++) {
+            long row = rowMasks[r];
+            holes += Long.bitCount(covered & ~row);
+            long newTops = row & ~covered;
+            while (newTops != 0) {
+                heights[Long.numberOfTrailingZeros(newTops)] = rows - r;
+                newTops &= newTops - 1;
+            }
+            covered |= row;
+        }
+        for (int c = 0; c < columns; c++) {
+            if ((covered & (1L << c)) == 0) {
+                heights[c] = 0;
+            }
+        }
+        return holes;
+    }
+}
@@ -0,0 +1,334 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.game.Board;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.PlacementEnumerator;
+import com.comp2042.model.game.ZobristKeys;
+import com.comp2042.model.simulation.MovePolicy;
+import com.comp2042.util.GameConstants;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bot that plays by searching placements for the current brick and the preview
+ * brick, scoring the resulting boards with a {@link BoardEvaluator}.
+ * Each placement of the current brick is one branch; branches are scored in
+ * parallel as fork/join tasks, so idle workers steal the remaining ones. When the
+ * player is called from a fork/join worker (e.g. inside a simulation batch) the
+ * branches run in that worker's pool, otherwise in the pool given at construction.
+ * Board shape scores are cached in a {@link TranspositionTable} keyed by the
+ * Zobrist hash of the filled cells, which is updated with a few XORs per placement,
+ * so boards reached through different placement orders are scored once.
+ * <p>
+ * One instance plays one game at a time; branch workers keep their own search
+ * buffers, so the shared state is read-only.
+ */
+public class HeuristicPlayer implements MovePolicy {
+
+    /** Branches per task below which a task stops splitting */
+    private static final int BRANCHES_PER_TASK = 2;
+
+    /** Default transposition table size in entries */
+    private static final int DEFAULT_TABLE_SIZE = 1 << 14;
+
+    private final BoardEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ThreadLocal<Workspace> workspaces = new ThreadLocal<>();
+    private PlacementEnumerator rootEnumerator;
+    private long[] rootRows;
+    private long[] cellKeys;
+    private long rootHash;
+    private int rootColumns;
+
+    /**
+     * Creates a player with the default weights on the common pool.
+     */
+    public HeuristicPlayer() {
+        this(new BoardEvaluator(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a player with its own transposition table.
+     * @param evaluator board scoring
+     * @param pool pool for branch tasks when not already on a fork/join worker
+     */
+    public HeuristicPlayer(BoardEvaluator evaluator, ForkJoinPool pool) {
+        this(evaluator, pool, new TranspositionTable(DEFAULT_TABLE_SIZE));
+    }
+
+    /**
+     * Creates a player.
+     * @param evaluator board scoring
+     * @param pool pool for branch tasks when not already on a fork/join worker
+     * @param table cache of board scores; may be shared by players using the same evaluator
+     */
+    public HeuristicPlayer(BoardEvaluator evaluator, ForkJoinPool pool, TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Moves the current brick to the best placement and hard drops it.
+     * @param engine game being played
+     */
+    @Override
+    public void act(GameEngine engine) {
+        Placement placement = decide(engine.getBoard());
+        if (placement == null) {
+            engine.hardDrop();
+            return;
+        }
+
+        List<EventType> path = placement.getPath();
+        int end = path.size();
+        while (end > 0 && path.get(end - 1) == EventType.DOWN) {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            switch (path.get(i)) {
+                case LEFT:
+                    engine.moveLeft();
+                    break;
+                case RIGHT:
+                    engine.moveRight();
+                    break;
+                case ROTATE:
+                case ROTATE_CW:
+                case ROTATE_180:
+                    engine.rotate(RotationDirection.fromEventType(path.get(i)));
+                    break;
+                case DOWN:
+                    engine.moveDown(true);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected move " + path.get(i));
+            }
+        }
+        engine.hardDrop();
+    }
+
+    /**
+     * Picks the best placement for the board's current brick, looking one brick
+     * ahead when a preview is available.
+     * @param board board to play on
+     * @return best placement, or null if the brick has nowhere to go
+     */
+    public Placement decide(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        if (rootEnumerator == null || rootRows.length != rows || rootColumns != columns) {
+            rootEnumerator = new PlacementEnumerator(rows, columns);
+            rootRows = new long[rows];
+            cellKeys = ZobristKeys.cellTable(rows, columns);
+            rootColumns = columns;
+        }
+
+        PieceShape current = board.getCurrentPiece();
+        PieceShape next = board.getNextPiece();
+        int pieceId = current.getColorId();
+        int count = rootEnumerator.enumerate(matrix, pieceId, PlacementEnumerator.rotationOf(current),
+                board.getCurrentX(), board.getCurrentY());
+        if (count == 0) {
+            return null;
+        }
+        PlacementEnumerator.toRowMasks(matrix, rootRows);
+        rootHash = ZobristKeys.hashRows(rootRows, cellKeys, columns);
+        table.nextAge();
+
+        double[] scores = new double[count];
+        BranchTask task = new BranchTask(scores, pieceId, next == null ? 0 : next.getColorId(), columns, 0, count);
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return new Placement(rootEnumerator.getPlacementRotation(best),
+                rootEnumerator.getPlacementX(best),
+                rootEnumerator.getPlacementY(best),
+                rootEnumerator.getPlacementPath(best),
+                scores[best]);
+    }
+
+    /**
+     * Scores one placement of the current brick: the board after it, or the best
+     * board after it and one placement of the preview brick.
+     * @return branch score
+     */
+    private double scoreBranch(int index, int pieceId, int nextPieceId, int columns) {
+        Workspace workspace = workspace(rootRows.length, columns);
+        long[] afterFirst = workspace.afterFirst;
+        System.arraycopy(rootRows, 0, afterFirst, 0, afterFirst.length);
+        PieceShape piece = PieceTable.get(pieceId, rootEnumerator.getPlacementRotation(index));
+        int x = rootEnumerator.getPlacementX(index);
+        int y = rootEnumerator.getPlacementY(index);
+        int lines = place(afterFirst, piece, x, y, columns);
+        long firstHash = lines == 0
+                ? rootHash ^ hashCells(piece, x, y, columns)
+                : ZobristKeys.hashRows(afterFirst, cellKeys, columns);
+        if (nextPieceId == 0) {
+            return boardScore(afterFirst, firstHash, columns, workspace.heights) + evaluator.scoreLines(lines);
+        }
+
+        PlacementEnumerator enumerator = workspace.enumerator;
+        int count = enumerator.enumerate(afterFirst, nextPieceId, 0,
+                GameConstants.spawnX(columns), GameConstants.SPAWN_Y);
+        if (count == 0) {
+            // Preview brick could not spawn: this branch tops out
+            return Double.NEGATIVE_INFINITY;
+        }
+        long[] afterSecond = workspace.afterSecond;
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(afterFirst, 0, afterSecond, 0, afterSecond.length);
+            PieceShape nextPiece = enumerator.getPlacementPiece(i);
+            int nextX = enumerator.getPlacementX(i);
+            int nextY = enumerator.getPlacementY(i);
+            int moreLines = place(afterSecond, nextPiece, nextX, nextY, columns);
+            long secondHash = moreLines == 0
+                    ? firstHash ^ hashCells(nextPiece, nextX, nextY, columns)
+                    : ZobristKeys.hashRows(afterSecond, cellKeys, columns);
+            best = Math.max(best, boardScore(afterSecond, secondHash, columns, workspace.heights)
+                    + evaluator.scoreLines(lines + moreLines));
+        }
+        return best;
+    }
+
+    /**
+     * Gets the shape score of a board from the table, evaluating and storing it
+     * on a miss. Scores are rounded to float either way, so a decision does not
+     * depend on which boards happened to be cached.
+     * @return board shape score
+     */
+    private double boardScore(long[] rowMasks, long hash, int columns, int[] heights) {
+        long entry = table.probe(hash);
+        if (entry != TranspositionTable.NOT_FOUND) {
+            return TranspositionTable.getScore(entry);
+        }
+        float score = (float) evaluator.evaluateBoard(rowMasks, columns, heights);
+        table.store(hash, score, 0, 0);
+        return score;
+    }
+
+    /**
+     * Gets the hash contribution of a brick's cells at a position.
+     * @return XOR of the cell keys
+     */
+    private long hashCells(PieceShape piece, int x, int y, int columns) {
+        long hash = 0L;
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            hash ^= cellKeys[(y + piece.getCellRow(i)) * columns + x + piece.getCellColumn(i)];
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the calling thread's search buffers for a board size.
+     */
+    private Workspace workspace(int rows, int columns) {
+        Workspace workspace = workspaces.get();
+        if (workspace == null || workspace.afterFirst.length != rows || workspace.columns != columns) {
+            workspace = new Workspace(rows, columns);
+            workspaces.set(workspace);
+        }
+        return workspace;
+    }
+
+    /**
+     * Merges a brick into row bitmasks and removes full rows.
+     * @param rowMasks row bitmasks, updated in place
+     * @param piece brick shape
+     * @param x x position
+     * @param y y position
+     * @param columns board columns
+     * @return number of rows cleared
+     */
+    static int place(long[] rowMasks, PieceShape piece, int x, int y, int columns) {
+        for (int r = piece.getMinRow(); r <= piece.getMaxRow(); r++) {
+            long mask = piece.getRowMask(r);
+            rowMasks[y + r] |= x >= 0 ? mask << x : mask >>> -x;
+        }
+        long full = columns == Long.SIZE ? -1L : (1L << columns) - 1;
+        int write = rowMasks.length - 1;
+        for (int read = rowMasks.length - 1; read >= 0; read--) {
+            if (rowMasks[read] != full) {
+                rowMasks[write--] = rowMasks[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int r = 0; r < cleared; r++) {
+            rowMasks[r] = 0L;
+        }
+        return cleared;
+    }
+
+    /**
+     * Per-thread buffers for scoring branches.
+     */
+    private static final class Workspace {
+        private final int columns;
+        private final PlacementEnumerator enumerator;
+        private final long[] afterFirst;
+        private final long[] afterSecond;
+        private final int[] heights;
+
+        private Workspace(int rows, int columns) {
+            this.columns = columns;
+            this.enumerator = new PlacementEnumerator(rows, columns);
+            this.afterFirst = new long[rows];
+            this.afterSecond = new long[rows];
+            this.heights = new int[columns];
+        }
+    }
+
+    /**
+     * Scores a range of branches, splitting it in half until it is small.
+     */
+    private final class BranchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] scores;
+        private final int pieceId;
+        private final int nextPieceId;
+        private final int columns;
+        private final int from;
+        private final int to;
+
+        private BranchTask(double[] scores, int pieceId, int nextPieceId, int columns, int from, int to) {
+            this.scores = scores;
+            this.pieceId = pieceId;
+            this.nextPieceId = nextPieceId;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BRANCHES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    scores[i] = scoreBranch(i, pieceId, nextPieceId, columns);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BranchTask(scores, pieceId, nextPieceId, columns, from, middle),
+                    new BranchTask(scores, pieceId, nextPieceId, columns, middle, to));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.enums.EventType;
+import java.util.List;
+
+/**
+ * A placement chosen by the heuristic player: where the current brick should
+ * rest, how to get it there, and the score of the best line of play through it.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final List<EventType> path;
+    private final double score;
+
+    /**
+     * Constructs a placement.
+     * @param rotation rotation index of the resting brick
+     * @param x x position
+     * @param y landing y position
+     * @param path moves from the current position, see
+     *             {@link com.comp2042.model.game.PlacementEnumerator#getPlacementPath}
+     * @param score search score
+     */
+    public Placement(int rotation, int x, int y, List<EventType> path, double score) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.path = List.copyOf(path);
+        this.score = score;
+    }
+
+    /**
+     * Gets the rotation index.
+     * @return rotation
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x position.
+     * @return x position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the landing y position.
+     * @return y position
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the moves that reach the placement.
+     * @return unmodifiable move list
+     */
+    public List<EventType> getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the search score.
+     * @return score, higher is better
+     */
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,201 @@
+package com.comp2042.model.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Fixed-size cache of search results keyed by Zobrist state hashes, shared by
+ * search threads without locks.
+ * Entries live in two parallel {@code long} arrays with open addressing over a
+ * short probe window. Each slot stores the packed entry and its hash XORed with
+ * the entry; a reader accepts a slot only if the two words XOR back to the hash it
+ * asked for, so a slot half-written by another thread reads as a miss instead of
+ * a wrong result. When a window is full the entry to replace is the one from an
+ * older search, or else the shallowest one.
+ * <p>
+ * An entry packs a float score, a search depth (0-255), a move index (0-65535)
+ * and the age of the search that stored it.
+ */
+public class TranspositionTable {
+
+    /** Returned by {@link #probe} when the hash is not in the table */
+    public static final long NOT_FOUND = 0L;
+
+    /** Largest depth an entry can record */
+    public static final int MAX_DEPTH = 0xFF;
+
+    /** Largest move index an entry can record */
+    public static final int MAX_MOVE = 0xFFFF;
+
+    /** Slots examined per lookup, starting at the hash's home slot */
+    private static final int PROBE_WINDOW = 4;
+
+    private static final int MOVE_SHIFT = 0;
+    private static final int DEPTH_SHIFT = 16;
+    private static final int AGE_SHIFT = 24;
+    private static final int AGE_MASK = 0x7F;
+    private static final long VALID_BIT = 1L << 31;
+    private static final int SCORE_SHIFT = 32;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] checks;
+    private final long[] entries;
+    private final int mask;
+    private volatile int age = 1;
+
+    /**
+     * Creates an empty table.
+     * @param capacity number of entries, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive or above 2^30
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.checks = new long[size];
+        this.entries = new long[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Starts a new search, so entries stored from now on outrank older ones.
+     */
+    public void nextAge() {
+        age = age == AGE_MASK ? 1 : age + 1;
+    }
+
+    /**
+     * Looks up a state.
+     * @param hash state hash
+     * @return packed entry, or {@link #NOT_FOUND}
+     */
+    public long probe(long hash) {
+        int home = (int) hash & mask;
+        for (int i = 0; i < PROBE_WINDOW; i++) {
+            int slot = (home + i) & mask;
+            long entry = (long) SLOT.getOpaque(entries, slot);
+            if (entry != NOT_FOUND && ((long) SLOT.getOpaque(checks, slot) ^ entry) == hash) {
+                return entry;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Stores a search result. An existing entry for the same state is only
+     * overwritten by an equal or deeper result, or one from a newer search.
+     * @param hash state hash
+     * @param score score of the state
+     * @param depth search depth behind the score (0-255)
+     * @param move best move index (0-65535)
+     */
+    public void store(long hash, float score, int depth, int move) {
+        if (depth < 0 || depth > MAX_DEPTH || move < 0 || move > MAX_MOVE) {
+            throw new IllegalArgumentException("Depth or move out of range");
+        }
+        int currentAge = age;
+        long entry = pack(score, depth, move, currentAge);
+        int home = (int) hash & mask;
+        int victim = home;
+        int victimRank = Integer.MAX_VALUE;
+
+        for (int i = 0; i < PROBE_WINDOW; i++) {
+            int slot = (home + i) & mask;
+            long existing = (long) SLOT.getOpaque(entries, slot);
+            if (existing == NOT_FOUND) {
+                if (victimRank > -1) {
+                    victim = slot;
+                    victimRank = -1;
+                }
+                continue;
+            }
+            boolean sameAge = getAge(existing) == currentAge;
+            if (((long) SLOT.getOpaque(checks, slot) ^ existing) == hash) {
+                if (sameAge && getDepth(existing) > depth) {
+                    return;
+                }
+                victim = slot;
+                break;
+            }
+            // Entries from older searches go first, then the shallowest
+            int rank = (sameAge ? MAX_DEPTH + 1 : 0) + getDepth(existing);
+            if (rank < victimRank) {
+                victim = slot;
+                victimRank = rank;
+            }
+        }
+
+        SLOT.setOpaque(entries, victim, entry);
+        SLOT.setOpaque(checks, victim, hash ^ entry);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(entries, NOT_FOUND);
+        Arrays.fill(checks, 0L);
+    }
+
+    /**
+     * Gets the number of entries the table holds.
+     * @return capacity
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the score of an entry.
+     * @param entry packed entry from {@link #probe}
+     * @return score
+     */
+    public static float getScore(long entry) {
+        return Float.intBitsToFloat((int) (entry >>> SCORE_SHIFT));
+    }
+
+    /**
+     * Gets the search depth of an entry.
+     * @param entry packed entry from {@link #probe}
+     * @return depth
+     */
+    public static int getDepth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    /**
+     * Gets the move index of an entry.
+     * @param entry packed entry from {@link #probe}
+     * @return move index
+     */
+    public static int getMove(long entry) {
+        return (int) (entry >>> MOVE_SHIFT) & MAX_MOVE;
+    }
+
+    /**
+     * Gets the search age of an entry.
+     * @param entry packed entry from {@link #probe}
+     * @return age
+     */
+    public static int getAge(long entry) {
+        return (int) (entry >>> AGE_SHIFT) & AGE_MASK;
+    }
+
+    /**
+     * Packs the fields of an entry; the valid bit keeps it distinct from
+     * {@link #NOT_FOUND}.
+     */
+    private static long pack(float score, int depth, int move, int age) {
+        return ((long) Float.floatToRawIntBits(score) << SCORE_SHIFT)
+                | VALID_BIT
+                | ((long) age << AGE_SHIFT)
+                | ((long) depth << DEPTH_SHIFT)
+                | ((long) move << MOVE_SHIFT);
+    }
+}
@@ -1,19 +1,50 @@
 package com.comp2042.model.data;
 
-import com.comp2042.util.MatrixOperations;
+import com.comp2042.logic.bricks.PieceShape;
 
 /**
  * Immutable data class containing all information needed to render the game state.
  * Includes current brick, position, preview bricks, and shadow position.
+ * Brick shapes are held as shared {@link PieceShape} instances; matrices are only
+ * built when a getter that returns an array is called, so renderers should read the
+ * shapes directly.
+ * <p>
+ * {@link #changesSince(ViewData)} compares two views and returns a mask of the
+ * change flags below, so a renderer can skip the parts that stayed the same.
+ * Shapes are compared by identity, which matches the shared instances the boards
+ * hand out; the board is compared through a version the board bumps whenever it
+ * writes cells.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
+    /** Brick position or shadow position changed */
+    public static final int PIECE_MOVED = 1;
+
+    /** Brick shape changed (rotation or a new brick) */
+    public static final int PIECE_ROTATED = 1 << 1;
+
+    /** Next brick preview changed */
+    public static final int NEXT_CHANGED = 1 << 2;
+
+    /** Hold slot changed */
+    public static final int HOLD_CHANGED = 1 << 3;
+
+    /** Board cells changed (lock, line clear or board reset) */
+    public static final int BOARD_CHANGED = 1 << 4;
+
+    /** Every change flag */
+    public static final int ALL_CHANGED = PIECE_MOVED | PIECE_ROTATED | NEXT_CHANGED
+            | HOLD_CHANGED | BOARD_CHANGED;
+
+    private static final int[][] NO_BRICK = new int[0][0];
+
+    private final PieceShape brickPiece;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
+    private final PieceShape nextBrickPiece;
     private final int shadowYPosition;
-    private final int[][] holdBrickData;
+    private final PieceShape holdBrickPiece;
+    private final long boardVersion;
 
     /**
      * Constructs view data with all game state information.
@@ -27,12 +58,46 @@ public final class ViewData {
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition,
                     int[][] nextBrickData, int shadowYPosition, int[][] holdBrickData) {
-        this.brickData = brickData;
+        this(new PieceShape(brickData), xPosition, yPosition, new PieceShape(nextBrickData),
+                shadowYPosition, holdBrickData != null ? new PieceShape(holdBrickData) : null);
+    }
+
+    /**
+     * Constructs view data from shared piece shapes without copying them.
+     *
+     * @param brickPiece current brick shape
+     * @param xPosition x-coordinate of brick
+     * @param yPosition y-coordinate of brick
+     * @param nextBrickPiece next brick shape
+     * @param shadowYPosition y-coordinate where brick will land
+     * @param holdBrickPiece held brick shape, or null
+     */
+    public ViewData(PieceShape brickPiece, int xPosition, int yPosition,
+                    PieceShape nextBrickPiece, int shadowYPosition, PieceShape holdBrickPiece) {
+        this(brickPiece, xPosition, yPosition, nextBrickPiece, shadowYPosition, holdBrickPiece, 0L);
+    }
+
+    /**
+     * Constructs view data from shared piece shapes and the board's cell version.
+     *
+     * @param brickPiece current brick shape
+     * @param xPosition x-coordinate of brick
+     * @param yPosition y-coordinate of brick
+     * @param nextBrickPiece next brick shape
+     * @param shadowYPosition y-coordinate where brick will land
+     * @param holdBrickPiece held brick shape, or null
+     * @param boardVersion counter the board increments whenever its cells change
+     */
+    public ViewData(PieceShape brickPiece, int xPosition, int yPosition,
+                    PieceShape nextBrickPiece, int shadowYPosition, PieceShape holdBrickPiece,
+                    long boardVersion) {
+        this.brickPiece = brickPiece;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
+        this.nextBrickPiece = nextBrickPiece;
         this.shadowYPosition = shadowYPosition;
-        this.holdBrickData = holdBrickData;
+        this.holdBrickPiece = holdBrickPiece;
+        this.boardVersion = boardVersion;
     }
 
     /**
@@ -41,7 +106,16 @@ public final class ViewData {
      * @return copy of brick data
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickPiece.toMatrix();
+    }
+
+    /**
+     * Gets the current brick shape without copying.
+     *
+     * @return current brick shape
+     */
+    public PieceShape getBrickPiece() {
+        return brickPiece;
     }
 
     /**
@@ -68,7 +142,16 @@ public final class ViewData {
      * @return copy of next brick data
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickPiece.toMatrix();
+    }
+
+    /**
+     * Gets the next brick shape without copying.
+     *
+     * @return next brick shape
+     */
+    public PieceShape getNextBrickPiece() {
+        return nextBrickPiece;
     }
 
     /**
@@ -83,9 +166,57 @@ public final class ViewData {
     /**
      * Gets the held brick matrix.
      *
-     * @return copy of hold brick data, or empty array if no brick held
+     * @return copy of hold brick data, or a shared empty array if no brick held
      */
     public int[][] getHoldBrickData() {
-        return MatrixOperations.copy(holdBrickData != null ? holdBrickData : new int[0][0]);
+        return holdBrickPiece != null ? holdBrickPiece.toMatrix() : NO_BRICK;
+    }
+
+    /**
+     * Gets the held brick shape without copying.
+     *
+     * @return held brick shape, or null if no brick held
+     */
+    public PieceShape getHoldBrickPiece() {
+        return holdBrickPiece;
+    }
+
+    /**
+     * Gets the board's cell version when this view was taken.
+     *
+     * @return board version
+     */
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Works out what changed between an earlier view and this one.
+     *
+     * @param previous view rendered last, or null if nothing was rendered yet
+     * @return mask of change flags, {@link #ALL_CHANGED} if previous is null
+     */
+    public int changesSince(ViewData previous) {
+        if (previous == null) {
+            return ALL_CHANGED;
+        }
+        int changes = 0;
+        if (xPosition != previous.xPosition || yPosition != previous.yPosition
+                || shadowYPosition != previous.shadowYPosition) {
+            changes |= PIECE_MOVED;
+        }
+        if (brickPiece != previous.brickPiece) {
+            changes |= PIECE_ROTATED;
+        }
+        if (nextBrickPiece != previous.nextBrickPiece) {
+            changes |= NEXT_CHANGED;
+        }
+        if (holdBrickPiece != previous.holdBrickPiece) {
+            changes |= HOLD_CHANGED;
+        }
+        if (boardVersion != previous.boardVersion) {
+            changes |= BOARD_CHANGED;
+        }
+        return changes;
     }
-}
\ No newline at end of file
+}
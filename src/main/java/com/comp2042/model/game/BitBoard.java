@@ -0,0 +1,444 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.scoring.Score;
+import com.comp2042.util.GameConstants;
+import java.util.Arrays;
+
+/**
+ * Game board implementation backed by one bitmask per row.
+ * Bit n of a row word is set when column n is occupied, so collision, merge
+ * and full-row checks cost a few bitwise operations per brick row. Cell colors
+ * are kept in a parallel matrix that is only touched on merge and line clear.
+ */
+public class BitBoard implements Board {
+
+    /** Widest board that fits in a single row word */
+    public static final int MAX_COLUMNS = Long.SIZE;
+
+    private final int rows;
+    private final int spawnX;
+    private final long fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final HoldBrickManager holdBrickManager;
+    private Score score;
+    private final GameMode gameMode;
+
+    private final long[] rowBits;
+    private final int[][] colorMatrix;
+    private final int[][] clearedRowBuffer;
+    private final int[] clearedIndexBuffer;
+    private final ClearRow noRowsCleared;
+    private int currentX;
+    private int currentY;
+    private long boardVersion;
+    private int changedTop;
+    private int changedBottom;
+    private boolean boardCleared = false;
+
+    /**
+     * Creates a new bitboard using the default 7-bag generator.
+     * @param rows board height in cells
+     * @param columns board width in cells (at most {@link #MAX_COLUMNS})
+     * @param gameMode the game mode (ZEN or BLITZ)
+     */
+    public BitBoard(int rows, int columns, GameMode gameMode) {
+        this(rows, columns, gameMode, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new bitboard drawing bricks from the given generator.
+     * @param rows board height in cells
+     * @param columns board width in cells (at most {@link #MAX_COLUMNS})
+     * @param gameMode the game mode (ZEN or BLITZ)
+     * @param brickGenerator source of bricks
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int rows, int columns, GameMode gameMode, BrickGenerator brickGenerator) {
+        if (rows <= 0 || columns <= 0 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Unsupported board size: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.spawnX = GameConstants.spawnX(columns);
+        this.fullRowMask = columns == MAX_COLUMNS ? -1L : (1L << columns) - 1;
+        this.gameMode = gameMode;
+        this.rowBits = new long[rows];
+        this.colorMatrix = new int[rows][columns];
+        this.clearedRowBuffer = new int[rows][];
+        this.clearedIndexBuffer = new int[rows];
+        this.noRowsCleared = new ClearRow(0, colorMatrix, 0);
+        this.brickGenerator = brickGenerator;
+        this.brickRotator = new BrickRotator();
+        this.holdBrickManager = new HoldBrickManager();
+        resetChangedRows();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(brickRotator.getCurrentPiece(), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(brickRotator.getCurrentPiece(), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(brickRotator.getCurrentPiece(), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    public boolean rotateBrick(RotationDirection direction) {
+        int target = brickRotator.getTargetRotation(direction);
+        PieceShape rotated = brickRotator.getCurrentBrick().getPiece(target);
+        int[] kicks = brickRotator.getKicks(direction);
+
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!collides(rotated, currentX + kicks[i], currentY + kicks[i + 1])) {
+                currentX += kicks[i];
+                currentY += kicks[i + 1];
+                brickRotator.setCurrentShape(target);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = calculateShadowPosition();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        return distance;
+    }
+
+    @Override
+    public int calculateShadowPosition() {
+        PieceShape piece = brickRotator.getCurrentPiece();
+        int shadowY = currentY;
+        while (!collides(piece, currentX, shadowY + 1)) {
+            shadowY++;
+        }
+        return shadowY;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        boardCleared = false;
+        brickRotator.setBrick(brickGenerator.getBrick());
+        currentX = spawnX;
+        currentY = GameConstants.SPAWN_Y;
+        holdBrickManager.enableHold();
+
+        boolean gameOver = collides(brickRotator.getCurrentPiece(), currentX, currentY);
+
+        if (gameOver && gameMode == GameMode.ZEN) {
+            clearEntireBoard();
+            boardCleared = true;
+            gameOver = collides(brickRotator.getCurrentPiece(), currentX, currentY);
+        }
+
+        return gameOver;
+    }
+
+    /**
+     * Clears the entire board (used in Zen mode on game over).
+     */
+    private void clearEntireBoard() {
+        boardVersion++;
+        markChanged(0, rows - 1);
+        for (int i = 0; i < rows; i++) {
+            rowBits[i] = 0L;
+            Arrays.fill(colorMatrix[i], 0);
+        }
+    }
+
+    /**
+     * Gets the board color matrix.
+     * The returned matrix is the live backing store and must be treated as read-only;
+     * occupancy is tracked by the row bitmasks, not by this matrix.
+     * @return board color matrix
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorMatrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        int shadowY = calculateShadowPosition();
+        return new ViewData(
+                brickRotator.getCurrentPiece(),
+                currentX,
+                currentY,
+                getNextPiece(),
+                shadowY,
+                holdBrickManager.getHoldPiece(),
+                boardVersion
+        );
+    }
+
+    @Override
+    public PieceShape getCurrentPiece() {
+        return brickRotator.getCurrentPiece();
+    }
+
+    @Override
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    @Override
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    @Override
+    public PieceShape getNextPiece() {
+        return brickGenerator.getNextBrick().getPiece(0);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        PieceShape piece = brickRotator.getCurrentPiece();
+
+        for (int r = piece.getMinRow(); r <= piece.getMaxRow(); r++) {
+            rowBits[currentY + r] |= shift(piece.getRowMask(r), currentX);
+        }
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int row = piece.getCellRow(i);
+            int column = piece.getCellColumn(i);
+            colorMatrix[currentY + row][currentX + column] = piece.getCell(row, column);
+        }
+        boardVersion++;
+        if (piece.getCellCount() > 0) {
+            markChanged(currentY + piece.getMinRow(), currentY + piece.getMaxRow());
+        }
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int cleared = 0;
+        int write = rows - 1;
+        int stackTop = rows;
+
+        for (int read = rows - 1; read >= 0; read--) {
+            if (rowBits[read] != 0L) {
+                stackTop = read;
+            }
+            if (rowBits[read] == fullRowMask) {
+                clearedIndexBuffer[cleared] = read;
+                clearedRowBuffer[cleared++] = colorMatrix[read];
+                continue;
+            }
+            if (write != read) {
+                rowBits[write] = rowBits[read];
+                colorMatrix[write] = colorMatrix[read];
+            }
+            write--;
+        }
+
+        for (int i = 0; i < cleared; i++) {
+            int[] row = clearedRowBuffer[i];
+            clearedRowBuffer[i] = null;
+            Arrays.fill(row, 0);
+            rowBits[write] = 0L;
+            colorMatrix[write] = row;
+            write--;
+        }
+
+        if (cleared == 0) {
+            return noRowsCleared;
+        }
+        boardVersion++;
+        // Rows from the old stack top down to the lowest cleared row moved
+        markChanged(stackTop, clearedIndexBuffer[0]);
+
+        int scoreBonus = 50 * cleared * cleared;
+        return new ClearRow(cleared, colorMatrix, scoreBonus);
+    }
+
+    @Override
+    public Score getScore() {
+        // Created on first use so headless games skip preference loading
+        if (score == null) {
+            score = new Score(gameMode);
+        }
+        return score;
+    }
+
+    @Override
+    public boolean holdBrick() {
+        if (!holdBrickManager.canHold()) {
+            return false;
+        }
+
+        Brick currentBrick = brickRotator.getCurrentBrick();
+
+        if (!holdBrickManager.hasHoldBrick()) {
+            holdBrickManager.setHoldBrick(currentBrick);
+            brickRotator.setBrick(brickGenerator.getBrick());
+            currentX = spawnX;
+            currentY = GameConstants.SPAWN_Y;
+        } else {
+            Brick heldBrick = holdBrickManager.getHoldBrick();
+            holdBrickManager.setHoldBrick(currentBrick);
+            brickRotator.setBrick(heldBrick);
+
+            PieceShape piece = brickRotator.getCurrentPiece();
+            if (collides(piece, currentX, currentY)) {
+                int newY = currentY;
+                while (newY > 0 && collides(piece, currentX, newY)) {
+                    newY--;
+                }
+
+                if (newY >= 0 && !collides(piece, currentX, newY)) {
+                    currentY = newY;
+                } else {
+                    holdBrickManager.setHoldBrick(heldBrick);
+                    brickRotator.setBrick(currentBrick);
+                    return false;
+                }
+            }
+        }
+
+        holdBrickManager.disableHold();
+        return true;
+    }
+
+    @Override
+    public int[][] getHoldBrickData() {
+        return holdBrickManager.getHoldBrickData();
+    }
+
+    @Override
+    public boolean canHold() {
+        return holdBrickManager.canHold();
+    }
+
+    @Override
+    public boolean newGame() {
+        clearEntireBoard();
+        if (score != null) {
+            score.reset();
+        }
+        holdBrickManager.reset();
+        boardCleared = false;
+        brickGenerator.reset();
+        return createNewBrick();
+    }
+
+    @Override
+    public boolean wasBoardCleared() {
+        return boardCleared;
+    }
+
+    @Override
+    public int getChangedRowsTop() {
+        return changedTop;
+    }
+
+    @Override
+    public int getChangedRowsBottom() {
+        return changedBottom;
+    }
+
+    @Override
+    public void resetChangedRows() {
+        changedTop = rows;
+        changedBottom = -1;
+    }
+
+    /**
+     * Widens the changed row range to cover a range of rows.
+     */
+    private void markChanged(int top, int bottom) {
+        changedTop = Math.min(changedTop, top);
+        changedBottom = Math.max(changedBottom, bottom);
+    }
+
+    /**
+     * Gets the game mode.
+     * @return the game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the occupancy bitmask of a row.
+     * @param row row index
+     * @return bitmask with bit n set when column n is filled
+     */
+    public long getRowBits(int row) {
+        return rowBits[row];
+    }
+
+    /**
+     * Checks if a brick would collide at the given position.
+     * @param piece the brick shape
+     * @param x x position
+     * @param y y position
+     * @return true if any filled cell is out of bounds or overlaps the board
+     */
+    private boolean collides(PieceShape piece, int x, int y) {
+        for (int r = piece.getMinRow(); r <= piece.getMaxRow(); r++) {
+            long mask = piece.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int boardY = y + r;
+            if (boardY < 0 || boardY >= rows) {
+                return true;
+            }
+            if (x < 0) {
+                if (-x >= MAX_COLUMNS || (mask & ((1L << -x) - 1)) != 0) {
+                    return true;
+                }
+            } else if (x >= MAX_COLUMNS || (mask << x) >>> x != mask) {
+                return true;
+            }
+            long shifted = shift(mask, x);
+            if ((shifted & ~fullRowMask) != 0 || (shifted & rowBits[boardY]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shifts a brick row mask to board column x.
+     * @param mask brick row mask
+     * @param x x position, may be negative
+     * @return mask in board coordinates
+     */
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.model.game;
 
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.model.scoring.Score;
 import com.comp2042.model.data.ClearRow;
 import com.comp2042.model.data.ViewData;
@@ -17,6 +19,13 @@ public interface Board {
      */
     boolean moveBrickDown();
 
+    /**
+     * Drops the current brick straight down to its landing position.
+     *
+     * @return number of rows the brick moved
+     */
+    int hardDropBrick();
+
     /**
      * Moves the current brick left by one unit.
      *
@@ -39,6 +48,14 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Rotates the current brick, trying the SRS wall kicks for the turn in order.
+     *
+     * @param direction turn direction
+     * @return true if rotation was successful, false if every kick was blocked
+     */
+    boolean rotateBrick(RotationDirection direction);
+
     /**
      * Creates a new brick at the spawn position.
      *
@@ -47,7 +64,8 @@ public interface Board {
     boolean createNewBrick();
 
     /**
-     * Gets the current game board matrix.
+     * Gets the current game board matrix. The matrix is live and must be
+     * treated as read-only; cells change only through merges and clears.
      *
      * @return 2D array representing the board state
      */
@@ -67,6 +85,34 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Gets the shape of the falling brick without building view data.
+     *
+     * @return current brick shape
+     */
+    PieceShape getCurrentPiece();
+
+    /**
+     * Gets the column of the falling brick's origin.
+     *
+     * @return current x position
+     */
+    int getCurrentX();
+
+    /**
+     * Gets the row of the falling brick's origin.
+     *
+     * @return current y position
+     */
+    int getCurrentY();
+
+    /**
+     * Gets the spawn shape of the upcoming brick without building view data.
+     *
+     * @return next brick shape
+     */
+    PieceShape getNextPiece();
+
     /**
      * Merges current brick into the background board.
      * Called when brick reaches final position.
@@ -88,9 +134,11 @@ public interface Board {
     Score getScore();
 
     /**
-     * Starts a new game, resetting all state.
+     * Starts a new game, resetting all state, and spawns the first brick.
+     *
+     * @return true if the first brick could not be placed (game over)
      */
-    void newGame();
+    boolean newGame();
 
     /**
      * Swaps current brick with held brick.
@@ -119,4 +167,25 @@ public interface Board {
      * @return true if board was just cleared
      */
     boolean wasBoardCleared();
-}
\ No newline at end of file
+
+    /**
+     * Gets the first row whose cells changed since {@link #resetChangedRows()}.
+     * A lock changes the brick's rows; a line clear also changes the rows that
+     * shifted down.
+     *
+     * @return top changed row; greater than {@link #getChangedRowsBottom()} if none changed
+     */
+    int getChangedRowsTop();
+
+    /**
+     * Gets the last row whose cells changed since {@link #resetChangedRows()}.
+     *
+     * @return bottom changed row, inclusive
+     */
+    int getChangedRowsBottom();
+
+    /**
+     * Marks the changed rows as drawn.
+     */
+    void resetChangedRows();
+}
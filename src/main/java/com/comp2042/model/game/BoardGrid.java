@@ -0,0 +1,433 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.PieceShape;
+import java.util.Arrays;
+
+/**
+ * Playfield cell storage with incremental per-row occupancy counts and a per-column
+ * height map. Both are updated as bricks are merged, so full-line detection only
+ * looks at the rows touched since the last clear, and landing rows come from the
+ * column tops instead of stepping down one row at a time. A Zobrist hash of the
+ * filled cells is kept the same way: a merge XORs in the new cells, and a clear
+ * rehashes only the rows that moved.
+ * <p>
+ * The rows and their counts are mirrored in a persistent {@link RowVector}. A
+ * {@link GridSnapshot} keeps its root and starts a new epoch, so taking one copies
+ * nothing; rows from an older epoch are copied the next time the grid writes to
+ * them. Restoring swaps the root back and walks only the trie nodes that differ,
+ * so it costs the rows changed since the snapshot, and only those rows are marked
+ * for the next clear and repaint.
+ * Writing cells directly into the matrix is not supported: the counts go stale,
+ * and rows a snapshot still shares must not be written at all.
+ * <p>
+ * Separately from the rows a clear has to check, the grid keeps the range of rows
+ * whose cells changed since {@link #resetChangedRows()}, so a view can repaint only
+ * those rows after a lock.
+ */
+public class BoardGrid {
+
+    /** Returned by {@link #findLandingY} when the height map cannot answer */
+    public static final int NO_LANDING = Integer.MIN_VALUE;
+
+    /** Owner epoch of rows that came from a snapshot and are never written */
+    private static final int FROZEN = -1;
+
+    private final int rows;
+    private final int columns;
+    private final int[][] matrix;
+    private final int[] rowFillCounts;
+    private final int[] columnTops;
+    private final int[] rowEpochs;
+    private final RowVector rowVector;
+    private final long[] cellKeys;
+    private int epoch;
+    private long cellHash;
+    private int touchedTop;
+    private int touchedBottom;
+    private int changedTop;
+    private int changedBottom;
+
+    /**
+     * Creates an empty grid.
+     * @param rows number of rows
+     * @param columns number of columns
+     */
+    public BoardGrid(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.matrix = new int[rows][columns];
+        this.rowFillCounts = new int[rows];
+        this.columnTops = new int[columns];
+        Arrays.fill(columnTops, rows);
+        this.rowEpochs = new int[rows];
+        this.rowVector = new RowVector(matrix, rowFillCounts);
+        this.cellKeys = ZobristKeys.cellTable(rows, columns);
+        resetTouchedRows();
+        resetChangedRows();
+    }
+
+    /**
+     * Gets the live cell matrix, indexed [row][column].
+     * @return board matrix
+     */
+    public int[][] getMatrix() {
+        return matrix;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of filled cells in a row.
+     * @param row row index
+     * @return filled cell count
+     */
+    public int getRowFillCount(int row) {
+        return rowFillCounts[row];
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells (colors are ignored).
+     * @return cell hash, 0 for an empty grid
+     */
+    public long getCellHash() {
+        return cellHash;
+    }
+
+    /**
+     * Gets the highest filled row of a column.
+     * @param column column index
+     * @return top row of the column, or the row count if the column is empty
+     */
+    public int getColumnTop(int column) {
+        return columnTops[column];
+    }
+
+    /**
+     * Finds the row a brick would land on when dropped straight down, using the
+     * column tops and the brick's bottom profile. Only valid when every column of
+     * the brick is above the stack; a brick tucked under an overhang gets
+     * {@link #NO_LANDING} and must be dropped by collision checks instead.
+     * @param piece brick shape
+     * @param x x position
+     * @param y current y position
+     * @return landing y position, or {@link #NO_LANDING}
+     */
+    public int findLandingY(PieceShape piece, int x, int y) {
+        int landingY = Integer.MAX_VALUE;
+        for (int c = piece.getMinColumn(); c <= piece.getMaxColumn(); c++) {
+            int bottom = piece.getColumnBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTops[x + c];
+            if (y + bottom >= top) {
+                return NO_LANDING;
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        return landingY == Integer.MAX_VALUE ? NO_LANDING : landingY;
+    }
+
+    /**
+     * Writes a brick into the grid and updates the counts of the rows it covers.
+     * @param piece brick shape
+     * @param x x position
+     * @param y y position
+     */
+    public void merge(PieceShape piece, int x, int y) {
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int row = piece.getCellRow(i);
+            int column = piece.getCellColumn(i);
+            int[] boardRow = writableRow(y + row);
+            if (boardRow[x + column] == 0) {
+                rowFillCounts[y + row]++;
+                cellHash ^= cellKeys[(y + row) * columns + x + column];
+            }
+            boardRow[x + column] = piece.getCell(row, column);
+            if (y + row < columnTops[x + column]) {
+                columnTops[x + column] = y + row;
+            }
+        }
+        if (piece.getCellCount() > 0) {
+            for (int row = y + piece.getMinRow(); row <= y + piece.getMaxRow(); row++) {
+                rowVector.set(row, matrix[row], rowFillCounts[row]);
+            }
+            touchedTop = Math.min(touchedTop, y + piece.getMinRow());
+            touchedBottom = Math.max(touchedBottom, y + piece.getMaxRow());
+            markChanged(y + piece.getMinRow(), y + piece.getMaxRow());
+        }
+    }
+
+    /**
+     * Removes full rows among those touched by merges, restores or rebuilds since
+     * the last call.
+     * Rows between the stack top and each cleared row shift down by reference; the
+     * cleared array is zeroed and reused as the new top row of the stack.
+     * @param clearedRows receives the cleared row indices, top to bottom
+     * @return number of rows cleared
+     */
+    public int clearFullRows(int[] clearedRows) {
+        int cleared = 0;
+        for (int row = touchedTop; row <= touchedBottom; row++) {
+            if (rowFillCounts[row] == columns) {
+                clearedRows[cleared++] = row;
+            }
+        }
+        if (cleared > 0) {
+            // Only rows from the stack top down to the last cleared row move
+            int stackTop = touchedTop;
+            for (int c = 0; c < columns; c++) {
+                stackTop = Math.min(stackTop, columnTops[c]);
+            }
+            int lastCleared = clearedRows[cleared - 1];
+            cellHash ^= hashRows(stackTop, lastCleared);
+            for (int i = 0; i < cleared; i++) {
+                removeRow(clearedRows[i], stackTop);
+            }
+            for (int row = stackTop; row <= lastCleared; row++) {
+                rowVector.set(row, matrix[row], rowFillCounts[row]);
+            }
+            cellHash ^= hashRows(stackTop, lastCleared);
+            lowerColumnTops();
+            markChanged(stackTop, lastCleared);
+        }
+        resetTouchedRows();
+        return cleared;
+    }
+
+    /**
+     * Empties every cell.
+     */
+    public void clear() {
+        for (int row = 0; row < rows; row++) {
+            if (rowEpochs[row] == epoch) {
+                Arrays.fill(matrix[row], 0);
+            } else {
+                matrix[row] = new int[columns];
+                rowEpochs[row] = epoch;
+            }
+        }
+        Arrays.fill(rowFillCounts, 0);
+        rowVector.reset(matrix, rowFillCounts);
+        Arrays.fill(columnTops, rows);
+        cellHash = 0L;
+        resetTouchedRows();
+        markChanged(0, rows - 1);
+    }
+
+    /**
+     * Captures the grid. The snapshot keeps the current row vector root and a new
+     * epoch begins, so no rows are copied; only the column tops are.
+     * @return immutable snapshot
+     */
+    public GridSnapshot snapshot() {
+        GridSnapshot snapshot = new GridSnapshot(rowVector.getRoot(), rowVector.getShift(), rows,
+                columnTops.clone(), cellHash, touchedTop, touchedBottom);
+        rowVector.freeze();
+        epoch++;
+        return snapshot;
+    }
+
+    /**
+     * Puts the grid back to a snapshot. Only rows that differ from the snapshot are
+     * swapped back in, by reference, and only they are marked touched and changed,
+     * along with the rows the snapshot itself still had pending for a clear.
+     * @param snapshot snapshot of a grid of the same size
+     * @throws IllegalArgumentException if the snapshot has another size
+     */
+    public void restore(GridSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getColumns() != columns) {
+            throw new IllegalArgumentException("Snapshot size does not match grid");
+        }
+        RowVector.Node target = snapshot.getRoot();
+        if (rowVector.getRoot() != target) {
+            restoreRows(rowVector.getRoot(), target, rowVector.getShift(), 0);
+            rowVector.setRoot(target);
+        }
+        System.arraycopy(snapshot.getColumnTops(), 0, columnTops, 0, columns);
+        cellHash = snapshot.getCellHash();
+        touchedTop = Math.min(touchedTop, snapshot.getTouchedTop());
+        touchedBottom = Math.max(touchedBottom, snapshot.getTouchedBottom());
+    }
+
+    /**
+     * Rebuilds the row counts, column tops and cell hash from the matrix and marks all rows
+     * as touched. The game never writes cells directly, so only fixtures in this package
+     * need it.
+     */
+    void rebuild() {
+        Arrays.fill(columnTops, rows);
+        cellHash = hashRows(0, rows - 1);
+        for (int row = rows - 1; row >= 0; row--) {
+            int count = 0;
+            int[] cells = matrix[row];
+            for (int c = 0; c < columns; c++) {
+                if (cells[c] != 0) {
+                    count++;
+                    columnTops[c] = row;
+                }
+            }
+            rowFillCounts[row] = count;
+        }
+        rowVector.reset(matrix, rowFillCounts);
+        touchedTop = 0;
+        touchedBottom = rows - 1;
+        markChanged(0, rows - 1);
+    }
+
+    /**
+     * Gets the first row whose cells changed since the last reset.
+     * @return top changed row; greater than {@link #getChangedBottom()} if none changed
+     */
+    public int getChangedTop() {
+        return changedTop;
+    }
+
+    /**
+     * Gets the last row whose cells changed since the last reset.
+     * @return bottom changed row, inclusive
+     */
+    public int getChangedBottom() {
+        return changedBottom;
+    }
+
+    /**
+     * Marks the changed row range as empty, once a view has drawn it.
+     */
+    public void resetChangedRows() {
+        changedTop = rows;
+        changedBottom = -1;
+    }
+
+    /**
+     * Computes the cell hash contribution of a range of rows.
+     * @param top first row
+     * @param bottom last row, inclusive
+     * @return XOR of the keys of the filled cells in the range
+     */
+    private long hashRows(int top, int bottom) {
+        long hash = 0L;
+        for (int row = top; row <= bottom; row++) {
+            int[] cells = matrix[row];
+            for (int c = 0; c < columns; c++) {
+                if (cells[c] != 0) {
+                    hash ^= cellKeys[row * columns + c];
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Moves each column top down to its next filled cell after rows were removed.
+     * Clearing only moves cells down, so the scan starts at the old top.
+     */
+    private void lowerColumnTops() {
+        for (int c = 0; c < columns; c++) {
+            int top = columnTops[c];
+            while (top < rows && matrix[top][c] == 0) {
+                top++;
+            }
+            columnTops[c] = top;
+        }
+    }
+
+    /**
+     * Copies back the rows of a snapshot that differ from the grid, skipping every
+     * trie node the two versions share.
+     * @param current node of the grid's row vector
+     * @param target node of the snapshot's row vector at the same position
+     * @param level bit shift of the node level
+     * @param base first row under the node
+     */
+    private void restoreRows(RowVector.Node current, RowVector.Node target, int level, int base) {
+        if (level == 0) {
+            int end = Math.min(RowVector.WIDTH, rows - base);
+            for (int i = 0; i < end; i++) {
+                if (current.rows[i] != target.rows[i]) {
+                    int row = base + i;
+                    matrix[row] = target.rows[i];
+                    rowFillCounts[row] = target.counts[i];
+                    rowEpochs[row] = FROZEN;
+                    touchedTop = Math.min(touchedTop, row);
+                    touchedBottom = Math.max(touchedBottom, row);
+                    markChanged(row, row);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < RowVector.WIDTH && target.children[i] != null; i++) {
+            if (current.children[i] != target.children[i]) {
+                restoreRows(current.children[i], target.children[i], level - RowVector.BITS,
+                        base + (i << level));
+            }
+        }
+    }
+
+    /**
+     * Gets a row for writing, first copying it if it predates the current epoch and
+     * so may belong to a snapshot.
+     * @param row row index
+     * @return row owned by this grid
+     */
+    private int[] writableRow(int row) {
+        if (rowEpochs[row] != epoch) {
+            matrix[row] = matrix[row].clone();
+            rowEpochs[row] = epoch;
+        }
+        return matrix[row];
+    }
+
+    /**
+     * Removes one row, shifting the rows between the stack top and it down. Rows
+     * above the stack top are empty and stay where they are.
+     * @param index row to remove
+     * @param stackTop highest row that may hold cells, at most {@code index}
+     */
+    private void removeRow(int index, int stackTop) {
+        int[] removed = matrix[index];
+        boolean removedOwned = rowEpochs[index] == epoch;
+        int moved = index - stackTop;
+        System.arraycopy(matrix, stackTop, matrix, stackTop + 1, moved);
+        System.arraycopy(rowFillCounts, stackTop, rowFillCounts, stackTop + 1, moved);
+        System.arraycopy(rowEpochs, stackTop, rowEpochs, stackTop + 1, moved);
+        if (removedOwned) {
+            Arrays.fill(removed, 0);
+        } else {
+            removed = new int[columns];
+        }
+        matrix[stackTop] = removed;
+        rowFillCounts[stackTop] = 0;
+        rowEpochs[stackTop] = epoch;
+    }
+
+    /**
+     * Marks the touched row range as empty.
+     */
+    private void resetTouchedRows() {
+        touchedTop = rows;
+        touchedBottom = -1;
+    }
+
+    /**
+     * Widens the changed row range to cover a range of rows.
+     */
+    private void markChanged(int top, int bottom) {
+        changedTop = Math.min(changedTop, top);
+        changedBottom = Math.max(changedBottom, bottom);
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * Immutable state of a {@link SimpleBoard}: the grid, the falling brick and its
+ * position, the hold slot, and the position in the brick sequence.
+ * Taken with {@link SimpleBoard#snapshot()} and put back with
+ * {@link SimpleBoard#restore(BoardSnapshot)}; consecutive snapshots share every
+ * row that did not change between them.
+ */
+public final class BoardSnapshot {
+
+    private final GridSnapshot grid;
+    private final Brick brick;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final Brick holdBrick;
+    private final boolean canHold;
+    private final long bricksDrawn;
+    private final long generatorPosition;
+
+    /**
+     * Creates a snapshot.
+     * @param grid grid cells
+     * @param brick falling brick
+     * @param rotation rotation index of the falling brick
+     * @param x x position
+     * @param y y position
+     * @param holdBrick held brick, or null
+     * @param canHold whether hold is still available for the falling brick
+     * @param bricksDrawn bricks drawn this game
+     * @param generatorPosition brick generator position, or -1 if it has none
+     */
+    BoardSnapshot(GridSnapshot grid, Brick brick, int rotation, int x, int y,
+                  Brick holdBrick, boolean canHold, long bricksDrawn, long generatorPosition) {
+        this.grid = grid;
+        this.brick = brick;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.holdBrick = holdBrick;
+        this.canHold = canHold;
+        this.bricksDrawn = bricksDrawn;
+        this.generatorPosition = generatorPosition;
+    }
+
+    /**
+     * Gets the grid cells.
+     * @return grid snapshot
+     */
+    public GridSnapshot getGrid() {
+        return grid;
+    }
+
+    /**
+     * Gets the falling brick.
+     * @return brick
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     * @return rotation
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x position.
+     * @return x position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y position.
+     * @return y position
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the held brick.
+     * @return held brick, or null
+     */
+    public Brick getHoldBrick() {
+        return holdBrick;
+    }
+
+    /**
+     * Checks whether hold was still available.
+     * @return true if hold can be used
+     */
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets the number of bricks drawn this game.
+     * @return sequence position
+     */
+    public long getBricksDrawn() {
+        return bricksDrawn;
+    }
+
+    /**
+     * Gets the brick generator position.
+     * @return generator position, or -1 if the generator has none
+     */
+    public long getGeneratorPosition() {
+        return generatorPosition;
+    }
+}
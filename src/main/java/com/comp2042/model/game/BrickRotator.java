@@ -1,11 +1,15 @@
 package com.comp2042.model.game;
 
+import com.comp2042.enums.RotationDirection;
 import com.comp2042.model.data.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.PieceShape;
 
 /**
  * Manages brick rotation states and shape transitions.
  * Handles cycling through different rotation states of bricks.
+ * Shapes are read from the shared piece table, so no matrices are copied
+ * unless a caller asks for one.
  */
 public class BrickRotator {
 
@@ -18,18 +22,73 @@ public class BrickRotator {
      * @return NextShapeInfo containing next shape and position
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextRotation();
+        return new NextShapeInfo(brick.getPiece(nextShape).toMatrix(), nextShape);
+    }
+
+    /**
+     * Gets the rotation index that follows the current one.
+     *
+     * @return next rotation index
+     */
+    public int getNextRotation() {
+        return (currentShape + 1) % brick.getRotationCount();
+    }
+
+    /**
+     * Gets the rotation index a turn in the given direction leads to.
+     *
+     * @param direction turn direction
+     * @return target rotation index
+     */
+    public int getTargetRotation(RotationDirection direction) {
+        return WallKicks.targetRotation(brick.getPieceId(), currentShape, direction);
+    }
+
+    /**
+     * Gets the wall kick offsets for a turn in the given direction.
+     *
+     * @param direction turn direction
+     * @return shared (dx, dy) pairs, see {@link WallKicks#kicks}
+     */
+    public int[] getKicks(RotationDirection direction) {
+        return WallKicks.kicks(brick.getPieceId(), currentShape, direction);
     }
 
     /**
      * Gets the current rotation shape matrix.
      *
-     * @return 2D array representing current brick shape
+     * @return copy of the current brick shape
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getCurrentPiece().toMatrix();
+    }
+
+    /**
+     * Gets the shared shape of the current rotation without copying.
+     *
+     * @return current piece shape
+     */
+    public PieceShape getCurrentPiece() {
+        return brick.getPiece(currentShape);
+    }
+
+    /**
+     * Gets the shared shape of the next rotation without copying.
+     *
+     * @return next piece shape
+     */
+    public PieceShape getNextPiece() {
+        return brick.getPiece(getNextRotation());
+    }
+
+    /**
+     * Gets the current rotation index.
+     *
+     * @return rotation index of the current shape
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /**
@@ -1,13 +1,19 @@
 package com.comp2042.model.game;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.util.MatrixOperations;
 import java.awt.Point;
 
 /**
  * Handles collision detection between pieces and the game board.
+ * The {@link PieceShape} overloads take primitive coordinates and never allocate,
+ * so a single detector can be reused for the life of a board.
  */
 public class CollisionDetector {
 
+    /** Returned by {@link #findRotationKick} when no kick offset fits */
+    public static final int NO_KICK = -1;
+
     private final int[][] gameMatrix;
 
     /**
@@ -29,6 +35,17 @@ public class CollisionDetector {
         return MatrixOperations.intersect(gameMatrix, brickShape, x, y);
     }
 
+    /**
+     * Checks if a brick would collide at the given position.
+     * @param piece the brick shape
+     * @param x x position
+     * @param y y position
+     * @return true if collision would occur
+     */
+    public boolean wouldCollide(PieceShape piece, int x, int y) {
+        return MatrixOperations.intersect(gameMatrix, piece, x, y);
+    }
+
     /**
      * Checks if brick can move down from current position.
      * @param brickShape the brick shape matrix
@@ -36,9 +53,18 @@ public class CollisionDetector {
      * @return true if can move down
      */
     public boolean canMoveDown(int[][] brickShape, Point currentOffset) {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(0, 1);
-        return !wouldCollide(brickShape, (int) newPosition.getX(), (int) newPosition.getY());
+        return !wouldCollide(brickShape, currentOffset.x, currentOffset.y + 1);
+    }
+
+    /**
+     * Checks if brick can move down from current position.
+     * @param piece the brick shape
+     * @param x current x position
+     * @param y current y position
+     * @return true if can move down
+     */
+    public boolean canMoveDown(PieceShape piece, int x, int y) {
+        return !wouldCollide(piece, x, y + 1);
     }
 
     /**
@@ -48,9 +74,18 @@ public class CollisionDetector {
      * @return true if can move left
      */
     public boolean canMoveLeft(int[][] brickShape, Point currentOffset) {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(-1, 0);
-        return !wouldCollide(brickShape, (int) newPosition.getX(), (int) newPosition.getY());
+        return !wouldCollide(brickShape, currentOffset.x - 1, currentOffset.y);
+    }
+
+    /**
+     * Checks if brick can move left from current position.
+     * @param piece the brick shape
+     * @param x current x position
+     * @param y current y position
+     * @return true if can move left
+     */
+    public boolean canMoveLeft(PieceShape piece, int x, int y) {
+        return !wouldCollide(piece, x - 1, y);
     }
 
     /**
@@ -60,9 +95,18 @@ public class CollisionDetector {
      * @return true if can move right
      */
     public boolean canMoveRight(int[][] brickShape, Point currentOffset) {
-        Point newPosition = new Point(currentOffset);
-        newPosition.translate(1, 0);
-        return !wouldCollide(brickShape, (int) newPosition.getX(), (int) newPosition.getY());
+        return !wouldCollide(brickShape, currentOffset.x + 1, currentOffset.y);
+    }
+
+    /**
+     * Checks if brick can move right from current position.
+     * @param piece the brick shape
+     * @param x current x position
+     * @param y current y position
+     * @return true if can move right
+     */
+    public boolean canMoveRight(PieceShape piece, int x, int y) {
+        return !wouldCollide(piece, x + 1, y);
     }
 
     /**
@@ -72,33 +116,24 @@ public class CollisionDetector {
      * @return true if can rotate
      */
     public boolean canRotate(int[][] newShape, Point currentOffset) {
-        return !wouldCollide(newShape, (int) currentOffset.getX(), (int) currentOffset.getY());
+        return !wouldCollide(newShape, currentOffset.x, currentOffset.y);
     }
 
     /**
-     * Finds a valid position for rotation using wall kick system.
-     * @param newShape the rotated brick shape
-     * @param currentOffset current position
-     * @return valid position or null if rotation impossible
+     * Finds the first wall kick offset at which a rotated brick fits.
+     * @param newPiece the rotated brick shape
+     * @param kicks (dx, dy) pairs to try in order, from {@link WallKicks#kicks}
+     * @param x current x position
+     * @param y current y position
+     * @return index of the fitting dx in the kicks array, or {@link #NO_KICK}
      */
-    public Point findValidRotationPosition(int[][] newShape, Point currentOffset) {
-        if (!wouldCollide(newShape, (int) currentOffset.getX(), (int) currentOffset.getY())) {
-            return currentOffset;
-        }
-
-        Point leftPos = new Point(currentOffset);
-        leftPos.translate(-1, 0);
-        if (!wouldCollide(newShape, (int) leftPos.getX(), (int) leftPos.getY())) {
-            return leftPos;
-        }
-
-        Point rightPos = new Point(currentOffset);
-        rightPos.translate(1, 0);
-        if (!wouldCollide(newShape, (int) rightPos.getX(), (int) rightPos.getY())) {
-            return rightPos;
+    public int findRotationKick(PieceShape newPiece, int[] kicks, int x, int y) {
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!wouldCollide(newPiece, x + kicks[i], y + kicks[i + 1])) {
+                return i;
+            }
         }
-
-        return null;
+        return NO_KICK;
     }
 
     /**
@@ -108,15 +143,25 @@ public class CollisionDetector {
      * @return the Y position where piece would land
      */
     public int calculateShadowY(int[][] brickShape, Point currentOffset) {
-        int shadowY = (int) currentOffset.getY();
+        int shadowY = currentOffset.y;
+        while (!wouldCollide(brickShape, currentOffset.x, shadowY + 1)) {
+            shadowY++;
+        }
+        return shadowY;
+    }
 
-        while (true) {
+    /**
+     * Calculates the shadow (drop preview) Y position.
+     * @param piece the brick shape
+     * @param x current x position
+     * @param y current y position
+     * @return the Y position where piece would land
+     */
+    public int calculateShadowY(PieceShape piece, int x, int y) {
+        int shadowY = y;
+        while (!wouldCollide(piece, x, shadowY + 1)) {
             shadowY++;
-            if (wouldCollide(brickShape, (int) currentOffset.getX(), shadowY)) {
-                shadowY--;
-                break;
-            }
         }
         return shadowY;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.comp2042.model.game;
+
+/**
+ * Logical game clock advanced explicitly by the caller.
+ * Headless games step it as fast as they like; the JavaFX timer advances it
+ * once per real second.
+ */
+public class GameClock {
+
+    private long elapsedMillis;
+
+    /**
+     * Advances the clock.
+     *
+     * @param millis milliseconds to add
+     * @throws IllegalArgumentException if millis is negative
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Clock cannot run backwards: " + millis);
+        }
+        elapsedMillis += millis;
+    }
+
+    /**
+     * Resets the clock to zero.
+     */
+    public void reset() {
+        elapsedMillis = 0;
+    }
+
+    /**
+     * Gets the elapsed time.
+     *
+     * @return elapsed milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Gets the elapsed time in whole seconds.
+     *
+     * @return elapsed seconds
+     */
+    public int getElapsedSeconds() {
+        return (int) (elapsedMillis / 1000);
+    }
+}
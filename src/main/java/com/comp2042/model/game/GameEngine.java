@@ -0,0 +1,295 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.mode.LevelProgression;
+import com.comp2042.model.scoring.ScoreCounter;
+import com.comp2042.util.GameConstants;
+
+/**
+ * Headless game engine combining a board, scoring, Blitz level progression and
+ * a logical clock. It never touches JavaFX, so games can be stepped
+ * programmatically at full speed; the JavaFX controllers drive the same engine
+ * from user input and timelines.
+ */
+public class GameEngine {
+
+    private final Board board;
+    private final GameMode gameMode;
+    private final ScoreCounter score;
+    private final LevelProgression level;
+    private final GameClock clock;
+
+    private long dropAccumulator;
+    private boolean gameOver;
+    private int piecesPlaced;
+    private int totalLinesCleared;
+
+    /**
+     * Creates an engine with its own score counter.
+     * @param board game board
+     * @param gameMode game mode
+     */
+    public GameEngine(Board board, GameMode gameMode) {
+        this(board, gameMode, new ScoreCounter());
+    }
+
+    /**
+     * Creates an engine that reports points to the given score counter.
+     * @param board game board
+     * @param gameMode game mode
+     * @param score score counter to update
+     */
+    public GameEngine(Board board, GameMode gameMode, ScoreCounter score) {
+        this.board = board;
+        this.gameMode = gameMode;
+        this.score = score;
+        this.level = new LevelProgression();
+        this.clock = new GameClock();
+    }
+
+    /**
+     * Spawns the first brick of the current game.
+     * @return true if the brick could not be placed (game over)
+     */
+    public boolean start() {
+        gameOver = board.createNewBrick();
+        return gameOver;
+    }
+
+    /**
+     * Resets the board, score, level and clock and spawns a new brick.
+     * @return true if the new brick could not be placed (game over)
+     */
+    public boolean newGame() {
+        gameOver = board.newGame();
+        score.reset();
+        level.reset();
+        clock.reset();
+        dropAccumulator = 0;
+        piecesPlaced = 0;
+        totalLinesCleared = 0;
+        return gameOver;
+    }
+
+    /**
+     * Moves the current brick left.
+     * @return true if it moved
+     */
+    public boolean moveLeft() {
+        return board.moveBrickLeft();
+    }
+
+    /**
+     * Moves the current brick right.
+     * @return true if it moved
+     */
+    public boolean moveRight() {
+        return board.moveBrickRight();
+    }
+
+    /**
+     * Rotates the current brick counter-clockwise.
+     * @return true if it rotated
+     */
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    /**
+     * Rotates the current brick in the given direction.
+     * @param direction turn direction
+     * @return true if it rotated
+     */
+    public boolean rotate(RotationDirection direction) {
+        return board.rotateBrick(direction);
+    }
+
+    /**
+     * Swaps the current brick with the held brick.
+     * @return true if hold was used
+     */
+    public boolean hold() {
+        return board.holdBrick();
+    }
+
+    /**
+     * Moves the current brick down one row, locking it if it cannot move.
+     * User-initiated soft drops score one point per row.
+     * @param userInput true for a soft drop, false for gravity
+     * @return null if the brick moved, otherwise the rows cleared when it locked
+     */
+    public ClearRow moveDown(boolean userInput) {
+        if (board.moveBrickDown()) {
+            if (userInput) {
+                score.add(1);
+            }
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the current brick to its landing position and locks it.
+     * Scores two points per row dropped.
+     * @return rows cleared when the brick locked
+     */
+    public ClearRow hardDrop() {
+        int dropDistance = board.hardDropBrick();
+        if (dropDistance > 0) {
+            score.add(dropDistance * 2);
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Advances the clock and applies gravity for every full drop interval.
+     * Blitz games end once the time limit is reached.
+     * @param millis milliseconds to advance
+     * @return number of gravity steps applied
+     */
+    public int tick(long millis) {
+        if (isFinished()) {
+            return 0;
+        }
+        clock.advance(millis);
+        dropAccumulator += millis;
+
+        int steps = 0;
+        int interval = getDropInterval();
+        while (dropAccumulator >= interval && !isFinished()) {
+            dropAccumulator -= interval;
+            moveDown(false);
+            interval = getDropInterval();
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Merges the brick, clears rows, updates scoring and spawns the next brick.
+     * @return rows cleared
+     */
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        int lines = clearRow.getLinesRemoved();
+        if (lines > 0) {
+            score.add(clearRow.getScoreBonus());
+            totalLinesCleared += lines;
+            if (gameMode == GameMode.BLITZ) {
+                level.addLines(lines);
+            }
+        }
+        piecesPlaced++;
+        gameOver = board.createNewBrick();
+        return clearRow;
+    }
+
+    /**
+     * Gets the gravity interval for the current mode and level.
+     * @return milliseconds between gravity steps
+     */
+    public int getDropInterval() {
+        return gameMode == GameMode.BLITZ ? level.getDropSpeed() : GameConstants.DEFAULT_DROP_SPEED;
+    }
+
+    /**
+     * Checks if the last spawned brick collided.
+     * @return true if game over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Checks if a Blitz game has used up its time.
+     * @return true if the time limit is reached
+     */
+    public boolean isTimeUp() {
+        return gameMode == GameMode.BLITZ
+                && clock.getElapsedSeconds() >= GameConstants.BLITZ_TIME_SECONDS;
+    }
+
+    /**
+     * Checks if the game has ended for any reason.
+     * @return true if game over or out of time
+     */
+    public boolean isFinished() {
+        return gameOver || isTimeUp();
+    }
+
+    /**
+     * Checks if the last spawn cleared the board (Zen mode).
+     * @return true if the board was just cleared
+     */
+    public boolean wasBoardCleared() {
+        return board.wasBoardCleared();
+    }
+
+    /**
+     * Gets current view data for rendering.
+     * @return view data
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Gets the board.
+     * @return game board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the game mode.
+     * @return game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the score counter.
+     * @return score counter
+     */
+    public ScoreCounter getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the Blitz level progression.
+     * @return level progression
+     */
+    public LevelProgression getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the logical clock.
+     * @return game clock
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of bricks locked this game.
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the total lines cleared this game.
+     * @return lines cleared
+     */
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+}
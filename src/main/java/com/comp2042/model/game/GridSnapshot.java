@@ -0,0 +1,124 @@
+package com.comp2042.model.game;
+
+/**
+ * Immutable copy of a {@link BoardGrid} at one point in time.
+ * Holds the root of the grid's persistent row vector, so taking a snapshot copies
+ * no rows; the grid copies a row, and the trie nodes above it, before writing to
+ * anything a snapshot can see. Snapshots of one grid share every unchanged row
+ * and every trie node whose rows are all unchanged.
+ */
+public final class GridSnapshot {
+
+    private final RowVector.Node root;
+    private final int shift;
+    private final int rows;
+    private final int[] columnTops;
+    private final long cellHash;
+    private final int touchedTop;
+    private final int touchedBottom;
+
+    /**
+     * Creates a snapshot. The column tops are taken over, not copied.
+     * @param root root of the row vector
+     * @param shift root shift of the row vector
+     * @param rows number of rows
+     * @param columnTops highest filled row per column
+     * @param cellHash Zobrist hash of the filled cells
+     * @param touchedTop first row still to be checked for a clear
+     * @param touchedBottom last row still to be checked for a clear
+     */
+    GridSnapshot(RowVector.Node root, int shift, int rows, int[] columnTops, long cellHash,
+                 int touchedTop, int touchedBottom) {
+        this.root = root;
+        this.shift = shift;
+        this.rows = rows;
+        this.columnTops = columnTops;
+        this.cellHash = cellHash;
+        this.touchedTop = touchedTop;
+        this.touchedBottom = touchedBottom;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return column count
+     */
+    public int getColumns() {
+        return columnTops.length;
+    }
+
+    /**
+     * Gets the value of one cell.
+     * @param row row index
+     * @param column column index
+     * @return cell color, 0 if empty
+     */
+    public int getCell(int row, int column) {
+        return RowVector.row(root, shift, row)[column];
+    }
+
+    /**
+     * Gets the Zobrist hash of the filled cells.
+     * @return cell hash
+     */
+    public long getCellHash() {
+        return cellHash;
+    }
+
+    /**
+     * Checks whether a row array is shared with another snapshot.
+     * @param other another snapshot of the same size
+     * @param row row index
+     * @return true if both hold the same row array
+     */
+    public boolean sharesRow(GridSnapshot other, int row) {
+        return RowVector.row(root, shift, row) == RowVector.row(other.root, other.shift, row);
+    }
+
+    /**
+     * Copies the cells into a new matrix.
+     * @return board matrix indexed [row][column]
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            copy[r] = RowVector.row(root, shift, r).clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the root of the captured row vector.
+     */
+    RowVector.Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the captured column tops; callers must not modify them.
+     */
+    int[] getColumnTops() {
+        return columnTops;
+    }
+
+    /**
+     * Gets the first row that was still pending a clear check.
+     */
+    int getTouchedTop() {
+        return touchedTop;
+    }
+
+    /**
+     * Gets the last row that was still pending a clear check.
+     */
+    int getTouchedBottom() {
+        return touchedBottom;
+    }
+}
@@ -1,7 +1,7 @@
 package com.comp2042.model.game;
 
 import com.comp2042.logic.bricks.Brick;
-import java.awt.Point;
+import com.comp2042.logic.bricks.PieceShape;
 
 /**
  * Manages the hold piece feature allowing players to swap current piece.
@@ -43,11 +43,19 @@ public class HoldBrickManager {
      */
     public int[][] getHoldBrickData() {
         if (holdBrick != null) {
-            return holdBrick.getShapeMatrix().get(0);
+            return holdBrick.getPiece(0).toMatrix();
         }
         return new int[0][0];
     }
 
+    /**
+     * Gets the shared shape of the held brick without copying.
+     * @return spawn rotation of the held brick, or null if none
+     */
+    public PieceShape getHoldPiece() {
+        return holdBrick != null ? holdBrick.getPiece(0) : null;
+    }
+
     /**
      * Checks if there is a brick in hold.
      * @return true if hold slot is occupied
@@ -0,0 +1,362 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.PieceTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists every final resting placement the current brick can reach.
+ * Runs a breadth-first search over (rotation, x, y) using the same moves as the
+ * board: one step left, right or down, and a turn in each {@link RotationDirection}
+ * with the {@link WallKicks} offsets. Collisions are tested against one bitmask
+ * per board row, and all search buffers are reused between calls, so enumerating
+ * a brick does not allocate. Placements that fill exactly the same cells through
+ * different rotation states are reported once.
+ * <p>
+ * Results stay valid until the next call to {@code enumerate}. Each placement
+ * keeps the move sequence that reaches it, see {@link #getPlacementPath}.
+ */
+public class PlacementEnumerator {
+
+    /** Most rotation states a brick can have */
+    private static final int MAX_ROTATIONS = 4;
+
+    /** How far left of column 0 a shape's origin can be */
+    private static final int X_OFFSET = 4;
+
+    /** How far above row 0 a shape's origin can be */
+    private static final int Y_OFFSET = 4;
+
+    private static final RotationDirection[] DIRECTIONS = RotationDirection.values();
+
+    private final int rows;
+    private final int columns;
+    private final int xStates;
+    private final int yStates;
+    private final long[] rowBits;
+    private final int[] visited;
+    private final int[] parent;
+    private final EventType[] parentMove;
+    private final int[] queue;
+    private final int[] resultX;
+    private final int[] resultY;
+    private final int[] resultRotation;
+    private final int[] resultState;
+    private int start;
+    private int generation;
+    private int pieceId;
+    private int count;
+
+    /**
+     * Creates an enumerator for boards of the given size.
+     * @param rows board rows
+     * @param columns board columns (at most 64)
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        if (columns > Long.SIZE) {
+            throw new IllegalArgumentException("Board is wider than " + Long.SIZE + " columns");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.xStates = columns + 2 * X_OFFSET;
+        this.yStates = rows + Y_OFFSET;
+        this.rowBits = new long[rows];
+        int states = MAX_ROTATIONS * xStates * yStates;
+        this.visited = new int[states];
+        this.parent = new int[states];
+        this.parentMove = new EventType[states];
+        this.queue = new int[states];
+        this.resultX = new int[states];
+        this.resultY = new int[states];
+        this.resultRotation = new int[states];
+        this.resultState = new int[states];
+    }
+
+    /**
+     * Enumerates placements for a board's current brick and position.
+     * @param board board to search
+     * @return number of placements found
+     */
+    public int enumerate(Board board) {
+        PieceShape piece = board.getCurrentPiece();
+        return enumerate(board.getBoardMatrix(), piece.getColorId(), rotationOf(piece),
+                board.getCurrentX(), board.getCurrentY());
+    }
+
+    /**
+     * Finds the rotation index of a shared brick shape.
+     * @param piece shape from {@link PieceTable}
+     * @return rotation index
+     * @throws IllegalArgumentException if the shape is not a table entry
+     */
+    public static int rotationOf(PieceShape piece) {
+        int id = piece.getColorId();
+        int rotation = 0;
+        while (PieceTable.get(id, rotation) != piece) {
+            if (++rotation == PieceTable.getRotationCount(id)) {
+                throw new IllegalArgumentException("Current brick is not a shared piece shape");
+            }
+        }
+        return rotation;
+    }
+
+    /**
+     * Enumerates placements for a brick starting at the given state.
+     * @param matrix board matrix indexed [row][column]
+     * @param pieceId brick piece id (1-7)
+     * @param rotation starting rotation
+     * @param x starting x position
+     * @param y starting y position
+     * @return number of placements found, 0 if the start position collides
+     */
+    public int enumerate(int[][] matrix, int pieceId, int rotation, int x, int y) {
+        if (matrix.length != rows || matrix[0].length != columns) {
+            throw new IllegalArgumentException("Board size does not match enumerator");
+        }
+        toRowMasks(matrix, rowBits);
+        return search(pieceId, rotation, x, y);
+    }
+
+    /**
+     * Enumerates placements on a board given as one occupancy bitmask per row
+     * (bit c set when column c is filled), e.g. a board being searched ahead.
+     * @param rowMasks row bitmasks, top row first
+     * @param pieceId brick piece id (1-7)
+     * @param rotation starting rotation
+     * @param x starting x position
+     * @param y starting y position
+     * @return number of placements found, 0 if the start position collides
+     */
+    public int enumerate(long[] rowMasks, int pieceId, int rotation, int x, int y) {
+        if (rowMasks.length != rows) {
+            throw new IllegalArgumentException("Board size does not match enumerator");
+        }
+        System.arraycopy(rowMasks, 0, rowBits, 0, rows);
+        return search(pieceId, rotation, x, y);
+    }
+
+    /**
+     * Converts a board matrix into one occupancy bitmask per row.
+     * @param matrix board matrix indexed [row][column], at most 64 columns
+     * @param rowMasks receives the row bitmasks
+     */
+    public static void toRowMasks(int[][] matrix, long[] rowMasks) {
+        for (int r = 0; r < matrix.length; r++) {
+            long bits = 0L;
+            int[] row = matrix[r];
+            for (int c = 0; c < row.length; c++) {
+                if (row[c] != 0) {
+                    bits |= 1L << c;
+                }
+            }
+            rowMasks[r] = bits;
+        }
+    }
+
+    /**
+     * Runs the search over the loaded row masks.
+     * @return number of placements found
+     */
+    private int search(int pieceId, int rotation, int x, int y) {
+        this.pieceId = pieceId;
+        count = 0;
+        if (++generation == 0) {
+            Arrays.fill(visited, 0);
+            generation = 1;
+        }
+
+        if (!fits(PieceTable.get(pieceId, rotation), x, y)) {
+            return 0;
+        }
+
+        int head = 0;
+        int tail = 0;
+        start = encode(rotation, x, y);
+        visited[start] = generation;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / (xStates * yStates);
+            int sx = (state / yStates) % xStates - X_OFFSET;
+            int sy = state % yStates - Y_OFFSET;
+            PieceShape piece = PieceTable.get(pieceId, r);
+
+            for (RotationDirection direction : DIRECTIONS) {
+                int next = WallKicks.targetRotation(pieceId, r, direction);
+                if (next == r) {
+                    continue;
+                }
+                PieceShape rotated = PieceTable.get(pieceId, next);
+                int[] kicks = WallKicks.kicks(pieceId, r, direction);
+                for (int i = 0; i < kicks.length; i += 2) {
+                    if (fits(rotated, sx + kicks[i], sy + kicks[i + 1])) {
+                        tail = visit(state, direction.getEventType(), next,
+                                sx + kicks[i], sy + kicks[i + 1], tail);
+                        break;
+                    }
+                }
+            }
+            if (fits(piece, sx - 1, sy)) {
+                tail = visit(state, EventType.LEFT, r, sx - 1, sy, tail);
+            }
+            if (fits(piece, sx + 1, sy)) {
+                tail = visit(state, EventType.RIGHT, r, sx + 1, sy, tail);
+            }
+            if (fits(piece, sx, sy + 1)) {
+                tail = visit(state, EventType.DOWN, r, sx, sy + 1, tail);
+            } else {
+                addPlacement(piece, state, r, sx, sy);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of placements found by the last call.
+     * @return placement count
+     */
+    public int getPlacementCount() {
+        return count;
+    }
+
+    /**
+     * Gets the x position of a placement.
+     * @param index placement index
+     * @return x position
+     */
+    public int getPlacementX(int index) {
+        return resultX[index];
+    }
+
+    /**
+     * Gets the landing y position of a placement.
+     * @param index placement index
+     * @return y position
+     */
+    public int getPlacementY(int index) {
+        return resultY[index];
+    }
+
+    /**
+     * Gets the rotation of a placement.
+     * @param index placement index
+     * @return rotation index
+     */
+    public int getPlacementRotation(int index) {
+        return resultRotation[index];
+    }
+
+    /**
+     * Gets the shape of a placement.
+     * @param index placement index
+     * @return shared brick shape
+     */
+    public PieceShape getPlacementPiece(int index) {
+        return PieceTable.get(pieceId, resultRotation[index]);
+    }
+
+    /**
+     * Gets the shortest move sequence from the start position to a placement.
+     * Every move is one board input: a one-cell step or a turn, see
+     * {@link RotationDirection#fromEventType}. Moves are expanded rotations first
+     * and drops last, so among shortest paths this one turns and shifts as early
+     * as possible; the brick rests after the last move,
+     * so a trailing run of {@code DOWN} moves can be replaced by a hard drop.
+     * @param index placement index
+     * @return moves in order
+     */
+    public List<EventType> getPlacementPath(int index) {
+        List<EventType> path = new ArrayList<>();
+        for (int state = resultState[index]; state != start; state = parent[state]) {
+            path.add(parentMove[state]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Queues a state if it has not been seen, remembering how it was reached.
+     * @return new queue tail
+     */
+    private int visit(int from, EventType move, int rotation, int x, int y, int tail) {
+        int state = encode(rotation, x, y);
+        if (visited[state] != generation) {
+            visited[state] = generation;
+            parent[state] = from;
+            parentMove[state] = move;
+            queue[tail++] = state;
+        }
+        return tail;
+    }
+
+    /**
+     * Packs a search state into an index.
+     */
+    private int encode(int rotation, int x, int y) {
+        return (rotation * xStates + x + X_OFFSET) * yStates + y + Y_OFFSET;
+    }
+
+    /**
+     * Checks if a shape fits at a position, with the same bounds as the board.
+     */
+    private boolean fits(PieceShape piece, int x, int y) {
+        int top = piece.getMinRow();
+        int bottom = piece.getMaxRow();
+        if (x + piece.getMinColumn() < 0 || x + piece.getMaxColumn() >= columns
+                || y + top < 0 || y + bottom >= rows) {
+            return false;
+        }
+        for (int r = top; r <= bottom; r++) {
+            if ((rowBits[y + r] & shift(piece.getRowMask(r), x)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a resting placement unless one with the same cells exists.
+     */
+    private void addPlacement(PieceShape piece, int state, int rotation, int x, int y) {
+        for (int i = 0; i < count; i++) {
+            if (sameCells(PieceTable.get(pieceId, resultRotation[i]), resultX[i], resultY[i], piece, x, y)) {
+                return;
+            }
+        }
+        resultX[count] = x;
+        resultY[count] = y;
+        resultRotation[count] = rotation;
+        resultState[count] = state;
+        count++;
+    }
+
+    /**
+     * Checks if two placed shapes cover the same board cells.
+     */
+    private static boolean sameCells(PieceShape a, int ax, int ay, PieceShape b, int bx, int by) {
+        int top = ay + a.getMinRow();
+        int height = a.getMaxRow() - a.getMinRow();
+        if (top != by + b.getMinRow() || height != b.getMaxRow() - b.getMinRow()) {
+            return false;
+        }
+        for (int i = 0; i <= height; i++) {
+            if (shift(a.getRowMask(a.getMinRow() + i), ax) != shift(b.getRowMask(b.getMinRow() + i), bx)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves a shape row mask to a board x position.
+     */
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
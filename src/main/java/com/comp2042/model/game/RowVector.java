@@ -0,0 +1,166 @@
+package com.comp2042.model.game;
+
+/**
+ * Persistent vector of grid rows behind {@link BoardGrid} snapshots.
+ * Each slot holds a row array and its fill count in a trie of 32-way nodes.
+ * A node created since the last {@link #freeze()} is updated in place; an older
+ * node may belong to a snapshot, so it is copied along the path to the slot
+ * instead. Capturing the vector is freezing it and keeping its root, and two
+ * versions can be compared by skipping every subtree they share.
+ */
+final class RowVector {
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+    static final int MASK = WIDTH - 1;
+
+    /**
+     * Trie node. Branches hold children; leaves hold rows and fill counts.
+     */
+    static final class Node {
+        final Node[] children;
+        final int[][] rows;
+        final int[] counts;
+        final Object owner;
+
+        private Node(Node[] children, int[][] rows, int[] counts, Object owner) {
+            this.children = children;
+            this.rows = rows;
+            this.counts = counts;
+            this.owner = owner;
+        }
+
+        private Node copy(Object newOwner) {
+            return children != null
+                    ? new Node(children.clone(), null, null, newOwner)
+                    : new Node(null, rows.clone(), counts.clone(), newOwner);
+        }
+    }
+
+    private final int shift;
+    private Node root;
+    private Object editToken = new Object();
+
+    /**
+     * Builds a vector over the given rows; the row arrays are referenced, not copied.
+     * @param rows row arrays
+     * @param counts fill count per row
+     */
+    RowVector(int[][] rows, int[] counts) {
+        this.shift = shiftFor(rows.length);
+        this.root = build(rows, counts, shift, 0, editToken);
+    }
+
+    /**
+     * Gets the depth of the trie as the bit shift of the root level.
+     * @param size number of slots
+     * @return root shift, a multiple of {@link #BITS}
+     */
+    static int shiftFor(int size) {
+        int shift = 0;
+        while (((long) WIDTH << shift) < size) {
+            shift += BITS;
+        }
+        return shift;
+    }
+
+    /**
+     * Gets the current root; it stays valid after later edits.
+     * @return root node
+     */
+    Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the root shift.
+     * @return root shift
+     */
+    int getShift() {
+        return shift;
+    }
+
+    /**
+     * Ends the current edit epoch, so every node reachable from the current root
+     * is copied before its next change.
+     */
+    void freeze() {
+        editToken = new Object();
+    }
+
+    /**
+     * Rebuilds every slot from the given rows, dropping all sharing.
+     * @param rows row arrays
+     * @param counts fill count per row
+     */
+    void reset(int[][] rows, int[] counts) {
+        root = build(rows, counts, shift, 0, editToken);
+    }
+
+    /**
+     * Replaces the whole content with another version of the same size.
+     * @param newRoot root of the other version
+     */
+    void setRoot(Node newRoot) {
+        root = newRoot;
+    }
+
+    /**
+     * Stores one slot, copying the nodes on its path that predate the last freeze.
+     * @param index slot index
+     * @param row row array
+     * @param count filled cells in the row
+     */
+    void set(int index, int[] row, int count) {
+        if (root.owner != editToken) {
+            root = root.copy(editToken);
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            int slot = (index >>> level) & MASK;
+            Node child = node.children[slot];
+            if (child.owner != editToken) {
+                child = child.copy(editToken);
+                node.children[slot] = child;
+            }
+            node = child;
+        }
+        node.rows[index & MASK] = row;
+        node.counts[index & MASK] = count;
+    }
+
+    /**
+     * Looks up a row in a version of the vector.
+     * @param root root of the version
+     * @param shift root shift
+     * @param index slot index
+     * @return row array
+     */
+    static int[] row(Node root, int shift, int index) {
+        return leaf(root, shift, index).rows[index & MASK];
+    }
+
+    private static Node leaf(Node root, int shift, int index) {
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = node.children[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Node build(int[][] rows, int[] counts, int level, int base, Object owner) {
+        if (level == 0) {
+            int[][] leafRows = new int[WIDTH][];
+            int[] leafCounts = new int[WIDTH];
+            int length = Math.min(WIDTH, rows.length - base);
+            System.arraycopy(rows, base, leafRows, 0, length);
+            System.arraycopy(counts, base, leafCounts, 0, length);
+            return new Node(null, leafRows, leafCounts, owner);
+        }
+        Node[] children = new Node[WIDTH];
+        for (int i = 0; i < WIDTH && base + (i << level) < rows.length; i++) {
+            children[i] = build(rows, counts, level - BITS, base + (i << level), owner);
+        }
+        return new Node(children, null, null, owner);
+    }
+}
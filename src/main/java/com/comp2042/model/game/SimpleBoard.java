@@ -1,67 +1,108 @@
 package com.comp2042.model.game;
 
 import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SeekableBrickGenerator;
 import com.comp2042.model.scoring.Score;
 import com.comp2042.model.data.ClearRow;
-import com.comp2042.model.data.NextShapeInfo;
 import com.comp2042.model.data.ViewData;
-import com.comp2042.util.MatrixOperations;
-import java.awt.*;
+import com.comp2042.util.GameConstants;
 
 /**
  * Main game board implementation managing game state and piece movement.
+ * Movement, rotation and shadow checks go through one reused collision detector
+ * with primitive coordinates, so they do not allocate. Locking a brick and clearing
+ * rows update the board matrix in place. The {@link BoardGrid} row counts limit
+ * full-line checks to the rows the locked brick covered, and its column heights give
+ * the shadow and hard-drop position without stepping down row by row.
+ * The grid also keeps a Zobrist hash of the filled cells, which
+ * {@link #getStateHash()} combines with the current brick, hold slot and sequence
+ * position to key search nodes.
+ * <p>
+ * {@link #snapshot()} captures the whole state as an immutable {@link BoardSnapshot}
+ * that shares unchanged rows with the board and earlier snapshots, and
+ * {@link #restore(BoardSnapshot)} puts it back without copying cells, for undo and
+ * search forks.
  */
 public class SimpleBoard implements Board {
 
-    private final int width;
-    private final int height;
+    private final int rows;
+    private final int columns;
+    private final int spawnX;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
     private final HoldBrickManager holdBrickManager;
-    private final Score score;
+    private Score score;
     private final GameMode gameMode;
-
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final CollisionDetector detector;
+    private final BoardGrid grid;
+    private final int[][] currentGameMatrix;
+    private final int[] clearedRowBuffer;
+    private final ClearRow noRowsCleared;
+
+    private int currentX;
+    private int currentY;
+    private long boardVersion;
+    private long bricksDrawn;
     private boolean boardCleared = false;
 
     /**
      * Creates a new game board.
-     * @param width board width in cells
-     * @param height board height in cells
+     * @param rows board height in cells, including the hidden spawn rows
+     * @param columns board width in cells
      * @param gameMode the game mode (ZEN or BLITZ)
      */
-    public SimpleBoard(int width, int height, GameMode gameMode) {
-        this.width = width;
-        this.height = height;
+    public SimpleBoard(int rows, int columns, GameMode gameMode) {
+        this(rows, columns, gameMode, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new game board with a specific brick generator.
+     * @param rows board height in cells, including the hidden spawn rows
+     * @param columns board width in cells
+     * @param gameMode the game mode (ZEN or BLITZ)
+     * @param brickGenerator source of bricks, e.g. a seeded generator for replays
+     */
+    public SimpleBoard(int rows, int columns, GameMode gameMode, BrickGenerator brickGenerator) {
+        this.rows = rows;
+        this.columns = columns;
+        this.spawnX = GameConstants.spawnX(columns);
         this.gameMode = gameMode;
-        this.currentGameMatrix = new int[width][height];
-        this.brickGenerator = new RandomBrickGenerator();
+        this.grid = new BoardGrid(rows, columns);
+        this.currentGameMatrix = grid.getMatrix();
+        this.clearedRowBuffer = new int[rows];
+        this.noRowsCleared = new ClearRow(0, currentGameMatrix, 0);
+        this.brickGenerator = brickGenerator;
         this.brickRotator = new BrickRotator();
         this.holdBrickManager = new HoldBrickManager();
-        this.score = new Score(gameMode);
+        this.detector = new CollisionDetector(currentGameMatrix);
     }
 
     @Override
     public boolean moveBrickDown() {
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-
-        if (detector.canMoveDown(brickRotator.getCurrentShape(), currentOffset)) {
-            currentOffset.translate(0, 1);
+        if (detector.canMoveDown(brickRotator.getCurrentPiece(), currentX, currentY)) {
+            currentY++;
             return true;
         }
         return false;
     }
 
     @Override
-    public boolean moveBrickLeft() {
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
+    public int hardDropBrick() {
+        int landingY = calculateShadowPosition();
+        int distance = landingY - currentY;
+        currentY = landingY;
+        return distance;
+    }
 
-        if (detector.canMoveLeft(brickRotator.getCurrentShape(), currentOffset)) {
-            currentOffset.translate(-1, 0);
+    @Override
+    public boolean moveBrickLeft() {
+        if (detector.canMoveLeft(brickRotator.getCurrentPiece(), currentX, currentY)) {
+            currentX--;
             return true;
         }
         return false;
@@ -69,10 +110,8 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean moveBrickRight() {
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-
-        if (detector.canMoveRight(brickRotator.getCurrentShape(), currentOffset)) {
-            currentOffset.translate(1, 0);
+        if (detector.canMoveRight(brickRotator.getCurrentPiece(), currentX, currentY)) {
+            currentX++;
             return true;
         }
         return false;
@@ -80,15 +119,20 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean rotateLeftBrick() {
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-
-        Point validPosition = detector.findValidRotationPosition(
-                nextShape.getShape(), currentOffset);
+        return rotateBrick(RotationDirection.COUNTER_CLOCKWISE);
+    }
 
-        if (validPosition != null) {
-            currentOffset = validPosition;
-            brickRotator.setCurrentShape(nextShape.getPosition());
+    @Override
+    public boolean rotateBrick(RotationDirection direction) {
+        int target = brickRotator.getTargetRotation(direction);
+        int[] kicks = brickRotator.getKicks(direction);
+        int kick = detector.findRotationKick(
+                brickRotator.getCurrentBrick().getPiece(target), kicks, currentX, currentY);
+
+        if (kick != CollisionDetector.NO_KICK) {
+            currentX += kicks[kick];
+            currentY += kicks[kick + 1];
+            brickRotator.setCurrentShape(target);
             return true;
         }
         return false;
@@ -96,39 +140,50 @@ public class SimpleBoard implements Board {
 
     @Override
     public int calculateShadowPosition() {
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-        return detector.calculateShadowY(brickRotator.getCurrentShape(), currentOffset);
+        PieceShape piece = brickRotator.getCurrentPiece();
+        int landingY = grid.findLandingY(piece, currentX, currentY);
+        if (landingY != BoardGrid.NO_LANDING) {
+            return landingY;
+        }
+        return detector.calculateShadowY(piece, currentX, currentY);
     }
 
     @Override
     public boolean createNewBrick() {
         boardCleared = false;
-        Brick currentBrick = brickGenerator.getBrick();
+        Brick currentBrick = drawBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(3, 0);
+        currentX = spawnX;
+        currentY = GameConstants.SPAWN_Y;
         holdBrickManager.enableHold();
 
-        CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-        boolean gameOver = detector.wouldCollide(brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(), (int) currentOffset.getY());
+        boolean gameOver = detector.wouldCollide(brickRotator.getCurrentPiece(), currentX, currentY);
 
         if (gameOver && gameMode == GameMode.ZEN) {
             clearEntireBoard();
             boardCleared = true;
 
-            detector = new CollisionDetector(currentGameMatrix);
-            gameOver = detector.wouldCollide(brickRotator.getCurrentShape(),
-                    (int) currentOffset.getX(), (int) currentOffset.getY());
+            gameOver = detector.wouldCollide(brickRotator.getCurrentPiece(), currentX, currentY);
         }
 
         return gameOver;
     }
 
+    /**
+     * Takes the next brick from the generator and counts it.
+     * @return next brick
+     */
+    private Brick drawBrick() {
+        bricksDrawn++;
+        return brickGenerator.getBrick();
+    }
+
     /**
      * Clears the entire board (used in Zen mode on game over).
      */
     private void clearEntireBoard() {
-        currentGameMatrix = new int[width][height];
+        boardVersion++;
+        grid.clear();
     }
 
     @Override
@@ -136,38 +191,71 @@ public class SimpleBoard implements Board {
         return currentGameMatrix;
     }
 
+    /**
+     * Gets the cell storage behind {@link #getBoardMatrix()}, for fixtures in this package.
+     * @return board grid
+     */
+    BoardGrid getGrid() {
+        return grid;
+    }
+
     @Override
     public ViewData getViewData() {
         int shadowY = calculateShadowPosition();
         return new ViewData(
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY(),
-                brickGenerator.getNextBrick().getShapeMatrix().get(0),
+                brickRotator.getCurrentPiece(),
+                currentX,
+                currentY,
+                getNextPiece(),
                 shadowY,
-                holdBrickManager.getHoldBrickData()
+                holdBrickManager.getHoldPiece(),
+                boardVersion
         );
     }
 
+    @Override
+    public PieceShape getCurrentPiece() {
+        return brickRotator.getCurrentPiece();
+    }
+
+    @Override
+    public int getCurrentX() {
+        return currentX;
+    }
+
+    @Override
+    public int getCurrentY() {
+        return currentY;
+    }
+
+    @Override
+    public PieceShape getNextPiece() {
+        return brickGenerator.getNextBrick().getPiece(0);
+    }
+
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(
-                currentGameMatrix,
-                brickRotator.getCurrentShape(),
-                (int) currentOffset.getX(),
-                (int) currentOffset.getY()
-        );
+        grid.merge(brickRotator.getCurrentPiece(), currentX, currentY);
+        boardVersion++;
     }
 
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int cleared = grid.clearFullRows(clearedRowBuffer);
+        if (cleared == 0) {
+            return noRowsCleared;
+        }
+        boardVersion++;
+        int scoreBonus = 50 * cleared * cleared;
+        return new ClearRow(cleared, currentGameMatrix, scoreBonus);
     }
 
     @Override
     public Score getScore() {
+        // Created on first use so headless games skip preference loading
+        if (score == null) {
+            score = new Score(gameMode);
+        }
         return score;
     }
 
@@ -181,25 +269,25 @@ public class SimpleBoard implements Board {
 
         if (!holdBrickManager.hasHoldBrick()) {
             holdBrickManager.setHoldBrick(currentBrick);
-            Brick nextBrick = brickGenerator.getBrick();
+            Brick nextBrick = drawBrick();
             brickRotator.setBrick(nextBrick);
-            currentOffset = new Point(3, 0);
+            currentX = spawnX;
+            currentY = GameConstants.SPAWN_Y;
         } else {
             Brick heldBrick = holdBrickManager.getHoldBrick();
             holdBrickManager.setHoldBrick(currentBrick);
             brickRotator.setBrick(heldBrick);
 
-            CollisionDetector detector = new CollisionDetector(currentGameMatrix);
-            int[][] currentShape = brickRotator.getCurrentShape();
+            PieceShape currentPiece = brickRotator.getCurrentPiece();
 
-            if (detector.wouldCollide(currentShape, (int) currentOffset.getX(), (int) currentOffset.getY())) {
-                int newY = (int) currentOffset.getY();
-                while (newY > 0 && detector.wouldCollide(currentShape, (int) currentOffset.getX(), newY)) {
+            if (detector.wouldCollide(currentPiece, currentX, currentY)) {
+                int newY = currentY;
+                while (newY > 0 && detector.wouldCollide(currentPiece, currentX, newY)) {
                     newY--;
                 }
 
-                if (newY >= 0 && !detector.wouldCollide(currentShape, (int) currentOffset.getX(), newY)) {
-                    currentOffset = new Point((int) currentOffset.getX(), newY);
+                if (newY >= 0 && !detector.wouldCollide(currentPiece, currentX, newY)) {
+                    currentY = newY;
                 } else {
                     holdBrickManager.setHoldBrick(heldBrick);
                     brickRotator.setBrick(currentBrick);
@@ -223,13 +311,16 @@ public class SimpleBoard implements Board {
     }
 
     @Override
-    public void newGame() {
-        currentGameMatrix = new int[width][height];
-        score.reset();
+    public boolean newGame() {
+        clearEntireBoard();
+        if (score != null) {
+            score.reset();
+        }
         holdBrickManager.reset();
         boardCleared = false;
+        bricksDrawn = 0;
         brickGenerator.reset();
-        createNewBrick();
+        return createNewBrick();
     }
 
     @Override
@@ -237,6 +328,92 @@ public class SimpleBoard implements Board {
         return boardCleared;
     }
 
+    @Override
+    public int getChangedRowsTop() {
+        return grid.getChangedTop();
+    }
+
+    @Override
+    public int getChangedRowsBottom() {
+        return grid.getChangedBottom();
+    }
+
+    @Override
+    public void resetChangedRows() {
+        grid.resetChangedRows();
+    }
+
+    /**
+     * Gets the Zobrist hash of the state a search decision depends on: filled
+     * cells, current brick, hold slot and whether hold was used, and the number of
+     * bricks drawn. The cell part is kept up to date by merges and clears, so this
+     * only XORs a few table keys.
+     * @return state hash
+     */
+    public long getStateHash() {
+        Brick held = holdBrickManager.getHoldBrick();
+        long hash = grid.getCellHash()
+                ^ ZobristKeys.piece(brickRotator.getCurrentBrick().getPieceId())
+                ^ ZobristKeys.hold(held == null ? 0 : held.getPieceId())
+                ^ ZobristKeys.position(bricksDrawn);
+        return holdBrickManager.canHold() ? hash : hash ^ ZobristKeys.holdUsed();
+    }
+
+    /**
+     * Captures the board state. Copies no rows: the grid snapshot keeps the root
+     * of the grid's persistent row vector, shared until the board next writes.
+     * @return immutable snapshot
+     */
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(grid.snapshot(),
+                brickRotator.getCurrentBrick(),
+                brickRotator.getCurrentRotation(),
+                currentX,
+                currentY,
+                holdBrickManager.getHoldBrick(),
+                holdBrickManager.canHold(),
+                bricksDrawn,
+                brickGenerator instanceof SeekableBrickGenerator
+                        ? ((SeekableBrickGenerator) brickGenerator).getPosition()
+                        : -1);
+    }
+
+    /**
+     * Puts the board back to a snapshot taken from a board of the same size,
+     * including the falling brick, hold slot and brick sequence position. A
+     * generator that cannot jump keeps its own position. The score is not part of
+     * the snapshot.
+     * @param snapshot snapshot to restore
+     * @throws IllegalArgumentException if the snapshot has another size
+     */
+    public void restore(BoardSnapshot snapshot) {
+        grid.restore(snapshot.getGrid());
+        boardVersion++;
+        brickRotator.setBrick(snapshot.getBrick());
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        currentX = snapshot.getX();
+        currentY = snapshot.getY();
+        holdBrickManager.setHoldBrick(snapshot.getHoldBrick());
+        if (snapshot.canHold()) {
+            holdBrickManager.enableHold();
+        } else {
+            holdBrickManager.disableHold();
+        }
+        bricksDrawn = snapshot.getBricksDrawn();
+        if (snapshot.getGeneratorPosition() >= 0 && brickGenerator instanceof SeekableBrickGenerator) {
+            ((SeekableBrickGenerator) brickGenerator).setPosition(snapshot.getGeneratorPosition());
+        }
+        boardCleared = false;
+    }
+
+    /**
+     * Gets the number of bricks drawn from the generator this game.
+     * @return sequence position
+     */
+    public long getBricksDrawn() {
+        return bricksDrawn;
+    }
+
     /**
      * Gets the game mode.
      * @return the game mode
@@ -0,0 +1,136 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.PieceTable;
+
+/**
+ * SRS wall kick tables.
+ * Brick rotation indices are the SRS orientations (0 = spawn, 1 = R, 2, 3 = L) and
+ * the shapes use the SRS boxes (4x4 for I, 3x3 for the others), so a turn looks up
+ * the offsets for its orientation change and tries them in order until one fits.
+ * The I brick and the J, L, S, T, Z bricks have separate quarter-turn tables, half
+ * turns share one table, and the O brick has a single state and never kicks.
+ * <p>
+ * Everything is resolved into static primitive arrays when the class loads, so a
+ * lookup is a few array reads. Offsets are (dx, dy) pairs in board coordinates,
+ * with y growing downwards.
+ */
+public final class WallKicks {
+
+    /** J, L, S, T, Z quarter turns, indexed [from * 4 + to] */
+    private static final int[][] JLSTZ_KICKS = {
+            null,
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2},     // 0 -> R
+            null,
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},        // 0 -> L
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},       // R -> 0
+            null,
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},       // R -> 2
+            null,
+            null,
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2},     // 2 -> R
+            null,
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},        // 2 -> L
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},    // L -> 0
+            null,
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},    // L -> 2
+            null
+    };
+
+    /** I quarter turns, indexed [from * 4 + to] */
+    private static final int[][] I_KICKS = {
+            null,
+            {0, 0, -2, 0, 1, 0, -2, 1, 1, -2},      // 0 -> R
+            null,
+            {0, 0, -1, 0, 2, 0, -1, -2, 2, 1},      // 0 -> L
+            {0, 0, 2, 0, -1, 0, 2, -1, -1, 2},      // R -> 0
+            null,
+            {0, 0, -1, 0, 2, 0, -1, -2, 2, 1},      // R -> 2
+            null,
+            null,
+            {0, 0, 1, 0, -2, 0, 1, 2, -2, -1},      // 2 -> R
+            null,
+            {0, 0, 2, 0, -1, 0, 2, -1, -1, 2},      // 2 -> L
+            {0, 0, 1, 0, -2, 0, 1, 2, -2, -1},      // L -> 0
+            null,
+            {0, 0, -2, 0, 1, 0, -2, 1, 1, -2},      // L -> 2
+            null
+    };
+
+    /** Half turns for every kicking brick, indexed by the starting orientation */
+    private static final int[][] HALF_TURN_KICKS = {
+            {0, 0, 0, -1, 1, -1, -1, -1, 1, 0, -1, 0},   // 0 -> 2
+            {0, 0, 1, 0, 1, -2, 1, -1, 0, -2, 0, -1},    // R -> L
+            {0, 0, 0, 1, -1, 1, 1, 1, -1, 0, 1, 0},      // 2 -> 0
+            {0, 0, -1, 0, -1, -2, -1, -1, 0, -2, 0, -1}  // L -> R
+    };
+
+    private static final int[] NO_KICK = {0, 0};
+
+    /** Piece id of the I brick, which has its own table */
+    private static final int I_PIECE_ID = 1;
+
+    private static final int DIRECTIONS = RotationDirection.values().length;
+
+    /** Target rotation index, indexed [pieceId][rotation][direction] */
+    private static final int[][][] TARGETS = new int[PieceTable.PIECE_COUNT + 1][][];
+
+    /** Kick offsets, indexed [pieceId][rotation][direction] */
+    private static final int[][][][] KICKS = new int[PieceTable.PIECE_COUNT + 1][][][];
+
+    static {
+        for (int id = 1; id <= PieceTable.PIECE_COUNT; id++) {
+            int count = PieceTable.getRotationCount(id);
+            TARGETS[id] = new int[count][DIRECTIONS];
+            KICKS[id] = new int[count][DIRECTIONS][];
+            for (int rotation = 0; rotation < count; rotation++) {
+                for (RotationDirection direction : RotationDirection.values()) {
+                    int to = (rotation + direction.getQuarterTurns()) % count;
+                    TARGETS[id][rotation][direction.ordinal()] = to;
+                    KICKS[id][rotation][direction.ordinal()] = count == 1
+                            ? NO_KICK : kicksFor(id, rotation, to, direction);
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private WallKicks() {
+    }
+
+    /**
+     * Gets the rotation index a turn leads to.
+     * @param pieceId piece id (1-7)
+     * @param rotation current rotation index
+     * @param direction turn direction
+     * @return target rotation index
+     */
+    public static int targetRotation(int pieceId, int rotation, RotationDirection direction) {
+        return TARGETS[pieceId][rotation][direction.ordinal()];
+    }
+
+    /**
+     * Gets the kick offsets to try, in order, for a turn. The returned array is
+     * shared and must not be modified.
+     * @param pieceId piece id (1-7)
+     * @param rotation current rotation index
+     * @param direction turn direction
+     * @return (dx, dy) pairs, the first always (0, 0)
+     */
+    public static int[] kicks(int pieceId, int rotation, RotationDirection direction) {
+        return KICKS[pieceId][rotation][direction.ordinal()];
+    }
+
+    /**
+     * Picks the kick table entry for an orientation change.
+     */
+    private static int[] kicksFor(int pieceId, int from, int to, RotationDirection direction) {
+        if (direction == RotationDirection.HALF_TURN) {
+            return HALF_TURN_KICKS[from];
+        }
+        int[][] table = pieceId == I_PIECE_ID ? I_KICKS : JLSTZ_KICKS;
+        return table[from * 4 + to];
+    }
+}
@@ -0,0 +1,142 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.PieceTable;
+
+/**
+ * Fixed random keys for Zobrist hashing of game states.
+ * A state hash is the XOR of the keys of its parts (filled cells, current brick,
+ * hold slot, sequence position), so adding or removing one part updates the hash
+ * with a single XOR. Keys come from a SplitMix64 stream with a fixed seed, so
+ * hashes are the same in every run and on every board instance.
+ */
+public final class ZobristKeys {
+
+    /** SplitMix64 increment (the 64-bit golden ratio) */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long SEED = 0x2042_7E75_0B0A_2D5FL;
+
+    private static final long CELL_STREAM = 1;
+    private static final long PIECE_STREAM = 2;
+    private static final long HOLD_STREAM = 3;
+    private static final long POSITION_STREAM = 4;
+
+    private static final long[] PIECE_KEYS = table(PIECE_STREAM, PieceTable.PIECE_COUNT + 1);
+    private static final long[] HOLD_KEYS = table(HOLD_STREAM, PieceTable.PIECE_COUNT + 1);
+
+    /** Key XORed in while hold has been used for the current brick */
+    private static final long HOLD_USED_KEY = key(HOLD_STREAM, PieceTable.PIECE_COUNT + 1);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ZobristKeys() {
+    }
+
+    /**
+     * Gets the key of one filled cell.
+     * @param row row index
+     * @param column column index
+     * @return cell key
+     */
+    public static long cell(int row, int column) {
+        return key(CELL_STREAM, ((long) row << 32) | column);
+    }
+
+    /**
+     * Builds the keys of every cell of a board, for table lookups in hot loops.
+     * @param rows board rows
+     * @param columns board columns
+     * @return keys indexed {@code row * columns + column}
+     */
+    public static long[] cellTable(int rows, int columns) {
+        long[] keys = new long[rows * columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                keys[r * columns + c] = cell(r, c);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Gets the key of the current brick.
+     * @param pieceId piece id (1-7)
+     * @return piece key
+     */
+    public static long piece(int pieceId) {
+        return PIECE_KEYS[pieceId];
+    }
+
+    /**
+     * Gets the key of the hold slot.
+     * @param pieceId held piece id, or 0 if the slot is empty
+     * @return hold key, 0 for an empty slot
+     */
+    public static long hold(int pieceId) {
+        return pieceId == 0 ? 0L : HOLD_KEYS[pieceId];
+    }
+
+    /**
+     * Gets the key marking that hold was already used for the current brick.
+     * @return hold-used key
+     */
+    public static long holdUsed() {
+        return HOLD_USED_KEY;
+    }
+
+    /**
+     * Gets the key of a brick sequence position.
+     * @param position number of bricks drawn from the generator
+     * @return position key
+     */
+    public static long position(long position) {
+        return key(POSITION_STREAM, position);
+    }
+
+    /**
+     * Computes the hash of the filled cells of row bitmasks.
+     * @param rowMasks row bitmasks, top row first
+     * @param cellKeys keys from {@link #cellTable}
+     * @param columns board columns
+     * @return cell hash
+     */
+    public static long hashRows(long[] rowMasks, long[] cellKeys, int columns) {
+        long hash = 0L;
+        for (int r = 0; r < rowMasks.length; r++) {
+            long bits = rowMasks[r];
+            while (bits != 0) {
+                hash ^= cellKeys[r * columns + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Builds a small key table for one stream.
+     */
+    private static long[] table(long stream, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(stream, i);
+        }
+        return keys;
+    }
+
+    /**
+     * Derives the key at an index of a stream.
+     */
+    private static long key(long stream, long index) {
+        return mix(mix(SEED + stream * GOLDEN_GAMMA) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * SplitMix64 output function.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
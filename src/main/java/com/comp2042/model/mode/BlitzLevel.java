@@ -6,22 +6,35 @@ import javafx.beans.property.SimpleIntegerProperty;
 /**
  * Manages Blitz mode level progression system.
  * Tracks current level, lines cleared, and calculates drop speed based on level.
+ * The rules live in {@link LevelProgression}; this class mirrors its state into
+ * JavaFX properties for binding. The progression can be shared with a
+ * {@link com.comp2042.model.game.GameEngine}, which then counts the lines and
+ * this class only reflects them after {@link #refresh()}.
  */
 public class BlitzLevel {
+    private final LevelProgression progression;
     private final IntegerProperty level = new SimpleIntegerProperty(1);
     private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
     private final IntegerProperty linesNeeded = new SimpleIntegerProperty(3);
 
-    private static final int[] LINES_PER_LEVEL = {3, 5, 7, 9, 12, 15, 18, 22, 26, 30, 35, 40, 45, 50};
-    private static final int[] SPEED_PER_LEVEL = {400, 350, 300, 250, 200, 150, 120, 100, 80, 60, 50, 45, 40, 35};
-
     /**
      * Constructs a new BlitzLevel starting at level 1.
      */
     public BlitzLevel() {
+        this.progression = new LevelProgression();
         reset();
     }
 
+    /**
+     * Constructs a BlitzLevel showing an existing progression, keeping its state.
+     *
+     * @param progression level progression, usually the engine's
+     */
+    public BlitzLevel(LevelProgression progression) {
+        this.progression = progression;
+        syncProperties();
+    }
+
     /**
      * Adds cleared lines and updates level if threshold is reached.
      * Automatically handles level progression and overflow lines.
@@ -29,36 +42,25 @@ public class BlitzLevel {
      * @param lines number of lines to add
      */
     public void addLines(int lines) {
-        if (lines < 0) {
-            return;
-        }
-
-        int currentLines = linesCleared.get() + lines;
-        linesCleared.set(currentLines);
-
-        while (linesCleared.get() >= linesNeeded.get()) {
-            levelUp();
-        }
+        progression.addLines(lines);
+        syncProperties();
     }
 
     /**
-     * Progresses to the next level.
-     * Updates lines needed and carries over overflow lines.
+     * Updates the bound properties after the progression changed elsewhere,
+     * e.g. when the engine counted cleared lines.
      */
-    private void levelUp() {
-        int currentLevel = level.get();
-        int nextLevel = currentLevel + 1;
-
-        int overflow = linesCleared.get() - linesNeeded.get();
-        linesCleared.set(overflow);
-
-        level.set(nextLevel);
+    public void refresh() {
+        syncProperties();
+    }
 
-        if (nextLevel - 1 < LINES_PER_LEVEL.length) {
-            linesNeeded.set(LINES_PER_LEVEL[nextLevel - 1]);
-        } else {
-            linesNeeded.set(linesNeeded.get() + 5);
-        }
+    /**
+     * Copies the progression state into the bound properties.
+     */
+    private void syncProperties() {
+        linesCleared.set(progression.getLinesCleared());
+        linesNeeded.set(progression.getLinesNeeded());
+        level.set(progression.getLevel());
     }
 
     /**
@@ -67,21 +69,15 @@ public class BlitzLevel {
      * @return drop speed in milliseconds
      */
     public int getDropSpeed() {
-        int currentLevel = level.get();
-        if (currentLevel - 1 < SPEED_PER_LEVEL.length) {
-            return SPEED_PER_LEVEL[currentLevel - 1];
-        } else {
-            return Math.max(30, 35 - (currentLevel - SPEED_PER_LEVEL.length) * 2);
-        }
+        return progression.getDropSpeed();
     }
 
     /**
      * Resets level system to initial state (level 1).
      */
     public void reset() {
-        level.set(1);
-        linesCleared.set(0);
-        linesNeeded.set(LINES_PER_LEVEL[0]);
+        progression.reset();
+        syncProperties();
     }
 
     /**
@@ -117,7 +113,7 @@ public class BlitzLevel {
      * @return current level
      */
     public int getLevel() {
-        return level.get();
+        return progression.getLevel();
     }
 
     /**
@@ -126,7 +122,7 @@ public class BlitzLevel {
      * @return lines cleared
      */
     public int getLinesCleared() {
-        return linesCleared.get();
+        return progression.getLinesCleared();
     }
 
     /**
@@ -135,7 +131,7 @@ public class BlitzLevel {
      * @return lines needed
      */
     public int getLinesNeeded() {
-        return linesNeeded.get();
+        return progression.getLinesNeeded();
     }
 
     /**
@@ -144,6 +140,6 @@ public class BlitzLevel {
      * @return progress string
      */
     public String getProgressText() {
-        return linesCleared.get() + "/" + linesNeeded.get();
+        return progression.getLinesCleared() + "/" + progression.getLinesNeeded();
     }
-}
\ No newline at end of file
+}
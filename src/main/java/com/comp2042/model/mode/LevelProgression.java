@@ -0,0 +1,105 @@
+package com.comp2042.model.mode;
+
+/**
+ * Blitz level progression rules without UI dependencies.
+ * Tracks current level, lines cleared, and calculates drop speed based on level.
+ * {@link BlitzLevel} wraps it with JavaFX properties for binding.
+ */
+public class LevelProgression {
+
+    private static final int[] LINES_PER_LEVEL = {3, 5, 7, 9, 12, 15, 18, 22, 26, 30, 35, 40, 45, 50};
+    private static final int[] SPEED_PER_LEVEL = {400, 350, 300, 250, 200, 150, 120, 100, 80, 60, 50, 45, 40, 35};
+
+    private int level;
+    private int linesCleared;
+    private int linesNeeded;
+
+    /**
+     * Constructs a new progression starting at level 1.
+     */
+    public LevelProgression() {
+        reset();
+    }
+
+    /**
+     * Adds cleared lines and updates level if threshold is reached.
+     * Overflow lines carry over into the next level.
+     *
+     * @param lines number of lines to add
+     */
+    public void addLines(int lines) {
+        if (lines < 0) {
+            return;
+        }
+
+        linesCleared += lines;
+
+        while (linesCleared >= linesNeeded) {
+            levelUp();
+        }
+    }
+
+    /**
+     * Progresses to the next level.
+     * Updates lines needed and carries over overflow lines.
+     */
+    private void levelUp() {
+        linesCleared -= linesNeeded;
+        level++;
+
+        if (level - 1 < LINES_PER_LEVEL.length) {
+            linesNeeded = LINES_PER_LEVEL[level - 1];
+        } else {
+            linesNeeded += 5;
+        }
+    }
+
+    /**
+     * Calculates drop speed for current level in milliseconds.
+     *
+     * @return drop speed in milliseconds
+     */
+    public int getDropSpeed() {
+        if (level - 1 < SPEED_PER_LEVEL.length) {
+            return SPEED_PER_LEVEL[level - 1];
+        } else {
+            return Math.max(30, 35 - (level - SPEED_PER_LEVEL.length) * 2);
+        }
+    }
+
+    /**
+     * Resets progression to initial state (level 1).
+     */
+    public void reset() {
+        level = 1;
+        linesCleared = 0;
+        linesNeeded = LINES_PER_LEVEL[0];
+    }
+
+    /**
+     * Gets current level value.
+     *
+     * @return current level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets current lines cleared in this level.
+     *
+     * @return lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets lines needed to reach next level.
+     *
+     * @return lines needed
+     */
+    public int getLinesNeeded() {
+        return linesNeeded;
+    }
+}
@@ -0,0 +1,142 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.model.data.MoveEvent;
+
+/**
+ * Binary replay layout shared by {@link ReplayWriter} and {@link ReplayReader}.
+ * <p>
+ * A replay starts with a header: the magic number, a version byte, the game mode
+ * ordinal, the board rows and columns as 32-bit ints and the 64-bit brick
+ * generator seed (all big-endian). Every event after it
+ * is a single unsigned LEB128 varint holding {@code (timeDelta << 3) | action},
+ * where the time delta is in milliseconds since the previous event. Inputs a few
+ * milliseconds apart therefore take one byte, and most others two. Action code
+ * {@link #ACTION_EXTENDED} is followed by one more byte selecting a less frequent
+ * action, so the common ones keep their 3-bit codes.
+ */
+public final class ReplayFormat {
+
+    /** File magic: "TRPL" */
+    public static final int MAGIC = 0x5452504C;
+
+    /** Current format version */
+    public static final byte VERSION = 5;
+
+    /** Header size in bytes */
+    public static final int HEADER_SIZE = 4 + 1 + 1 + 4 + 4 + 8;
+
+    /** Soft drop by the player */
+    public static final int ACTION_DOWN = 0;
+
+    /** Move left */
+    public static final int ACTION_LEFT = 1;
+
+    /** Move right */
+    public static final int ACTION_RIGHT = 2;
+
+    /** Rotate clockwise, the primary rotate keys */
+    public static final int ACTION_ROTATE_CW = 3;
+
+    /** Hard drop */
+    public static final int ACTION_HARD_DROP = 4;
+
+    /** Hold */
+    public static final int ACTION_HOLD = 5;
+
+    /** Gravity tick from the game loop */
+    public static final int ACTION_GRAVITY = 6;
+
+    /** Escape code: the actual action is this plus the byte that follows */
+    static final int ACTION_EXTENDED = 7;
+
+    /** Game restarted with the same seed */
+    public static final int ACTION_NEW_GAME = ACTION_EXTENDED;
+
+    /** Rotate counter-clockwise */
+    public static final int ACTION_ROTATE = ACTION_EXTENDED + 1;
+
+    /** Rotate 180 degrees */
+    public static final int ACTION_ROTATE_180 = ACTION_EXTENDED + 2;
+
+    /** Number of bits used by the action code */
+    static final int ACTION_BITS = 3;
+
+    /** Mask for the action code */
+    static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+
+    /** Longest varint for a 64-bit value */
+    static final int MAX_VARINT_BYTES = 10;
+
+    /** Longest encoded event: a varint and an extension byte */
+    static final int MAX_EVENT_BYTES = MAX_VARINT_BYTES + 1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Gets the action code for a move event.
+     *
+     * @param event move event
+     * @return action code
+     */
+    public static int actionOf(MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN:
+                return event.getEventSource() == EventSource.THREAD ? ACTION_GRAVITY : ACTION_DOWN;
+            case LEFT:
+                return ACTION_LEFT;
+            case RIGHT:
+                return ACTION_RIGHT;
+            case ROTATE:
+                return ACTION_ROTATE;
+            case ROTATE_CW:
+                return ACTION_ROTATE_CW;
+            case ROTATE_180:
+                return ACTION_ROTATE_180;
+            case HARD_DROP:
+                return ACTION_HARD_DROP;
+            case HOLD:
+                return ACTION_HOLD;
+            default:
+                throw new IllegalArgumentException("Unknown event type: " + event.getEventType());
+        }
+    }
+
+    /**
+     * Rebuilds the move event for an action code.
+     *
+     * @param action action code
+     * @return move event, or null for {@link #ACTION_NEW_GAME}
+     */
+    public static MoveEvent toMoveEvent(int action) {
+        switch (action) {
+            case ACTION_DOWN:
+                return new MoveEvent(EventType.DOWN, EventSource.USER);
+            case ACTION_LEFT:
+                return new MoveEvent(EventType.LEFT, EventSource.USER);
+            case ACTION_RIGHT:
+                return new MoveEvent(EventType.RIGHT, EventSource.USER);
+            case ACTION_ROTATE:
+                return new MoveEvent(EventType.ROTATE, EventSource.USER);
+            case ACTION_ROTATE_CW:
+                return new MoveEvent(EventType.ROTATE_CW, EventSource.USER);
+            case ACTION_ROTATE_180:
+                return new MoveEvent(EventType.ROTATE_180, EventSource.USER);
+            case ACTION_HARD_DROP:
+                return new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+            case ACTION_HOLD:
+                return new MoveEvent(EventType.HOLD, EventSource.USER);
+            case ACTION_GRAVITY:
+                return new MoveEvent(EventType.DOWN, EventSource.THREAD);
+            case ACTION_NEW_GAME:
+                return null;
+            default:
+                throw new IllegalArgumentException("Unknown action code: " + action);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.model.data.MoveEvent;
+import com.comp2042.util.GameConstants;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads a replay written by {@link ReplayWriter}, one event at a time.
+ * <pre>
+ * while (reader.next()) {
+ *     reader.getTimeMillis(); reader.getAction(); reader.getMoveEvent();
+ * }
+ * </pre>
+ */
+public class ReplayReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final long seed;
+    private final GameMode gameMode;
+    private final int rows;
+    private final int columns;
+
+    private boolean endOfInput;
+    private long timeMillis;
+    private int action;
+
+    /**
+     * Opens a replay and reads its header.
+     *
+     * @param channel source channel, closed with the reader
+     * @throws IOException if the header is missing or not a supported replay
+     */
+    public ReplayReader(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.flip();
+        if (!ensure(ReplayFormat.HEADER_SIZE)) {
+            throw new EOFException("Replay header is truncated");
+        }
+        if (buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        byte version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        this.gameMode = GameMode.values()[buffer.get()];
+        this.rows = buffer.getInt();
+        this.columns = buffer.getInt();
+        if (rows < GameConstants.MIN_BOARD_ROWS || columns < GameConstants.MIN_BOARD_COLUMNS
+                || columns > GameConstants.MAX_BOARD_COLUMNS) {
+            throw new IOException("Unsupported replay board size: " + rows + "x" + columns);
+        }
+        this.seed = buffer.getLong();
+    }
+
+    /**
+     * Advances to the next event.
+     *
+     * @return true if an event was read, false at the end of the replay
+     * @throws IOException if reading fails or the last event is truncated
+     */
+    public boolean next() throws IOException {
+        if (!ensure(1)) {
+            return false;
+        }
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (!ensure(1)) {
+                throw new EOFException("Replay event is truncated");
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift >= Long.SIZE) {
+                throw new IOException("Malformed replay event");
+            }
+        }
+        action = (int) (value & ReplayFormat.ACTION_MASK);
+        if (action == ReplayFormat.ACTION_EXTENDED) {
+            if (!ensure(1)) {
+                throw new EOFException("Replay event is truncated");
+            }
+            action += buffer.get() & 0xFF;
+        }
+        timeMillis += value >>> ReplayFormat.ACTION_BITS;
+        return true;
+    }
+
+    /**
+     * Makes sure the buffer holds at least the given number of bytes.
+     *
+     * @param bytes bytes needed
+     * @return false if the channel ended first
+     * @throws IOException if reading fails
+     */
+    private boolean ensure(int bytes) throws IOException {
+        while (buffer.remaining() < bytes && !endOfInput) {
+            buffer.compact();
+            if (channel.read(buffer) < 0) {
+                endOfInput = true;
+            }
+            buffer.flip();
+        }
+        return buffer.remaining() >= bytes;
+    }
+
+    /**
+     * Gets the brick generator seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the game mode.
+     *
+     * @return game mode
+     */
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * Gets the number of board rows the game was played on.
+     *
+     * @return board rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns the game was played on.
+     *
+     * @return board columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the time of the current event relative to the start of the replay.
+     *
+     * @return milliseconds since the first spawn
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Gets the action code of the current event.
+     *
+     * @return action code from {@link ReplayFormat}
+     */
+    public int getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the current event as a move event.
+     *
+     * @return move event, or null for a new game marker
+     */
+    public MoveEvent getMoveEvent() {
+        return ReplayFormat.toMoveEvent(action);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
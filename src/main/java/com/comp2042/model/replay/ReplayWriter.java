@@ -0,0 +1,160 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.model.data.MoveEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a game as a compact binary replay (see {@link ReplayFormat}).
+ * Events are encoded into an in-memory buffer on the calling thread; full or
+ * flushed buffers are written to the channel by a background thread, so the FX
+ * thread never blocks on I/O. Not thread-safe: record from one thread only.
+ */
+public class ReplayWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final WritableByteChannel channel;
+    private final ExecutorService ioExecutor;
+    private final ConcurrentLinkedQueue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private volatile IOException failure;
+
+    private ByteBuffer buffer;
+    private long lastTimeMillis;
+    private boolean closed;
+
+    /**
+     * Creates a writer and queues the replay header.
+     *
+     * @param channel destination channel, closed with the writer
+     * @param seed brick generator seed
+     * @param gameMode game mode
+     * @param rows board rows
+     * @param columns board columns
+     * @param startTimeMillis time of the first brick spawn
+     */
+    public ReplayWriter(WritableByteChannel channel, long seed, GameMode gameMode,
+                        int rows, int columns, long startTimeMillis) {
+        this.channel = channel;
+        this.ioExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "replay-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.lastTimeMillis = startTimeMillis;
+
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put(ReplayFormat.VERSION);
+        buffer.put((byte) gameMode.ordinal());
+        buffer.putInt(rows);
+        buffer.putInt(columns);
+        buffer.putLong(seed);
+    }
+
+    /**
+     * Records a move event.
+     *
+     * @param event move event
+     * @param timeMillis event time in milliseconds (monotonic)
+     */
+    public void record(MoveEvent event, long timeMillis) {
+        recordAction(ReplayFormat.actionOf(event), timeMillis);
+    }
+
+    /**
+     * Records a restart of the game with the same seed.
+     *
+     * @param timeMillis restart time in milliseconds (monotonic)
+     */
+    public void recordNewGame(long timeMillis) {
+        recordAction(ReplayFormat.ACTION_NEW_GAME, timeMillis);
+    }
+
+    /**
+     * Appends one event varint.
+     *
+     * @param action action code
+     * @param timeMillis event time
+     */
+    private void recordAction(int action, long timeMillis) {
+        if (closed) {
+            throw new IllegalStateException("Replay writer is closed");
+        }
+        long delta = Math.max(0, timeMillis - lastTimeMillis);
+        lastTimeMillis = timeMillis;
+
+        if (buffer.remaining() < ReplayFormat.MAX_EVENT_BYTES) {
+            flush();
+        }
+        boolean extended = action >= ReplayFormat.ACTION_EXTENDED;
+        long value = (delta << ReplayFormat.ACTION_BITS)
+                | (extended ? ReplayFormat.ACTION_EXTENDED : action);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+        if (extended) {
+            buffer.put((byte) (action - ReplayFormat.ACTION_EXTENDED));
+        }
+    }
+
+    /**
+     * Hands the buffered events to the background thread for writing.
+     */
+    public void flush() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        ByteBuffer full = buffer;
+        ByteBuffer next = freeBuffers.poll();
+        buffer = next != null ? next : ByteBuffer.allocate(BUFFER_SIZE);
+
+        full.flip();
+        ioExecutor.execute(() -> {
+            try {
+                while (full.hasRemaining()) {
+                    channel.write(full);
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                    System.err.println("Error writing replay: " + e.getMessage());
+                }
+            }
+            full.clear();
+            freeBuffers.offer(full);
+        });
+    }
+
+    /**
+     * Flushes remaining events, waits for pending writes and closes the channel.
+     *
+     * @throws IOException if any write failed or the channel could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        ioExecutor.shutdown();
+        try {
+            ioExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -8,8 +8,9 @@ import java.util.prefs.Preferences;
 /**
  * Manages game scoring system with persistent high scores.
  * Tracks current score and high score separately for each game mode.
+ * Adds JavaFX properties and preference storage on top of {@link ScoreCounter}.
  */
-public final class Score {
+public final class Score extends ScoreCounter {
 
     private final IntegerProperty score = new SimpleIntegerProperty(0);
     private final IntegerProperty highScore = new SimpleIntegerProperty(0);
@@ -23,9 +24,20 @@ public final class Score {
      * @param gameMode the game mode (ZEN or BLITZ)
      */
     public Score(GameMode gameMode) {
+        this(gameMode, Preferences.userNodeForPackage(Score.class));
+    }
+
+    /**
+     * Constructs a Score manager backed by the given preferences node.
+     *
+     * @param gameMode the game mode
+     * @param prefs preferences holding saved high scores
+     */
+    private Score(GameMode gameMode, Preferences prefs) {
+        super(loadHighScore(prefs, getHighScoreKey(gameMode)));
         this.gameMode = gameMode;
-        prefs = Preferences.userNodeForPackage(Score.class);
-        loadHighScore();
+        this.prefs = prefs;
+        highScore.setValue(getHighScore());
     }
 
     /**
@@ -52,34 +64,40 @@ public final class Score {
      *
      * @param points points to add
      */
+    @Override
     public void add(int points) {
-        int newScore = score.getValue() + points;
-        score.setValue(newScore);
+        int previousHighScore = getHighScore();
+        super.add(points);
+        score.setValue(getScore());
 
-        if (newScore > highScore.getValue()) {
-            highScore.setValue(newScore);
+        if (getHighScore() > previousHighScore) {
+            highScore.setValue(getHighScore());
             saveHighScore();
         }
     }
 
     /**
-     * Gets the preference key for current game mode.
+     * Gets the preference key for a game mode.
      *
+     * @param gameMode game mode
      * @return preference key string
      */
-    private String getHighScoreKey() {
+    private static String getHighScoreKey(GameMode gameMode) {
         return gameMode == GameMode.ZEN ? "zen_high_score" : "blitz_high_score";
     }
 
     /**
      * Loads high score from persistent storage.
+     *
+     * @param prefs preferences node
+     * @param key preference key
+     * @return saved high score, or 0 if unavailable
      */
-    private void loadHighScore() {
+    private static int loadHighScore(Preferences prefs, String key) {
         try {
-            int savedHighScore = prefs.getInt(getHighScoreKey(), 0);
-            highScore.setValue(savedHighScore);
+            return prefs.getInt(key, 0);
         } catch (Exception e) {
-            highScore.setValue(0);
+            return 0;
         }
     }
 
@@ -88,7 +106,7 @@ public final class Score {
      */
     private void saveHighScore() {
         try {
-            prefs.putInt(getHighScoreKey(), highScore.getValue());
+            prefs.putInt(getHighScoreKey(gameMode), highScore.getValue());
             prefs.flush();
         } catch (Exception e) {
             e.printStackTrace();
@@ -99,7 +117,9 @@ public final class Score {
      * Resets current score to zero.
      * High score is preserved.
      */
+    @Override
     public void reset() {
+        super.reset();
         score.setValue(0);
     }
 
@@ -0,0 +1,67 @@
+package com.comp2042.model.scoring;
+
+/**
+ * Plain score and high score counter with no UI or storage dependencies.
+ * Used directly by headless games; {@link Score} extends it with JavaFX
+ * properties and persistent high scores.
+ */
+public class ScoreCounter {
+
+    private int score;
+    private int highScore;
+
+    /**
+     * Constructs a counter with no high score.
+     */
+    public ScoreCounter() {
+        this(0);
+    }
+
+    /**
+     * Constructs a counter starting from a known high score.
+     *
+     * @param highScore initial high score
+     */
+    public ScoreCounter(int highScore) {
+        this.highScore = highScore;
+    }
+
+    /**
+     * Adds points to current score.
+     * Raises the high score if exceeded.
+     *
+     * @param points points to add
+     */
+    public void add(int points) {
+        score += points;
+        if (score > highScore) {
+            highScore = score;
+        }
+    }
+
+    /**
+     * Resets current score to zero.
+     * High score is preserved.
+     */
+    public void reset() {
+        score = 0;
+    }
+
+    /**
+     * Gets the current score.
+     *
+     * @return current score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the high score.
+     *
+     * @return high score
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+}
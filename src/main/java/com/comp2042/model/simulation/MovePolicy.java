@@ -0,0 +1,19 @@
+package com.comp2042.model.simulation;
+
+import com.comp2042.model.game.GameEngine;
+
+/**
+ * Decides the inputs of a simulated player.
+ * The runner calls {@link #act} once per decision interval; the policy may issue
+ * any number of inputs (moves, rotations, a hard drop) on the engine.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Issues inputs for the current game state.
+     *
+     * @param engine game being played
+     */
+    void act(GameEngine engine);
+}
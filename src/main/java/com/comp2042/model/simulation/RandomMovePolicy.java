@@ -0,0 +1,39 @@
+package com.comp2042.model.simulation;
+
+import com.comp2042.model.game.GameEngine;
+import java.util.SplittableRandom;
+
+/**
+ * Baseline policy: each brick gets a random rotation and horizontal shift, then
+ * is hard dropped. Seeded, so games using it are reproducible.
+ */
+public class RandomMovePolicy implements MovePolicy {
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a policy with its own random stream.
+     *
+     * @param seed random seed
+     */
+    public RandomMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void act(GameEngine engine) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.rotate();
+        }
+        int shift = random.nextInt(-5, 6);
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                engine.moveLeft();
+            } else {
+                engine.moveRight();
+            }
+        }
+        engine.hardDrop();
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.model.simulation;
+
+/**
+ * Outcome of one simulated game.
+ */
+public final class SimulationResult {
+
+    private final long seed;
+    private final int score;
+    private final int linesCleared;
+    private final int piecesPlaced;
+    private final long survivalMillis;
+    private final boolean gameOver;
+
+    /**
+     * Constructs a result.
+     *
+     * @param seed game seed
+     * @param score final score
+     * @param linesCleared total lines cleared
+     * @param piecesPlaced bricks locked
+     * @param survivalMillis game time played
+     * @param gameOver true if the game ended by topping out
+     */
+    public SimulationResult(long seed, int score, int linesCleared, int piecesPlaced,
+                            long survivalMillis, boolean gameOver) {
+        this.seed = seed;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.piecesPlaced = piecesPlaced;
+        this.survivalMillis = survivalMillis;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets the game seed, for re-running the game.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the total lines cleared.
+     *
+     * @return lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     *
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Gets the game time played.
+     *
+     * @return survival time in milliseconds
+     */
+    public long getSurvivalMillis() {
+        return survivalMillis;
+    }
+
+    /**
+     * Checks if the game ended by topping out rather than a time or piece limit.
+     *
+     * @return true if game over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
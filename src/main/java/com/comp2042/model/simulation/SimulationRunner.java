@@ -0,0 +1,148 @@
+package com.comp2042.model.simulation;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.util.GameConstants;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Plays batches of headless games in parallel on a fork/join pool.
+ * Game i of a batch uses the seed {@code SeededBrickGenerator.deriveSeed(batchSeed, i)}
+ * for both its bricks and its policy, so any game can be re-run on its own with
+ * {@link #playGame(long)}.
+ */
+public class SimulationRunner {
+
+    private final GameMode gameMode;
+    private final LongFunction<MovePolicy> policyFactory;
+    private int rows = GameConstants.BOARD_ROWS;
+    private int columns = GameConstants.BOARD_COLUMNS;
+    private long decisionIntervalMillis = 250;
+    private long maxGameMillis = 30 * 60 * 1000L;
+    private int maxPieces = 10_000;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates a runner.
+     *
+     * @param gameMode game mode to simulate
+     * @param policyFactory creates a policy for a game from its seed
+     */
+    public SimulationRunner(GameMode gameMode, LongFunction<MovePolicy> policyFactory) {
+        this.gameMode = gameMode;
+        this.policyFactory = policyFactory;
+    }
+
+    /**
+     * Sets the board size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     */
+    public void setBoardSize(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Sets how much game time passes between policy decisions.
+     *
+     * @param millis decision interval in milliseconds
+     */
+    public void setDecisionIntervalMillis(long millis) {
+        this.decisionIntervalMillis = millis;
+    }
+
+    /**
+     * Sets the game time after which a game is stopped (Zen games never top out).
+     *
+     * @param millis time limit in milliseconds
+     */
+    public void setMaxGameMillis(long millis) {
+        this.maxGameMillis = millis;
+    }
+
+    /**
+     * Sets the number of locked bricks after which a game is stopped.
+     *
+     * @param maxPieces piece limit
+     */
+    public void setMaxPieces(int maxPieces) {
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Sets the number of worker threads.
+     *
+     * @param parallelism thread count
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays a batch of games and aggregates the results.
+     *
+     * @param batchSeed seed of the batch
+     * @param games number of games
+     * @return aggregate statistics
+     */
+    public SimulationSummary run(long batchSeed, int games) {
+        return new SimulationSummary(runGames(batchSeed, games));
+    }
+
+    /**
+     * Plays a batch of games in parallel.
+     *
+     * @param batchSeed seed of the batch
+     * @param games number of games
+     * @return results in game order
+     */
+    public List<SimulationResult> runGames(long batchSeed, int games) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> LongStream.range(0, games)
+                    .parallel()
+                    .mapToObj(i -> playGame(SeededBrickGenerator.deriveSeed(batchSeed, i)))
+                    .collect(Collectors.toList()))
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a single game to completion or until a limit is reached.
+     *
+     * @param seed game seed
+     * @return game result
+     */
+    public SimulationResult playGame(long seed) {
+        SimpleBoard board = new SimpleBoard(rows, columns, gameMode, new SeededBrickGenerator(seed));
+        GameEngine engine = new GameEngine(board, gameMode);
+        MovePolicy policy = policyFactory.apply(seed);
+
+        engine.start();
+        while (!engine.isFinished()
+                && engine.getPiecesPlaced() < maxPieces
+                && engine.getClock().getElapsedMillis() < maxGameMillis) {
+            policy.act(engine);
+            if (!engine.isFinished()) {
+                engine.tick(decisionIntervalMillis);
+            }
+        }
+
+        return new SimulationResult(seed,
+                engine.getScore().getScore(),
+                engine.getTotalLinesCleared(),
+                engine.getPiecesPlaced(),
+                engine.getClock().getElapsedMillis(),
+                engine.isGameOver());
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.model.simulation;
+
+import java.util.List;
+import java.util.LongSummaryStatistics;
+
+/**
+ * Aggregate statistics over a batch of simulated games.
+ */
+public final class SimulationSummary {
+
+    private final int games;
+    private final int gameOvers;
+    private final LongSummaryStatistics score = new LongSummaryStatistics();
+    private final LongSummaryStatistics lines = new LongSummaryStatistics();
+    private final LongSummaryStatistics pieces = new LongSummaryStatistics();
+    private final LongSummaryStatistics survival = new LongSummaryStatistics();
+    private final double scoreStandardDeviation;
+
+    /**
+     * Builds a summary from individual results.
+     *
+     * @param results game results
+     */
+    public SimulationSummary(List<SimulationResult> results) {
+        int overs = 0;
+        for (SimulationResult result : results) {
+            score.accept(result.getScore());
+            lines.accept(result.getLinesCleared());
+            pieces.accept(result.getPiecesPlaced());
+            survival.accept(result.getSurvivalMillis());
+            if (result.isGameOver()) {
+                overs++;
+            }
+        }
+        this.games = results.size();
+        this.gameOvers = overs;
+
+        double mean = score.getAverage();
+        double sumSquares = 0;
+        for (SimulationResult result : results) {
+            double diff = result.getScore() - mean;
+            sumSquares += diff * diff;
+        }
+        this.scoreStandardDeviation = games > 1 ? Math.sqrt(sumSquares / (games - 1)) : 0;
+    }
+
+    /**
+     * Gets the number of games.
+     *
+     * @return game count
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended by topping out.
+     *
+     * @return game over count
+     */
+    public int getGameOvers() {
+        return gameOvers;
+    }
+
+    /**
+     * Gets score statistics.
+     *
+     * @return score min, max, mean and total
+     */
+    public LongSummaryStatistics getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the sample standard deviation of the score.
+     *
+     * @return score standard deviation
+     */
+    public double getScoreStandardDeviation() {
+        return scoreStandardDeviation;
+    }
+
+    /**
+     * Gets lines cleared statistics.
+     *
+     * @return lines statistics
+     */
+    public LongSummaryStatistics getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets pieces placed statistics.
+     *
+     * @return pieces statistics
+     */
+    public LongSummaryStatistics getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets survival time statistics in milliseconds.
+     *
+     * @return survival statistics
+     */
+    public LongSummaryStatistics getSurvival() {
+        return survival;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d gameOvers=%d score=%.1f(sd %.1f) lines=%.2f pieces=%.1f survival=%.1fs",
+                games, gameOvers, score.getAverage(), scoreStandardDeviation,
+                lines.getAverage(), pieces.getAverage(), survival.getAverage() / 1000.0);
+    }
+}
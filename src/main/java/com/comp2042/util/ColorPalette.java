@@ -1,11 +1,14 @@
 package com.comp2042.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 
 /**
  * Centralized color management for Tetris bricks and UI elements.
- * Provides color mappings for all brick types and their shadow variants.
+ * Provides color mappings for all brick types and their shadow variants, and
+ * {@link SpriteAtlas} images of the cells at the current UI scale.
  */
 public class ColorPalette {
 
@@ -29,6 +32,10 @@ public class ColorPalette {
     private static final Paint SHADOW_BEIGE = Color.rgb(245, 245, 220, 0.6);
     private static final Paint SHADOW_BROWN = Color.rgb(222, 184, 135, 0.6);
 
+    // Sprite atlases by cell size, all at uiScale
+    private static final Map<Integer, SpriteAtlas> ATLASES = new HashMap<>();
+    private static double uiScale = 1.0;
+
     /**
      * Gets the fill color for a brick type.
      * Each brick type is represented by a numeric value that maps to a specific color.
@@ -69,4 +76,43 @@ public class ColorPalette {
             default: return TRANSPARENT;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets the scale the game content is shown at. Cached atlases are dropped only
+     * when the scale actually changes, and rebuilt on their next use.
+     *
+     * @param scale UI scale factor, ignored unless positive
+     */
+    public static void setUiScale(double scale) {
+        if (scale <= 0 || scale == uiScale) {
+            return;
+        }
+        uiScale = scale;
+        ATLASES.clear();
+    }
+
+    /**
+     * Gets the scale the game content is shown at.
+     *
+     * @return UI scale factor
+     */
+    public static double getUiScale() {
+        return uiScale;
+    }
+
+    /**
+     * Gets the cell sprite atlas for a cell size at the current UI scale,
+     * rendering it on first use. Must be called on the JavaFX application thread.
+     *
+     * @param cellSize cell size in layout pixels
+     * @return shared atlas
+     */
+    public static SpriteAtlas getAtlas(int cellSize) {
+        SpriteAtlas atlas = ATLASES.get(cellSize);
+        if (atlas == null) {
+            atlas = new SpriteAtlas(cellSize, uiScale);
+            ATLASES.put(cellSize, atlas);
+        }
+        return atlas;
+    }
+}
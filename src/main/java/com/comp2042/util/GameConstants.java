@@ -17,15 +17,30 @@ public class GameConstants {
     public static final double BRICK_SPACING = 1.0;
 
     // Board dimensions
-    /** Total height of game board in cells */
-    public static final int BOARD_WIDTH = 25;
+    /** Default number of board rows, including the hidden spawn rows */
+    public static final int BOARD_ROWS = 25;
 
-    /** Total width of game board in cells */
-    public static final int BOARD_HEIGHT = 10;
+    /** Default number of board columns */
+    public static final int BOARD_COLUMNS = 10;
+
+    /** Fewest rows a board can have: the spawn rows plus room for a brick */
+    public static final int MIN_BOARD_ROWS = 6;
+
+    /** Fewest columns a board can have: the width of a brick's shape box */
+    public static final int MIN_BOARD_COLUMNS = 4;
+
+    /** Most columns a board can have (one bitmask word per row in search) */
+    public static final int MAX_BOARD_COLUMNS = 64;
 
     /** First visible row (rows 0-1 are hidden spawn area) */
     public static final int VISIBLE_START_ROW = 2;
 
+    /** Column new bricks spawn at on a board of the default width */
+    public static final int SPAWN_X = 3;
+
+    /** Row new bricks spawn at; the SRS boxes then put the flat side in the first visible row */
+    public static final int SPAWN_Y = 1;
+
     // Preview panel size
     /** Size of preview panels for next/hold bricks */
     public static final int PREVIEW_PANEL_SIZE = 4;
@@ -64,6 +79,9 @@ public class GameConstants {
     /** Duration for notification movement animation in milliseconds */
     public static final int NOTIFICATION_TRANSLATE_DURATION_MS = 2500;
 
+    /** Most score notifications shown at once */
+    public static final int MAX_NOTIFICATIONS = 3;
+
     /** Duration for hover animation effects in milliseconds */
     public static final int HOVER_ANIMATION_DURATION_MS = 200;
 
@@ -71,6 +89,30 @@ public class GameConstants {
     /** Opacity level for ghost piece shadow (0.0-1.0) */
     public static final double SHADOW_OPACITY = 0.3;
 
+    /**
+     * Gets the column new bricks spawn at, keeping them centred on any board width.
+     * @param columns board columns
+     * @return spawn x position
+     */
+    public static int spawnX(int columns) {
+        return SPAWN_X + (columns - BOARD_COLUMNS) / 2;
+    }
+
+    /**
+     * Gets the cell size that fits a board into the area of the default board,
+     * never larger than {@link #BRICK_SIZE}.
+     * @param rows board rows
+     * @param columns board columns
+     * @return cell size in pixels, at least 1
+     */
+    public static int cellSize(int rows, int columns) {
+        int pitch = BRICK_SIZE + (int) BRICK_SPACING;
+        int fitWidth = BOARD_COLUMNS * pitch / columns;
+        int fitHeight = (BOARD_ROWS - VISIBLE_START_ROW) * pitch / Math.max(1, rows - VISIBLE_START_ROW);
+        int fit = Math.min(fitWidth, fitHeight) - (int) BRICK_SPACING;
+        return Math.max(1, Math.min(BRICK_SIZE, fit));
+    }
+
     /**
      * Private constructor to prevent instantiation.
      * This is a utility class with only static members.
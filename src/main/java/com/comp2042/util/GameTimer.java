@@ -1,5 +1,6 @@
 package com.comp2042.util;
 
+import com.comp2042.model.game.GameClock;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.animation.KeyFrame;
@@ -9,8 +10,12 @@ import javafx.util.Duration;
 /**
  * Timer utility for tracking elapsed time in Zen mode.
  * Provides a simple countdown/countup timer with property binding support.
+ * A timeline advances a {@link GameClock} once per second; the clock can be
+ * shared with a {@link com.comp2042.model.game.GameEngine} so the engine and the
+ * display agree on the game time.
  */
 public class GameTimer {
+    private final GameClock clock;
     private final IntegerProperty elapsedSeconds = new SimpleIntegerProperty(0);
     private Timeline timeline;
     private boolean isRunning = false;
@@ -20,6 +25,17 @@ public class GameTimer {
      * Timer starts at 0 seconds and counts upward.
      */
     public GameTimer() {
+        this(new GameClock());
+    }
+
+    /**
+     * Constructs a timer that advances the given clock.
+     *
+     * @param clock game clock to advance, usually the engine's
+     */
+    public GameTimer(GameClock clock) {
+        this.clock = clock;
+        elapsedSeconds.set(clock.getElapsedSeconds());
         timeline = new Timeline(new KeyFrame(Duration.seconds(1), e -> incrementTime()));
         timeline.setCycleCount(Timeline.INDEFINITE);
     }
@@ -51,6 +67,7 @@ public class GameTimer {
      */
     public void reset() {
         stop();
+        clock.reset();
         elapsedSeconds.set(0);
     }
 
@@ -59,7 +76,8 @@ public class GameTimer {
      * Called automatically by the timeline.
      */
     private void incrementTime() {
-        elapsedSeconds.set(elapsedSeconds.get() + 1);
+        clock.advance(1000);
+        elapsedSeconds.set(clock.getElapsedSeconds());
     }
 
     /**
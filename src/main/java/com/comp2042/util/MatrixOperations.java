@@ -1,5 +1,6 @@
 package com.comp2042.util;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.model.data.ClearRow;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -39,6 +40,26 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick shape intersects with board at given position.
+     * Walks only the filled cells of the shape and allocates nothing.
+     * @param matrix board matrix
+     * @param piece brick shape
+     * @param x x position
+     * @param y y position
+     * @return true if intersection occurs
+     */
+    public static boolean intersect(final int[][] matrix, final PieceShape piece, int x, int y) {
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int targetX = x + piece.getCellColumn(i);
+            int targetY = y + piece.getCellRow(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if position is out of board bounds.
      * @param matrix board matrix
@@ -0,0 +1,142 @@
+package com.comp2042.util;
+
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A short sound effect decoded once into PCM and held in a few pre-opened clips.
+ * Playing rewinds and starts the next clip round-robin, so it does no I/O or
+ * decoding, and a new play can overlap the last ones up to the number of clips.
+ */
+class SoundEffect {
+
+    private final AudioFormat format;
+    private final byte[] data;
+    private final Clip[] clips;
+    private int next;
+
+    /**
+     * Creates an effect from decoded audio.
+     * @param format PCM format of the data
+     * @param data PCM frames
+     * @param clips clips opened on the data, may be empty if there is no audio device
+     */
+    SoundEffect(AudioFormat format, byte[] data, Clip[] clips) {
+        this.format = format;
+        this.data = data;
+        this.clips = clips;
+    }
+
+    /**
+     * Loads a classpath sound, decodes it and opens its clips.
+     * @param resource classpath resource name
+     * @param volume volume from 0 to 1
+     * @param voices number of clips, the most plays heard at once
+     * @return the effect, or null if the resource is missing or cannot be decoded
+     */
+    static SoundEffect load(String resource, float volume, int voices) {
+        InputStream audioSrc = SoundEffect.class.getClassLoader().getResourceAsStream(resource);
+        if (audioSrc == null) {
+            System.err.println("Sound file not found: " + resource);
+            return null;
+        }
+        try (AudioInputStream audioStream = decode(audioSrc)) {
+            AudioFormat format = audioStream.getFormat();
+            byte[] data = audioStream.readAllBytes();
+            return new SoundEffect(format, data, openClips(format, data, volume, voices));
+        } catch (IOException | UnsupportedAudioFileException e) {
+            System.err.println("Error loading sound " + resource + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Opens an audio stream as signed PCM, converting compressed or unsigned
+     * encodings so the frames can be handed straight to a clip.
+     * @param audioSrc encoded audio
+     * @return PCM audio stream
+     * @throws IOException if the stream cannot be read
+     * @throws UnsupportedAudioFileException if the format is not recognised
+     */
+    static AudioInputStream decode(InputStream audioSrc) throws IOException, UnsupportedAudioFileException {
+        AudioInputStream audioStream = AudioSystem.getAudioInputStream(new BufferedInputStream(audioSrc));
+        AudioFormat source = audioStream.getFormat();
+        if (AudioFormat.Encoding.PCM_SIGNED.equals(source.getEncoding())) {
+            return audioStream;
+        }
+        AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, source.getSampleRate(), 16,
+                source.getChannels(), source.getChannels() * 2, source.getSampleRate(), false);
+        return AudioSystem.getAudioInputStream(pcm, audioStream);
+    }
+
+    /**
+     * Opens clips on the decoded data. Stops at the first clip the mixer refuses,
+     * so a machine without audio gets a silent effect instead of an error.
+     */
+    private static Clip[] openClips(AudioFormat format, byte[] data, float volume, int voices) {
+        Clip[] opened = new Clip[voices];
+        int count = 0;
+        try {
+            for (; count < voices; count++) {
+                Clip clip = AudioSystem.getClip();
+                clip.open(format, data, 0, data.length);
+                setVolume(clip, volume);
+                opened[count] = clip;
+            }
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("Sound clips unavailable: " + e.getMessage());
+        }
+        Clip[] clips = new Clip[count];
+        System.arraycopy(opened, 0, clips, 0, count);
+        return clips;
+    }
+
+    private static void setVolume(Clip clip, float volume) {
+        if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            float range = gainControl.getMaximum() - gainControl.getMinimum();
+            float gain = (range * volume) + gainControl.getMinimum();
+            gainControl.setValue(Math.min(gain, gainControl.getMaximum()));
+        }
+    }
+
+    /**
+     * Plays the effect on the next clip, cutting it off if it is still playing.
+     */
+    synchronized void play() {
+        if (clips.length == 0) {
+            return;
+        }
+        Clip clip = clips[next];
+        next = (next + 1) % clips.length;
+        clip.stop();
+        clip.setFramePosition(0);
+        clip.start();
+    }
+
+    /**
+     * Gets the decoded audio format.
+     * @return PCM format
+     */
+    AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the number of decoded bytes.
+     * @return PCM data length
+     */
+    int getDataLength() {
+        return data.length;
+    }
+
+    /**
+     * Gets the number of clips played round-robin.
+     * @return open clip count
+     */
+    int getVoices() {
+        return clips.length;
+    }
+}
@@ -3,19 +3,24 @@ package com.comp2042.util;
 import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 
 /**
  * Manages all game sound effects and background music.
  * Implements singleton pattern for global access.
+ * Sound effects are decoded and their clips opened once, in the background, when
+ * the manager is created, so playing one does no I/O.
  */
 public class SoundManager {
     private static SoundManager instance;
     private ExecutorService soundExecutor;
     private Clip backgroundMusic;
     private Clip gameOverMusic;
+    private final Future<SoundEffect> clearRowSound;
     private boolean isMusicPlaying = false;
     private boolean isGameOverMusicPlaying = false;
 
@@ -23,8 +28,12 @@ public class SoundManager {
     private static final float CLEAR_ROW_VOLUME = 0.9f;
     private static final float GAME_OVER_VOLUME = 0.8f;
 
+    /** Clear row sounds that can overlap during fast line clears */
+    private static final int CLEAR_ROW_VOICES = 3;
+
     /**
-     * Creates a new sound manager with thread pool for audio playback.
+     * Creates a new sound manager with thread pool for audio playback,
+     * and starts preloading sound effects.
      */
     public SoundManager() {
         soundExecutor = Executors.newFixedThreadPool(3, new ThreadFactory() {
@@ -35,6 +44,8 @@ public class SoundManager {
                 return thread;
             }
         });
+        clearRowSound = soundExecutor.submit(
+                () -> SoundEffect.load("sounds/clear_row.wav", CLEAR_ROW_VOLUME, CLEAR_ROW_VOICES));
     }
 
     /**
@@ -95,35 +106,20 @@ public class SoundManager {
     }
 
     /**
-     * Plays sound effect for clearing rows.
+     * Plays sound effect for clearing rows from its preloaded clips.
+     * Waits for preloading only if a row is cleared before it has finished.
      */
     public void playClearRow() {
         soundExecutor.submit(() -> {
             try {
-                InputStream audioSrc = getClass().getClassLoader().getResourceAsStream("sounds/clear_row.wav");
-                if (audioSrc == null) {
-                    System.err.println("Clear row sound file not found!");
-                    return;
-                }
-
-                InputStream bufferedIn = new BufferedInputStream(audioSrc);
-                AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioStream);
-
-                if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                    FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-                    float range = gainControl.getMaximum() - gainControl.getMinimum();
-                    float gain = (range * CLEAR_ROW_VOLUME) + gainControl.getMinimum();
-                    gainControl.setValue(Math.min(gain, gainControl.getMaximum()));
+                SoundEffect effect = clearRowSound.get();
+                if (effect != null) {
+                    effect.play();
                 }
-
-                clip.start();
-
-            } catch (Exception e) {
-                System.err.println("Error playing clear row sound: " + e.getMessage());
-                e.printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.err.println("Error playing clear row sound: " + e.getCause());
             }
         });
     }
@@ -0,0 +1,157 @@
+package com.comp2042.util;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Pre-rendered cell sprites for one cell size and UI scale, in a single
+ * {@link WritableImage}. Each color id has a sprite per {@link Variant}, painted
+ * once as a rounded square with the same arc as the Rectangle cells and sized in
+ * device pixels for the scale, so drawing a cell is one image copy.
+ * <p>
+ * Sprites sit in a grid, color ids across and variants down, with a transparent
+ * gutter around each one so filtering never picks up a neighbour.
+ * Get atlases from {@link ColorPalette#getAtlas(int)}; they are built on the
+ * JavaFX application thread.
+ */
+public final class SpriteAtlas {
+
+    /** Cell variants, one atlas row each */
+    public enum Variant {
+        /** Falling brick and previews */
+        BRICK,
+        /** Shadow (ghost) of the falling brick */
+        GHOST,
+        /** Cell locked into the board */
+        LOCKED
+    }
+
+    /** Color ids 1-7, plus one slot for unknown ids, which draw white */
+    static final int COLORS = 9;
+
+    /** Transparent pixels around each sprite */
+    static final int GUTTER = 1;
+
+    private final int cellSize;
+    private final double scale;
+    private final int spriteSize;
+    private final WritableImage image;
+
+    /**
+     * Renders the sprites.
+     * @param cellSize cell size in layout pixels
+     * @param scale UI scale the cells are shown at
+     */
+    SpriteAtlas(int cellSize, double scale) {
+        this.cellSize = cellSize;
+        this.scale = scale;
+        this.spriteSize = spriteSize(cellSize, scale);
+        this.image = render();
+    }
+
+    /**
+     * Gets the size of one sprite in device pixels.
+     * @param cellSize cell size in layout pixels
+     * @param scale UI scale
+     * @return sprite side, at least 1
+     */
+    static int spriteSize(int cellSize, double scale) {
+        return Math.max(1, (int) Math.ceil(cellSize * scale));
+    }
+
+    /**
+     * Gets the atlas slot of a color id.
+     * @param colorId cell value
+     * @return slot, with unknown ids sharing the last slot
+     */
+    static int slot(int colorId) {
+        return colorId > 0 && colorId < COLORS ? colorId : COLORS - 1;
+    }
+
+    /**
+     * Gets the cell size the atlas was built for.
+     * @return cell size in layout pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Gets the UI scale the atlas was built for.
+     * @return scale factor
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the atlas image.
+     * @return image holding every sprite
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the area of one sprite in the atlas image, e.g. as an ImageView viewport.
+     * @param colorId cell value, not 0
+     * @param variant cell variant
+     * @return sprite bounds in image pixels
+     */
+    public Rectangle2D getViewport(int colorId, Variant variant) {
+        return new Rectangle2D(sourceX(colorId), sourceY(variant), spriteSize, spriteSize);
+    }
+
+    /**
+     * Draws one cell at its layout size.
+     * @param gc target graphics context
+     * @param colorId cell value, not 0
+     * @param variant cell variant
+     * @param x left edge in the context's coordinates
+     * @param y top edge in the context's coordinates
+     */
+    public void draw(GraphicsContext gc, int colorId, Variant variant, double x, double y) {
+        gc.drawImage(image, sourceX(colorId), sourceY(variant), spriteSize, spriteSize,
+                x, y, cellSize, cellSize);
+    }
+
+    private int sourceX(int colorId) {
+        return slot(colorId) * (spriteSize + 2 * GUTTER) + GUTTER;
+    }
+
+    private int sourceY(Variant variant) {
+        return variant.ordinal() * (spriteSize + 2 * GUTTER) + GUTTER;
+    }
+
+    /**
+     * Paints every sprite onto a canvas and snapshots it.
+     */
+    private WritableImage render() {
+        int pitch = spriteSize + 2 * GUTTER;
+        Canvas canvas = new Canvas(COLORS * pitch, Variant.values().length * pitch);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double arc = GameConstants.BRICK_ARC_SIZE * scale;
+        for (Variant variant : Variant.values()) {
+            for (int id = 1; id < COLORS; id++) {
+                gc.setGlobalAlpha(variant == Variant.GHOST ? GameConstants.SHADOW_OPACITY : 1.0);
+                gc.setFill(fill(id, variant));
+                gc.fillRoundRect(sourceX(id), sourceY(variant), spriteSize, spriteSize, arc, arc);
+            }
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+
+    private static Paint fill(int colorId, Variant variant) {
+        return variant == Variant.GHOST
+                ? ColorPalette.getShadowColor(colorId)
+                : ColorPalette.getBrickColor(colorId);
+    }
+}
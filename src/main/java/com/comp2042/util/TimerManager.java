@@ -1,94 +1,77 @@
 package com.comp2042.util;
 
 import com.comp2042.enums.GameMode;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.model.game.GameClock;
 import javafx.scene.control.Label;
-import javafx.util.Duration;
 
 /**
  * Manages game timers for Blitz countdown and Zen elapsed time.
+ * Both modes run a {@link GameTimer} on the game's {@link GameClock}; the Blitz
+ * countdown is the time limit minus the clock's elapsed time.
  */
 public class TimerManager {
 
     private final GameMode gameMode;
     private final Label timerLabel;
-    private GameTimer zenTimer;
-    private Timeline blitzTimeline;
-    private int blitzTimeRemaining;
+    private final GameTimer timer;
     private Runnable onBlitzTimeUp;
     private boolean isCleanedUp = false;
 
     /**
-     * Creates a new timer manager.
+     * Creates a new timer manager with its own clock.
      * @param gameMode game mode (ZEN or BLITZ)
      * @param timerLabel label to display timer
      */
     public TimerManager(GameMode gameMode, Label timerLabel) {
+        this(gameMode, timerLabel, new GameClock());
+    }
+
+    /**
+     * Creates a new timer manager that advances the given clock.
+     * @param gameMode game mode (ZEN or BLITZ)
+     * @param timerLabel label to display timer
+     * @param clock game clock, usually the engine's
+     */
+    public TimerManager(GameMode gameMode, Label timerLabel, GameClock clock) {
         this.gameMode = gameMode;
         this.timerLabel = timerLabel;
+        this.timer = new GameTimer(clock);
 
-        if (gameMode == GameMode.ZEN) {
-            setupZenTimer();
-        } else if (gameMode == GameMode.BLITZ) {
-            setupBlitzTimer();
-        }
+        timer.elapsedSecondsProperty().addListener((observable, oldValue, newValue) -> onSecond());
+        updateLabel();
     }
 
     /**
-     * Sets up timer for Zen mode (counts up).
+     * Updates the label each second and ends a Blitz game when its time is up.
      */
-    private void setupZenTimer() {
-        zenTimer = new GameTimer();
-        zenTimer.elapsedSecondsProperty().addListener((observable, oldValue, newValue) -> {
-            if (timerLabel != null) {
-                timerLabel.setText(formatTime(newValue.intValue()));
+    private void onSecond() {
+        if (isCleanedUp) {
+            return;
+        }
+        updateLabel();
+
+        if (gameMode == GameMode.BLITZ && getBlitzTimeRemaining() <= 0) {
+            stop();
+            if (onBlitzTimeUp != null) {
+                onBlitzTimeUp.run();
             }
-        });
-        if (timerLabel != null) {
-            timerLabel.setText(formatTime(0));
         }
     }
 
     /**
-     * Sets up timer for Blitz mode (counts down).
+     * Shows elapsed time (Zen) or remaining time (Blitz).
      */
-    private void setupBlitzTimer() {
-        if (blitzTimeline != null) {
-            blitzTimeline.stop();
+    private void updateLabel() {
+        if (timerLabel == null) {
+            return;
         }
-
-        blitzTimeRemaining = GameConstants.BLITZ_TIME_SECONDS;
-        isCleanedUp = false;
-
-        if (timerLabel != null) {
-            timerLabel.setText(formatTime(blitzTimeRemaining));
-            timerLabel.setStyle("");
+        if (gameMode == GameMode.BLITZ) {
+            int remaining = getBlitzTimeRemaining();
+            timerLabel.setText(formatTime(remaining));
+            timerLabel.setStyle(remaining <= 30 ? "-fx-text-fill: #f7768e;" : "");
+        } else {
+            timerLabel.setText(formatTime(timer.elapsedSecondsProperty().get()));
         }
-
-        blitzTimeline = new Timeline(new KeyFrame(Duration.seconds(1.0), e -> {
-            if (isCleanedUp) {
-                return;
-            }
-
-            blitzTimeRemaining--;
-
-            if (timerLabel != null) {
-                timerLabel.setText(formatTime(blitzTimeRemaining));
-
-                if (blitzTimeRemaining <= 30) {
-                    timerLabel.setStyle("-fx-text-fill: #f7768e;");
-                }
-            }
-
-            if (blitzTimeRemaining <= 0) {
-                stop();
-                if (onBlitzTimeUp != null && !isCleanedUp) {
-                    onBlitzTimeUp.run();
-                }
-            }
-        }));
-        blitzTimeline.setCycleCount(Timeline.INDEFINITE);
     }
 
     /**
@@ -98,32 +81,20 @@ public class TimerManager {
         if (isCleanedUp) {
             return;
         }
-
-        if (gameMode == GameMode.ZEN && zenTimer != null) {
-            zenTimer.start();
-        } else if (gameMode == GameMode.BLITZ && blitzTimeline != null) {
-            blitzTimeline.play();
-        }
+        timer.start();
     }
 
     /**
      * Stops the timer.
      */
     public void stop() {
-        if (gameMode == GameMode.ZEN && zenTimer != null) {
-            zenTimer.stop();
-        } else if (gameMode == GameMode.BLITZ && blitzTimeline != null) {
-            blitzTimeline.stop();
-        }
+        timer.stop();
     }
 
     /**
      * Pauses the timer.
      */
     public void pause() {
-        if (gameMode == GameMode.BLITZ && blitzTimeline != null) {
-            blitzTimeline.pause();
-        }
         stop();
     }
 
@@ -138,18 +109,9 @@ public class TimerManager {
      * Resets the timer to initial state.
      */
     public void reset() {
-        if (gameMode == GameMode.ZEN && zenTimer != null) {
-            zenTimer.reset();
-            if (timerLabel != null) {
-                timerLabel.setText(formatTime(0));
-                timerLabel.setStyle("");
-            }
-        } else if (gameMode == GameMode.BLITZ) {
-            if (blitzTimeline != null) {
-                blitzTimeline.stop();
-            }
-            setupBlitzTimer();
-        }
+        timer.reset();
+        isCleanedUp = false;
+        updateLabel();
     }
 
     /**
@@ -157,13 +119,7 @@ public class TimerManager {
      */
     public void cleanup() {
         isCleanedUp = true;
-
-        if (gameMode == GameMode.ZEN && zenTimer != null) {
-            zenTimer.stop();
-        } else if (gameMode == GameMode.BLITZ && blitzTimeline != null) {
-            blitzTimeline.stop();
-            blitzTimeline = null;
-        }
+        timer.stop();
     }
 
     /**
@@ -190,6 +146,6 @@ public class TimerManager {
      * @return remaining seconds
      */
     public int getBlitzTimeRemaining() {
-        return blitzTimeRemaining;
+        return Math.max(0, GameConstants.BLITZ_TIME_SECONDS - timer.elapsedSecondsProperty().get());
     }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package com.comp2042.view.components;
 
+import com.comp2042.util.GameConstants;
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
 import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
@@ -17,24 +16,97 @@ import javafx.util.Duration;
 /**
  * Animated notification panel for displaying score bonuses.
  * Shows text that fades and floats upward before disappearing.
+ * The label, glow and transitions are built once, so a pooled panel can be shown
+ * again, and repeats of the same text can be folded into one panel ("+200 x3").
  */
 public class NotificationPanel extends BorderPane {
 
+    private static final double FLOAT_DISTANCE = 40;
+
+    private final Label score;
+    private final TranslateTransition floatUp;
+    private final ParallelTransition transition;
+    private String baseText;
+    private int repeats;
+
     /**
-     * Constructs notification panel with given text.
+     * Constructs a hidden notification panel for pooled use.
      * Applies glow effect and styling.
-     *
-     * @param text notification text to display (e.g., "+100")
      */
-    public NotificationPanel(String text) {
+    public NotificationPanel() {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
+        score.setEffect(new Glow(0.6));
         score.setTextFill(Color.WHITE);
         setCenter(score);
+        setVisible(false);
+
+        FadeTransition ft = new FadeTransition(Duration.millis(GameConstants.NOTIFICATION_DURATION_MS), this);
+        ft.setFromValue(1);
+        ft.setToValue(0);
+        floatUp = new TranslateTransition(Duration.millis(GameConstants.NOTIFICATION_TRANSLATE_DURATION_MS), this);
+        transition = new ParallelTransition(floatUp, ft);
+        transition.setOnFinished(event -> setVisible(false));
+    }
+
+    /**
+     * Constructs notification panel with given text.
+     * Applies glow effect and styling.
+     *
+     * @param text notification text to display (e.g., "+100")
+     */
+    public NotificationPanel(String text) {
+        this();
+        setText(text, 1);
+        setVisible(true);
+    }
+
+    /**
+     * Shows text from the start of the animation, replacing whatever the panel
+     * showed before.
+     *
+     * @param text notification text to display
+     */
+    public void show(String text) {
+        setText(text, 1);
+        restart();
+    }
+
+    /**
+     * Counts another showing of the current text and restarts the animation.
+     */
+    public void repeat() {
+        setText(baseText, repeats + 1);
+        restart();
+    }
+
+    /**
+     * Checks whether the panel is on screen.
+     *
+     * @return true while the animation is running
+     */
+    public boolean isShowing() {
+        return transition.getStatus() == Animation.Status.RUNNING;
+    }
+
+    /**
+     * Gets the text the panel was shown with, without a repeat count.
+     *
+     * @return notification text
+     */
+    public String getBaseText() {
+        return baseText;
+    }
+
+    /**
+     * Gets the displayed text.
+     *
+     * @return label text, including any repeat count
+     */
+    public String getText() {
+        return score.getText();
     }
 
     /**
@@ -44,18 +116,21 @@ public class NotificationPanel extends BorderPane {
      * @param list parent's children list to remove from after animation
      */
     public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
-            }
-        });
-        transition.play();
-    }
-}
\ No newline at end of file
+        transition.setOnFinished(event -> list.remove(NotificationPanel.this));
+        restart();
+    }
+
+    private void setText(String text, int count) {
+        baseText = text;
+        repeats = count;
+        score.setText(count > 1 ? text + " x" + count : text);
+    }
+
+    private void restart() {
+        setOpacity(1);
+        setTranslateY(0);
+        floatUp.setToY(getLayoutY() - FLOAT_DISTANCE);
+        setVisible(true);
+        transition.playFromStart();
+    }
+}
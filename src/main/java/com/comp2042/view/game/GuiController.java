@@ -11,9 +11,11 @@ import com.comp2042.enums.EventType;
 import com.comp2042.enums.GameMode;
 import com.comp2042.model.data.DownData;
 import com.comp2042.model.data.MoveEvent;
+import com.comp2042.model.game.GameEngine;
 import com.comp2042.util.SoundManager;
 import com.comp2042.view.components.GameOverPanel;
 import javafx.beans.property.IntegerProperty;
+import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
@@ -23,6 +25,8 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
 import java.net.URL;
 import java.util.ResourceBundle;
 
@@ -53,9 +57,12 @@ public class GuiController implements Initializable {
     private SoundManager soundManager;
 
     private GameInitializer gameInitializer;
+    private GameEngine engine;
     private GameLifecycleManager lifecycleManager;
     private InputCoordinator inputCoordinator;
     private MenuNavigator menuNavigator;
+    private Window gameWindow;
+    private final EventHandler<WindowEvent> onWindowHiding = event -> disposeGame();
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -97,6 +104,15 @@ public class GuiController implements Initializable {
         );
     }
 
+    /**
+     * Sets the engine whose level and clock the view shows.
+     * Must be called before {@link #setGameMode(GameMode)}.
+     * @param engine game engine
+     */
+    public void setEngine(GameEngine engine) {
+        this.engine = engine;
+    }
+
     /**
      * Sets the game mode.
      * @param mode game mode
@@ -108,6 +124,9 @@ public class GuiController implements Initializable {
                 uiManager, soundManager);
         lifecycleManager = new GameLifecycleManager(mode, stateManager, inputHandler,
                 uiManager, soundManager);
+        if (engine != null) {
+            gameInitializer.setEngine(engine);
+        }
 
         gameInitializer.initializeGameMode(blitzLevelLabel, blitzProgressLabel, timerLabel);
     }
@@ -148,6 +167,12 @@ public class GuiController implements Initializable {
                 gameInitializer.getRendererCoordinator()
         );
 
+        // Finish the session (e.g. its replay) if the window closes mid-game
+        if (gamePanel.getScene() != null && gamePanel.getScene().getWindow() != null) {
+            gameWindow = gamePanel.getScene().getWindow();
+            gameWindow.addEventHandler(WindowEvent.WINDOW_HIDING, onWindowHiding);
+        }
+
         inputCoordinator.setupCallbacks(
                 lifecycleManager::togglePause,
                 this::newGame,
@@ -187,6 +212,16 @@ public class GuiController implements Initializable {
         gameInitializer.getRendererCoordinator().refreshBoard(board);
     }
 
+    /**
+     * Refreshes the game background rows that changed.
+     * @param board board matrix
+     * @param top first changed row
+     * @param bottom last changed row, inclusive
+     */
+    public void refreshGameRows(int[][] board, int top, int bottom) {
+        gameInitializer.getRendererCoordinator().refreshBoardRows(board, top, bottom);
+    }
+
     /**
      * Triggers game over.
      */
@@ -224,5 +259,19 @@ public class GuiController implements Initializable {
             inputHandler.stopAllTimers();
             inputHandler.reset();
         }
+        disposeGame();
+    }
+
+    /**
+     * Releases the game session's resources and stops watching the window.
+     */
+    private void disposeGame() {
+        if (lifecycleManager != null) {
+            lifecycleManager.dispose();
+        }
+        if (gameWindow != null) {
+            gameWindow.removeEventHandler(WindowEvent.WINDOW_HIDING, onWindowHiding);
+            gameWindow = null;
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.comp2042.view.game;
 
 import com.comp2042.enums.GameMode;
+import com.comp2042.util.GameConstants;
 import com.comp2042.view.components.GameOverPanel;
 import com.comp2042.view.components.NotificationPanel;
 import javafx.beans.property.IntegerProperty;
@@ -8,6 +9,9 @@ import javafx.scene.Group;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Manages UI elements including labels, panels, and notifications.
  */
@@ -20,6 +24,8 @@ public class UIManager {
     private final Group pauseGroup;
     private final Group notificationGroup;
     private final VBox blitzLevelPanel;
+    /** Pooled notification panels, least recently shown first */
+    private final List<NotificationPanel> notifications = new ArrayList<>();
 
     /**
      * Creates a new UI manager.
@@ -101,13 +107,44 @@ public class UIManager {
     }
 
     /**
-     * Shows notification.
+     * Shows notification. Panels are pooled, up to
+     * {@link GameConstants#MAX_NOTIFICATIONS} at once: text matching one still on
+     * screen bumps its count ("+200 x3"), and when all panels are busy the oldest
+     * is reused.
      * @param text notification text
      */
     public void showNotification(String text) {
-        NotificationPanel panel = new NotificationPanel(text);
-        notificationGroup.getChildren().add(panel);
-        panel.showScore(notificationGroup.getChildren());
+        NotificationPanel panel = null;
+        for (NotificationPanel candidate : notifications) {
+            if (candidate.isShowing() && text.equals(candidate.getBaseText())) {
+                candidate.repeat();
+                moveToNewest(candidate);
+                return;
+            }
+            if (panel == null && !candidate.isShowing()) {
+                panel = candidate;
+            }
+        }
+        if (panel == null) {
+            if (notifications.size() < GameConstants.MAX_NOTIFICATIONS) {
+                panel = new NotificationPanel();
+                notificationGroup.getChildren().add(panel);
+                notifications.add(panel);
+            } else {
+                panel = notifications.get(0);
+            }
+        }
+        panel.show(text);
+        moveToNewest(panel);
+    }
+
+    /**
+     * Moves a panel to the end of the pool, so the oldest is reused first.
+     * @param panel panel just shown
+     */
+    private void moveToNewest(NotificationPanel panel) {
+        notifications.remove(panel);
+        notifications.add(panel);
     }
 
     /**
@@ -8,7 +8,8 @@ import javafx.scene.shape.Rectangle;
 
 /**
  * Handles rendering of the game board (placed bricks background).
- * Manages the grid of rectangles representing the board state.
+ * Manages the grid of rectangles representing the board state. Cells are sized
+ * with {@link GameConstants#cellSize} so larger boards fit the same panel.
  */
 public class BoardRenderer {
 
@@ -33,13 +34,11 @@ public class BoardRenderer {
     public void initialize(int[][] boardMatrix) {
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
         gamePanel.getChildren().clear();
+        int cellSize = GameConstants.cellSize(boardMatrix.length, boardMatrix[0].length);
 
         for (int i = GameConstants.VISIBLE_START_ROW; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(
-                        GameConstants.BRICK_SIZE,
-                        GameConstants.BRICK_SIZE
-                );
+                Rectangle rectangle = new Rectangle(cellSize, cellSize);
                 rectangle.setFill(Color.TRANSPARENT);
                 rectangle.setArcWidth(GameConstants.BRICK_ARC_SIZE);
                 rectangle.setArcHeight(GameConstants.BRICK_ARC_SIZE);
@@ -62,4 +61,20 @@ public class BoardRenderer {
             }
         }
     }
+
+    /**
+     * Refreshes the visible cells of a range of board rows.
+     *
+     * @param boardMatrix updated board state
+     * @param top first row to repaint
+     * @param bottom last row to repaint, inclusive
+     */
+    public void refreshRows(int[][] boardMatrix, int top, int bottom) {
+        int last = Math.min(bottom, boardMatrix.length - 1);
+        for (int i = Math.max(top, GameConstants.VISIBLE_START_ROW); i <= last; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                displayMatrix[i][j].setFill(ColorPalette.getBrickColor(boardMatrix[i][j]));
+            }
+        }
+    }
 }
@@ -1,21 +1,22 @@
 package com.comp2042.view.rendering;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.model.data.ViewData;
-import com.comp2042.util.ColorPalette;
 import com.comp2042.util.GameConstants;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Handles rendering of the active falling brick.
- * Manages brick positioning, rotation, and color updates.
+ * The brick is drawn by a fixed set of cell nodes in the game panel that are moved
+ * rather than removed and re-added, so normal movement does not change the
+ * panel's children or trigger a GridPane layout.
  */
 public class BrickRenderer {
 
     private final GridPane brickPanel;
-    private final GridPane gamePanel;
-    private Rectangle[][] rectangles;
+    private final PieceNodes cells;
+    private int boardRows = GameConstants.BOARD_ROWS;
+    private int cellSize = GameConstants.BRICK_SIZE;
 
     /**
      * Constructs brick renderer.
@@ -25,81 +26,31 @@ public class BrickRenderer {
      */
     public BrickRenderer(GridPane brickPanel, GridPane gamePanel) {
         this.brickPanel = brickPanel;
-        this.gamePanel = gamePanel;
+        this.cells = new PieceNodes(gamePanel, false);
     }
 
     /**
-     * Initializes brick rectangles based on initial brick data.
+     * Creates the brick's cell nodes. Must be called after the board cells were
+     * added, so the brick is drawn on top of them.
      *
-     * @param brickData initial brick shape matrix
+     * @param piece initial brick shape
+     * @param boardRows number of board rows
+     * @param cellSize board cell size in pixels
      */
-    public void initialize(int[][] brickData) {
-        rectangles = new Rectangle[brickData.length][brickData[0].length];
+    public void initialize(PieceShape piece, int boardRows, int cellSize) {
+        this.boardRows = boardRows;
+        this.cellSize = cellSize;
         brickPanel.getChildren().clear();
-
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle rectangle = new Rectangle(
-                        GameConstants.BRICK_SIZE,
-                        GameConstants.BRICK_SIZE
-                );
-                rectangle.setFill(ColorPalette.getBrickColor(brickData[i][j]));
-                rectangle.setArcWidth(GameConstants.BRICK_ARC_SIZE);
-                rectangle.setArcHeight(GameConstants.BRICK_ARC_SIZE);
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
-        }
+        cells.initialize(piece, cellSize);
     }
 
     /**
      * Refreshes brick display with new position and rotation.
-     * Handles brick size changes from rotation.
      *
      * @param viewData updated view data
      */
     public void refresh(ViewData viewData) {
-        // Remove old rectangles
-        for (Rectangle[] row : rectangles) {
-            for (Rectangle r : row) {
-                gamePanel.getChildren().remove(r);
-            }
-        }
-
-        int[][] brickData = viewData.getBrickData();
-
-        // Recreate if size changed
-        if (rectangles.length != brickData.length ||
-                rectangles[0].length != brickData[0].length) {
-            rectangles = new Rectangle[brickData.length][brickData[0].length];
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
-                    rectangles[i][j] = new Rectangle(
-                            GameConstants.BRICK_SIZE,
-                            GameConstants.BRICK_SIZE
-                    );
-                    rectangles[i][j].setArcWidth(GameConstants.BRICK_ARC_SIZE);
-                    rectangles[i][j].setArcHeight(GameConstants.BRICK_ARC_SIZE);
-                }
-            }
-        }
-
-        // Update and position rectangles
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (brickData[i][j] != 0) {
-                    int gridX = viewData.getxPosition() + j;
-                    int gridY = viewData.getyPosition() + i;
-
-                    if (gridY >= GameConstants.VISIBLE_START_ROW) {
-                        rectangles[i][j].setFill(ColorPalette.getBrickColor(brickData[i][j]));
-                        gamePanel.add(rectangles[i][j], gridX, gridY - GameConstants.VISIBLE_START_ROW);
-                    }
-                } else {
-                    rectangles[i][j].setFill(Color.TRANSPARENT);
-                }
-            }
-        }
+        cells.show(viewData.getBrickPiece(), viewData.getxPosition(), viewData.getyPosition(), boardRows);
     }
 
     /**
@@ -110,10 +61,11 @@ public class BrickRenderer {
     public void positionPanel(ViewData viewData) {
         double brickX = GameConstants.GAME_PANEL_X +
                 GameConstants.BRICK_PANEL_X_OFFSET +
-                viewData.getxPosition() * (GameConstants.BRICK_SIZE + 1);
+                viewData.getxPosition() * (cellSize + GameConstants.BRICK_SPACING);
         double brickY = GameConstants.GAME_PANEL_Y +
                 GameConstants.BRICK_PANEL_Y_OFFSET +
-                (viewData.getyPosition() - 2) * (GameConstants.BRICK_SIZE + 1);
+                (viewData.getyPosition() - GameConstants.VISIBLE_START_ROW)
+                        * (cellSize + GameConstants.BRICK_SPACING);
 
         brickPanel.setLayoutX(brickX);
         brickPanel.setLayoutY(brickY);
@@ -126,5 +78,6 @@ public class BrickRenderer {
      */
     public void setVisible(boolean visible) {
         brickPanel.setVisible(visible);
+        cells.setVisible(visible);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,339 @@
+package com.comp2042.view.rendering;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.util.ColorPalette;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.SpriteAtlas;
+import com.comp2042.util.SpriteAtlas.Variant;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.transform.Scale;
+
+/**
+ * Draws the board, falling brick, shadow and previews onto canvases instead of
+ * one Rectangle node per cell.
+ * The game panel holds two stacked canvases: the board canvas with the placed
+ * cells, of which only the rows a lock changed are repainted, and an overlay with
+ * the shadow and falling brick, where an input clears just the boxes the brick
+ * and shadow were drawn in before painting them again. Neither costs more with
+ * a larger board. Each preview panel holds one small canvas. Cells are copied
+ * from the {@link ColorPalette} sprite atlas, so the scene graph only sees one
+ * node per panel.
+ * <p>
+ * Canvases are sized in device pixels for the UI scale and shrunk back to layout
+ * size by a transform, so scaled-up windows stay sharp. When the scale changes
+ * the canvases are resized and redrawn from the new atlas on the next refresh.
+ */
+public class CanvasRenderer {
+
+    private static final int PREVIEW_CELL_SIZE = GameConstants.BRICK_SIZE - 2;
+
+    private final GridPane gamePanel;
+    private final GridPane nextBrickPanel;
+    private final GridPane holdBrickPanel;
+    private Canvas boardCanvas;
+    private Canvas overlayCanvas;
+    private Canvas nextCanvas;
+    private Canvas holdCanvas;
+    private SpriteAtlas atlas;
+    private SpriteAtlas previewAtlas;
+    private int cellSize;
+    private int visibleRows;
+    private int columns;
+    private double pitch;
+    private double renderScale;
+    private int[][] board;
+    private ViewData viewData;
+    private boolean brickVisible = true;
+    private PieceShape drawnPiece;
+    private int drawnX;
+    private int drawnY;
+    private int drawnShadowY;
+
+    /**
+     * Constructs canvas renderer.
+     *
+     * @param gamePanel main game panel
+     * @param nextBrickPanel panel for next brick
+     * @param holdBrickPanel panel for hold brick
+     */
+    public CanvasRenderer(GridPane gamePanel, GridPane nextBrickPanel, GridPane holdBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.nextBrickPanel = nextBrickPanel;
+        this.holdBrickPanel = holdBrickPanel;
+    }
+
+    /**
+     * Creates the canvases and draws the initial state.
+     *
+     * @param boardMatrix initial board state
+     * @param brick initial brick view data
+     */
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        columns = boardMatrix[0].length;
+        visibleRows = rows - GameConstants.VISIBLE_START_ROW;
+        cellSize = GameConstants.cellSize(rows, columns);
+        pitch = cellSize + GameConstants.BRICK_SPACING;
+        boardCanvas = new Canvas();
+        overlayCanvas = new Canvas();
+        gamePanel.getChildren().clear();
+        gamePanel.add(new Group(boardCanvas, overlayCanvas), 0, 0);
+        nextCanvas = nextBrickPanel != null ? addCanvas(nextBrickPanel) : null;
+        holdCanvas = holdBrickPanel != null ? addCanvas(holdBrickPanel) : null;
+
+        board = boardMatrix;
+        viewData = brick;
+        rescale();
+    }
+
+    /**
+     * Redraws the board with new placed cells.
+     *
+     * @param boardMatrix updated board state
+     */
+    public void refreshBoard(int[][] boardMatrix) {
+        board = boardMatrix;
+        if (!checkScale()) {
+            drawRows(0, board.length - 1);
+        }
+    }
+
+    /**
+     * Redraws a range of board rows with new placed cells.
+     *
+     * @param boardMatrix updated board state
+     * @param top first changed row
+     * @param bottom last changed row, inclusive
+     */
+    public void refreshBoardRows(int[][] boardMatrix, int top, int bottom) {
+        board = boardMatrix;
+        if (!checkScale()) {
+            drawRows(top, bottom);
+        }
+    }
+
+    /**
+     * Redraws the parts of the display named by a change mask.
+     *
+     * @param viewData updated view data
+     * @param changes {@link ViewData} change flags
+     */
+    public void refreshBrick(ViewData viewData, int changes) {
+        this.viewData = viewData;
+        if (checkScale()) {
+            return;
+        }
+        if ((changes & (ViewData.PIECE_MOVED | ViewData.PIECE_ROTATED)) != 0) {
+            drawOverlay();
+        }
+        if ((changes & ViewData.NEXT_CHANGED) != 0) {
+            drawPreview(nextCanvas, viewData.getNextBrickPiece());
+        }
+        if ((changes & ViewData.HOLD_CHANGED) != 0) {
+            drawPreview(holdCanvas, viewData.getHoldBrickPiece());
+        }
+    }
+
+    /**
+     * Shows or hides the brick and its shadow.
+     *
+     * @param visible true to show, false to hide
+     */
+    public void setVisible(boolean visible) {
+        if (brickVisible != visible) {
+            brickVisible = visible;
+            if (!checkScale()) {
+                drawOverlay();
+            }
+        }
+    }
+
+    /**
+     * Rescales and redraws everything if the UI scale changed since the last draw.
+     *
+     * @return true if everything was redrawn
+     */
+    private boolean checkScale() {
+        if (boardCanvas == null || renderScale == ColorPalette.getUiScale()) {
+            return false;
+        }
+        rescale();
+        return true;
+    }
+
+    /**
+     * Fetches the atlases for the current UI scale, resizes the canvases to match
+     * and redraws them.
+     */
+    private void rescale() {
+        renderScale = ColorPalette.getUiScale();
+        atlas = ColorPalette.getAtlas(cellSize);
+        previewAtlas = ColorPalette.getAtlas(PREVIEW_CELL_SIZE);
+        double width = extent(columns, cellSize);
+        double height = extent(visibleRows, cellSize);
+        fit(boardCanvas, width, height, renderScale);
+        fit(overlayCanvas, width, height, renderScale);
+        overlayCanvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+        drawnPiece = null;
+        double previewSide = extent(GameConstants.PREVIEW_PANEL_SIZE, PREVIEW_CELL_SIZE);
+        fit(nextCanvas, previewSide, previewSide, renderScale);
+        fit(holdCanvas, previewSide, previewSide, renderScale);
+
+        drawRows(0, board.length - 1);
+        drawOverlay();
+        if (viewData != null) {
+            drawPreview(nextCanvas, viewData.getNextBrickPiece());
+            drawPreview(holdCanvas, viewData.getHoldBrickPiece());
+        }
+    }
+
+    /**
+     * Clears and repaints the placed cells of a range of rows on the board canvas.
+     */
+    private void drawRows(int top, int bottom) {
+        if (boardCanvas == null) {
+            return;
+        }
+        int first = Math.max(top, GameConstants.VISIBLE_START_ROW);
+        int last = Math.min(bottom, board.length - 1);
+        if (first > last) {
+            return;
+        }
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        gc.clearRect(0, (first - GameConstants.VISIBLE_START_ROW) * pitch,
+                extent(columns, cellSize), extent(last - first + 1, cellSize));
+
+        for (int i = first; i <= last; i++) {
+            int[] row = board[i];
+            double y = (i - GameConstants.VISIBLE_START_ROW) * pitch;
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] != 0) {
+                    atlas.draw(gc, row[j], Variant.LOCKED, j * pitch, y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the boxes the shadow and brick were last drawn in, then paints the
+     * shadow and the falling brick at their current positions.
+     */
+    private void drawOverlay() {
+        if (overlayCanvas == null) {
+            return;
+        }
+        GraphicsContext gc = overlayCanvas.getGraphicsContext2D();
+        if (drawnPiece != null) {
+            clearPiece(gc, drawnPiece, drawnX, drawnY);
+            clearPiece(gc, drawnPiece, drawnX, drawnShadowY);
+            drawnPiece = null;
+        }
+
+        if (!brickVisible || viewData == null) {
+            return;
+        }
+        PieceShape piece = viewData.getBrickPiece();
+        int x = viewData.getxPosition();
+        if (viewData.getShadowYPosition() != viewData.getyPosition()) {
+            drawPiece(gc, piece, x, viewData.getShadowYPosition(), true);
+        }
+        drawPiece(gc, piece, x, viewData.getyPosition(), false);
+        drawnPiece = piece;
+        drawnX = x;
+        drawnY = viewData.getyPosition();
+        drawnShadowY = viewData.getShadowYPosition();
+    }
+
+    /**
+     * Clears the bounding box of a brick's filled cells on the overlay.
+     */
+    private void clearPiece(GraphicsContext gc, PieceShape piece, int x, int y) {
+        if (piece.getCellCount() == 0) {
+            return;
+        }
+        gc.clearRect((x + piece.getMinColumn()) * pitch,
+                (y + piece.getMinRow() - GameConstants.VISIBLE_START_ROW) * pitch,
+                extent(piece.getMaxColumn() - piece.getMinColumn() + 1, cellSize),
+                extent(piece.getMaxRow() - piece.getMinRow() + 1, cellSize));
+    }
+
+    /**
+     * Paints a brick's cells that fall inside the visible rows.
+     */
+    private void drawPiece(GraphicsContext gc, PieceShape piece, int x, int y, boolean shadow) {
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int row = piece.getCellRow(i);
+            int column = piece.getCellColumn(i);
+            int gridY = y + row;
+            if (gridY < GameConstants.VISIBLE_START_ROW || gridY >= board.length) {
+                continue;
+            }
+            int value = piece.getCell(row, column);
+            atlas.draw(gc, value, shadow ? Variant.GHOST : Variant.BRICK,
+                    (x + column) * pitch, (gridY - GameConstants.VISIBLE_START_ROW) * pitch);
+        }
+    }
+
+    /**
+     * Paints a brick centred in a preview canvas, or clears it if there is none.
+     */
+    private void drawPreview(Canvas canvas, PieceShape piece) {
+        if (canvas == null) {
+            return;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double side = extent(GameConstants.PREVIEW_PANEL_SIZE, PREVIEW_CELL_SIZE);
+        gc.clearRect(0, 0, side, side);
+        if (piece == null) {
+            return;
+        }
+        int size = GameConstants.PREVIEW_PANEL_SIZE;
+        int rowPadding = (size - piece.getRows()) / 2;
+        int colPadding = (size - piece.getColumns()) / 2;
+        double previewPitch = PREVIEW_CELL_SIZE + GameConstants.BRICK_SPACING;
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            int row = piece.getCellRow(i);
+            int column = piece.getCellColumn(i);
+            previewAtlas.draw(gc, piece.getCell(row, column), Variant.BRICK,
+                    (colPadding + column) * previewPitch, (rowPadding + row) * previewPitch);
+        }
+    }
+
+    /**
+     * Replaces a panel's contents with an empty canvas. The canvas sits in a Group
+     * so the panel lays it out by its transformed, layout-pixel size.
+     *
+     * @return the canvas, sized by {@link #fit}
+     */
+    private static Canvas addCanvas(GridPane panel) {
+        Canvas canvas = new Canvas();
+        panel.getChildren().clear();
+        panel.add(new Group(canvas), 0, 0);
+        return canvas;
+    }
+
+    /**
+     * Sizes a canvas in device pixels for a layout size and scale, and sets its
+     * transforms so drawing and layout both use layout pixels.
+     */
+    private static void fit(Canvas canvas, double width, double height, double scale) {
+        if (canvas == null) {
+            return;
+        }
+        canvas.setWidth(Math.ceil(width * scale));
+        canvas.setHeight(Math.ceil(height * scale));
+        canvas.getTransforms().setAll(new Scale(1 / scale, 1 / scale));
+        canvas.getGraphicsContext2D().setTransform(scale, 0, 0, scale, 0, 0);
+    }
+
+    /**
+     * Gets the pixel length of a run of cells with the grid spacing between them.
+     */
+    private static double extent(int count, int cellSize) {
+        return count * cellSize + (count - 1) * GameConstants.BRICK_SPACING;
+    }
+}
@@ -1,12 +1,17 @@
 package com.comp2042.view.rendering;
 
+import com.comp2042.enums.RenderBackend;
 import com.comp2042.model.data.ViewData;
+import com.comp2042.util.GameConstants;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 
 /**
  * Coordinates all rendering operations for the game.
- * Manages board, brick, shadow, and preview renderers.
+ * Manages board, brick, shadow, and preview renderers. Each refresh is compared
+ * with the last view drawn, and only the renderers whose part changed are run.
+ * With the {@link RenderBackend#CANVAS} backend a single {@link CanvasRenderer}
+ * takes the place of the node-based renderers.
  */
 public class GameRendererCoordinator {
 
@@ -14,9 +19,11 @@ public class GameRendererCoordinator {
     private final BrickRenderer brickRenderer;
     private final ShadowRenderer shadowRenderer;
     private final PreviewRenderer previewRenderer;
+    private final CanvasRenderer canvasRenderer;
+    private ViewData lastViewData;
 
     /**
-     * Constructs coordinator with all required panels.
+     * Constructs coordinator with all required panels, drawing with nodes.
      *
      * @param gamePanel main game board panel
      * @param brickPanel active brick overlay panel
@@ -25,10 +32,34 @@ public class GameRendererCoordinator {
      */
     public GameRendererCoordinator(GridPane gamePanel, GridPane brickPanel,
                                    GridPane nextBrickPanel, GridPane holdBrickPanel) {
-        this.boardRenderer = new BoardRenderer(gamePanel);
-        this.brickRenderer = new BrickRenderer(brickPanel, gamePanel);
-        this.shadowRenderer = new ShadowRenderer(gamePanel);
-        this.previewRenderer = new PreviewRenderer(nextBrickPanel, holdBrickPanel);
+        this(gamePanel, brickPanel, nextBrickPanel, holdBrickPanel, RenderBackend.NODES);
+    }
+
+    /**
+     * Constructs coordinator with all required panels.
+     *
+     * @param gamePanel main game board panel
+     * @param brickPanel active brick overlay panel
+     * @param nextBrickPanel next brick preview panel
+     * @param holdBrickPanel hold brick preview panel
+     * @param backend how the board is drawn
+     */
+    public GameRendererCoordinator(GridPane gamePanel, GridPane brickPanel,
+                                   GridPane nextBrickPanel, GridPane holdBrickPanel,
+                                   RenderBackend backend) {
+        if (backend == RenderBackend.CANVAS) {
+            this.canvasRenderer = new CanvasRenderer(gamePanel, nextBrickPanel, holdBrickPanel);
+            this.boardRenderer = null;
+            this.brickRenderer = null;
+            this.shadowRenderer = null;
+            this.previewRenderer = null;
+        } else {
+            this.canvasRenderer = null;
+            this.boardRenderer = new BoardRenderer(gamePanel);
+            this.brickRenderer = new BrickRenderer(brickPanel, gamePanel);
+            this.shadowRenderer = new ShadowRenderer(gamePanel);
+            this.previewRenderer = new PreviewRenderer(nextBrickPanel, holdBrickPanel);
+        }
     }
 
     /**
@@ -39,26 +70,49 @@ public class GameRendererCoordinator {
      * @param parentPane parent pane for shadow overlay
      */
     public void initialize(int[][] boardMatrix, ViewData brick, Pane parentPane) {
+        lastViewData = null;
+        if (canvasRenderer != null) {
+            canvasRenderer.initialize(boardMatrix, brick);
+            lastViewData = brick;
+            return;
+        }
+        int rows = boardMatrix.length;
+        int cellSize = GameConstants.cellSize(rows, boardMatrix[0].length);
         boardRenderer.initialize(boardMatrix);
-        brickRenderer.initialize(brick.getBrickData());
+        brickRenderer.initialize(brick.getBrickPiece(), rows, cellSize);
         brickRenderer.positionPanel(brick);
-        shadowRenderer.initialize(brick.getBrickData());
+        shadowRenderer.initialize(brick.getBrickPiece(), rows, cellSize);
 
         parentPane.getChildren().add(shadowRenderer.getShadowPanel());
+        brickRenderer.refresh(brick);
         shadowRenderer.update(brick);
-        previewRenderer.initializeNextBrick(brick.getNextBrickData());
+        previewRenderer.initializeNextBrick(brick.getNextBrickPiece());
     }
 
     /**
-     * Refreshes brick, shadow, and preview displays.
+     * Refreshes the brick, shadow, and preview displays that changed since the
+     * last refresh.
      *
      * @param viewData updated view data
      */
     public void refreshBrick(ViewData viewData) {
-        brickRenderer.refresh(viewData);
-        shadowRenderer.update(viewData);
-        previewRenderer.updateNextBrick(viewData.getNextBrickData());
-        previewRenderer.updateHoldBrick(viewData.getHoldBrickData());
+        int changes = viewData.changesSince(lastViewData);
+        lastViewData = viewData;
+        if (canvasRenderer != null) {
+            canvasRenderer.refreshBrick(viewData, changes);
+            return;
+        }
+
+        if ((changes & (ViewData.PIECE_MOVED | ViewData.PIECE_ROTATED)) != 0) {
+            brickRenderer.refresh(viewData);
+            shadowRenderer.update(viewData);
+        }
+        if ((changes & ViewData.NEXT_CHANGED) != 0) {
+            previewRenderer.updateNextBrick(viewData.getNextBrickPiece());
+        }
+        if ((changes & ViewData.HOLD_CHANGED) != 0) {
+            previewRenderer.updateHoldBrick(viewData.getHoldBrickPiece());
+        }
     }
 
     /**
@@ -67,15 +121,38 @@ public class GameRendererCoordinator {
      * @param board updated board matrix
      */
     public void refreshBoard(int[][] board) {
+        if (canvasRenderer != null) {
+            canvasRenderer.refreshBoard(board);
+            return;
+        }
         boardRenderer.refresh(board);
     }
 
+    /**
+     * Refreshes a range of board rows.
+     *
+     * @param board updated board matrix
+     * @param top first changed row
+     * @param bottom last changed row, inclusive
+     */
+    public void refreshBoardRows(int[][] board, int top, int bottom) {
+        if (canvasRenderer != null) {
+            canvasRenderer.refreshBoardRows(board, top, bottom);
+            return;
+        }
+        boardRenderer.refreshRows(board, top, bottom);
+    }
+
     /**
      * Sets visibility of brick and shadow displays.
      *
      * @param visible true to show, false to hide
      */
     public void setVisible(boolean visible) {
+        if (canvasRenderer != null) {
+            canvasRenderer.setVisible(visible);
+            return;
+        }
         brickRenderer.setVisible(visible);
         shadowRenderer.setVisible(visible);
     }
@@ -0,0 +1,152 @@
+package com.comp2042.view.rendering;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.util.ColorPalette;
+import com.comp2042.util.GameConstants;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Fixed set of Rectangle nodes showing one brick (or its shadow) over the board
+ * grid. The nodes are added to the game panel once, unmanaged, and moved with
+ * their translate properties, so moving or rotating a brick neither changes the
+ * panel's children nor asks the GridPane to lay out again. Fills are only
+ * updated when the shape changes.
+ */
+final class PieceNodes {
+
+    private final GridPane panel;
+    private final boolean shadow;
+    private Rectangle[] cells = new Rectangle[0];
+    private PieceShape shownPiece;
+    private int shownX;
+    private int shownY;
+    private int shownRows;
+    private int cellSize = GameConstants.BRICK_SIZE;
+    private boolean visible = true;
+    private boolean hidden = true;
+
+    /**
+     * Creates an empty node set.
+     * @param panel game panel the nodes are drawn in
+     * @param shadow true to draw shadow cells, false for brick cells
+     */
+    PieceNodes(GridPane panel, boolean shadow) {
+        this.panel = panel;
+        this.shadow = shadow;
+    }
+
+    /**
+     * Creates nodes for a brick after the panel was cleared.
+     * @param piece initial brick shape
+     * @param cellSize cell size in pixels
+     */
+    void initialize(PieceShape piece, int cellSize) {
+        this.cellSize = cellSize;
+        cells = new Rectangle[0];
+        shownPiece = null;
+        hidden = true;
+        ensureCells(piece.getCellCount());
+    }
+
+    /**
+     * Moves the nodes onto a brick at a position. Cells outside the visible rows
+     * or below the board are hidden.
+     * @param piece brick shape
+     * @param x x position
+     * @param y y position
+     * @param boardRows number of board rows
+     */
+    void show(PieceShape piece, int x, int y, int boardRows) {
+        if (piece != shownPiece) {
+            ensureCells(piece.getCellCount());
+            for (int i = 0; i < piece.getCellCount(); i++) {
+                int value = piece.getCell(piece.getCellRow(i), piece.getCellColumn(i));
+                cells[i].setFill(fill(value));
+            }
+            shownPiece = piece;
+        }
+        shownX = x;
+        shownY = y;
+        shownRows = boardRows;
+        hidden = false;
+
+        double left = panel.snappedLeftInset();
+        double top = panel.snappedTopInset();
+        double columnPitch = cellSize + panel.getHgap();
+        double rowPitch = cellSize + panel.getVgap();
+        for (int i = 0; i < cells.length; i++) {
+            Rectangle cell = cells[i];
+            if (i >= piece.getCellCount()) {
+                cell.setVisible(false);
+                continue;
+            }
+            int gridY = y + piece.getCellRow(i);
+            boolean inView = gridY >= GameConstants.VISIBLE_START_ROW && gridY < boardRows;
+            if (inView) {
+                cell.setTranslateX(left + (x + piece.getCellColumn(i)) * columnPitch);
+                cell.setTranslateY(top + (gridY - GameConstants.VISIBLE_START_ROW) * rowPitch);
+            }
+            cell.setVisible(visible && inView);
+        }
+    }
+
+    /**
+     * Hides every node until the next {@link #show}, including across
+     * {@link #setVisible} calls.
+     */
+    void hide() {
+        hidden = true;
+        hideCells();
+    }
+
+    /**
+     * Shows or hides the nodes, e.g. while paused. Showing brings back the last
+     * {@link #show} unless {@link #hide} was called after it.
+     * @param visible true to show, false to hide
+     */
+    void setVisible(boolean visible) {
+        this.visible = visible;
+        if (!visible) {
+            hideCells();
+        } else if (!hidden) {
+            show(shownPiece, shownX, shownY, shownRows);
+        }
+    }
+
+    private void hideCells() {
+        for (Rectangle cell : cells) {
+            cell.setVisible(false);
+        }
+    }
+
+    /**
+     * Grows the node set to hold a number of cells. Only a brick with more cells
+     * than any before it adds children.
+     */
+    private void ensureCells(int count) {
+        if (count <= cells.length) {
+            return;
+        }
+        Rectangle[] grown = new Rectangle[count];
+        System.arraycopy(cells, 0, grown, 0, cells.length);
+        for (int i = cells.length; i < count; i++) {
+            Rectangle cell = new Rectangle(cellSize, cellSize);
+            cell.setArcWidth(GameConstants.BRICK_ARC_SIZE);
+            cell.setArcHeight(GameConstants.BRICK_ARC_SIZE);
+            if (shadow) {
+                cell.setOpacity(GameConstants.SHADOW_OPACITY);
+            }
+            cell.setManaged(false);
+            cell.setVisible(false);
+            panel.getChildren().add(cell);
+            grown[i] = cell;
+        }
+        cells = grown;
+    }
+
+    private Paint fill(int value) {
+        return shadow ? ColorPalette.getShadowColor(value) : ColorPalette.getBrickColor(value);
+    }
+}
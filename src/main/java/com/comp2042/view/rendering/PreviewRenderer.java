@@ -1,5 +1,6 @@
 package com.comp2042.view.rendering;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.util.ColorPalette;
 import com.comp2042.util.GameConstants;
 import javafx.scene.layout.GridPane;
@@ -8,14 +9,14 @@ import javafx.scene.shape.Rectangle;
 
 /**
  * Handles rendering of next brick and hold brick preview panels.
- * Centers bricks within fixed-size preview areas.
+ * Centers bricks within fixed-size preview areas. Each panel keeps one pre-built
+ * tile per piece type and swaps it in when the previewed piece changes, so an
+ * update for an unchanged piece does nothing and a change is a single child swap.
  */
 public class PreviewRenderer {
 
-    private final GridPane nextBrickPanel;
-    private final GridPane holdBrickPanel;
-    private Rectangle[][] nextBrickRectangles;
-    private Rectangle[][] holdBrickRectangles;
+    private final PreviewPanel nextPreview;
+    private final PreviewPanel holdPreview;
 
     /**
      * Constructs preview renderer.
@@ -24,67 +25,59 @@ public class PreviewRenderer {
      * @param holdBrickPanel panel for hold brick
      */
     public PreviewRenderer(GridPane nextBrickPanel, GridPane holdBrickPanel) {
-        this.nextBrickPanel = nextBrickPanel;
-        this.holdBrickPanel = holdBrickPanel;
+        this.nextPreview = nextBrickPanel != null ? new PreviewPanel(nextBrickPanel) : null;
+        this.holdPreview = holdBrickPanel != null ? new PreviewPanel(holdBrickPanel) : null;
     }
 
     /**
      * Initializes next brick preview.
      *
-     * @param nextBrickData initial next brick data
+     * @param nextBrick initial next brick shape
      */
-    public void initializeNextBrick(int[][] nextBrickData) {
-        if (nextBrickPanel != null) {
-            renderCenteredBrick(nextBrickData, nextBrickPanel, true);
-        }
+    public void initializeNextBrick(PieceShape nextBrick) {
+        updateNextBrick(nextBrick);
     }
 
     /**
      * Updates next brick preview.
      *
-     * @param nextBrickData updated next brick data
+     * @param nextBrick updated next brick shape
      */
-    public void updateNextBrick(int[][] nextBrickData) {
-        if (nextBrickPanel != null) {
-            renderCenteredBrick(nextBrickData, nextBrickPanel, true);
+    public void updateNextBrick(PieceShape nextBrick) {
+        if (nextPreview != null) {
+            nextPreview.show(nextBrick);
         }
     }
 
     /**
      * Updates hold brick preview.
      *
-     * @param holdBrickData updated hold brick data, or null/empty to clear
+     * @param holdBrick updated hold brick shape, or null to clear
      */
-    public void updateHoldBrick(int[][] holdBrickData) {
-        if (holdBrickPanel != null) {
-            if (holdBrickData != null && holdBrickData.length > 0) {
-                renderCenteredBrick(holdBrickData, holdBrickPanel, false);
-            } else {
-                holdBrickPanel.getChildren().clear();
-                holdBrickRectangles = null;
-            }
+    public void updateHoldBrick(PieceShape holdBrick) {
+        if (holdPreview != null) {
+            holdPreview.show(holdBrick);
         }
     }
 
     /**
-     * Renders brick centered in preview panel.
+     * Builds a tile showing a brick centred in the preview area.
      *
-     * @param brickData brick shape matrix
-     * @param panel target GridPane
-     * @param isNextBrick true if next brick, false if hold brick
+     * @param piece brick shape
+     * @return preview tile
      */
-    private void renderCenteredBrick(int[][] brickData, GridPane panel, boolean isNextBrick) {
-        panel.getChildren().clear();
+    private static GridPane buildTile(PieceShape piece) {
+        GridPane tile = new GridPane();
+        tile.setHgap(GameConstants.BRICK_SPACING);
+        tile.setVgap(GameConstants.BRICK_SPACING);
 
-        int rows = brickData.length;
-        int cols = brickData[0].length;
+        int rows = piece.getRows();
+        int cols = piece.getColumns();
         int maxSize = GameConstants.PREVIEW_PANEL_SIZE;
 
         int rowPadding = (maxSize - rows) / 2;
         int colPadding = (maxSize - cols) / 2;
 
-        Rectangle[][] rectangles = new Rectangle[maxSize][maxSize];
-
         for (int i = 0; i < maxSize; i++) {
             for (int j = 0; j < maxSize; j++) {
                 Rectangle rectangle = new Rectangle(
@@ -94,7 +87,7 @@ public class PreviewRenderer {
 
                 if (i >= rowPadding && i < rowPadding + rows &&
                         j >= colPadding && j < colPadding + cols) {
-                    int brickValue = brickData[i - rowPadding][j - colPadding];
+                    int brickValue = piece.getCell(i - rowPadding, j - colPadding);
                     rectangle.setFill(ColorPalette.getBrickColor(brickValue));
                 } else {
                     rectangle.setFill(Color.TRANSPARENT);
@@ -102,15 +95,58 @@ public class PreviewRenderer {
 
                 rectangle.setArcHeight(GameConstants.BRICK_ARC_SIZE);
                 rectangle.setArcWidth(GameConstants.BRICK_ARC_SIZE);
-                rectangles[i][j] = rectangle;
-                panel.add(rectangle, j, i);
+                tile.add(rectangle, j, i);
             }
         }
+        return tile;
+    }
+
+    /**
+     * One preview panel with its tile cache. A node can only sit in one panel, so
+     * next and hold keep separate caches.
+     */
+    private static final class PreviewPanel {
+        /** One slot per color id, plus slot 0 for shapes without one */
+        private static final int SLOTS = 9;
+
+        private final GridPane panel;
+        private final PieceShape[] tileShapes = new PieceShape[SLOTS];
+        private final GridPane[] tiles = new GridPane[SLOTS];
+        private PieceShape shownPiece;
+        private boolean initialized;
 
-        if (isNextBrick) {
-            nextBrickRectangles = rectangles;
-        } else {
-            holdBrickRectangles = rectangles;
+        private PreviewPanel(GridPane panel) {
+            this.panel = panel;
+        }
+
+        /**
+         * Shows a brick, or clears the panel for null.
+         */
+        private void show(PieceShape piece) {
+            if (initialized && piece == shownPiece) {
+                return;
+            }
+            initialized = true;
+            shownPiece = piece;
+            if (piece == null) {
+                panel.getChildren().clear();
+                return;
+            }
+            panel.getChildren().setAll(tileFor(piece));
+        }
+
+        /**
+         * Gets the cached tile for a piece type, rebuilding it if the slot was
+         * built from another shape.
+         */
+        private GridPane tileFor(PieceShape piece) {
+            int id = piece.getColorId();
+            int slot = id > 0 && id < SLOTS ? id : 0;
+            if (tileShapes[slot] != piece) {
+                tiles[slot] = buildTile(piece);
+                tileShapes[slot] = piece;
+            }
+            return tiles[slot];
         }
     }
-}
\ No newline at end of file
+}
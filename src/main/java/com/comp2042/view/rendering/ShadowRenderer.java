@@ -1,21 +1,20 @@
 package com.comp2042.view.rendering;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.model.data.ViewData;
-import com.comp2042.util.ColorPalette;
 import com.comp2042.util.GameConstants;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 
 /**
  * Handles rendering of the shadow (ghost piece) showing where brick will land.
- * Displays semi-transparent preview at drop position.
+ * Displays semi-transparent preview at drop position, using a fixed set of cell
+ * nodes in the game panel that are moved rather than re-added.
  */
 public class ShadowRenderer {
 
-    private final GridPane gamePanel;
     private final GridPane shadowPanel;
-    private Rectangle[][] shadowRectangles;
+    private final PieceNodes cells;
+    private int boardRows = GameConstants.BOARD_ROWS;
 
     /**
      * Constructs shadow renderer.
@@ -23,34 +22,22 @@ public class ShadowRenderer {
      * @param gamePanel main game panel
      */
     public ShadowRenderer(GridPane gamePanel) {
-        this.gamePanel = gamePanel;
+        this.cells = new PieceNodes(gamePanel, true);
         this.shadowPanel = new GridPane();
         this.shadowPanel.setVgap(GameConstants.BRICK_SPACING);
         this.shadowPanel.setHgap(GameConstants.BRICK_SPACING);
     }
 
     /**
-     * Initializes shadow with initial brick data.
+     * Creates the shadow's cell nodes for the initial brick.
      *
-     * @param brickData initial brick shape
+     * @param piece initial brick shape
+     * @param boardRows number of board rows
+     * @param cellSize board cell size in pixels
      */
-    public void initialize(int[][] brickData) {
-        shadowRectangles = new Rectangle[brickData.length][brickData[0].length];
-
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle shadow = new Rectangle(
-                        GameConstants.BRICK_SIZE,
-                        GameConstants.BRICK_SIZE
-                );
-                shadow.setFill(ColorPalette.getShadowColor(brickData[i][j]));
-                shadow.setOpacity(GameConstants.SHADOW_OPACITY);
-                shadow.setArcWidth(GameConstants.BRICK_ARC_SIZE);
-                shadow.setArcHeight(GameConstants.BRICK_ARC_SIZE);
-                shadowRectangles[i][j] = shadow;
-                shadowPanel.add(shadow, j, i);
-            }
-        }
+    public void initialize(PieceShape piece, int boardRows, int cellSize) {
+        this.boardRows = boardRows;
+        cells.initialize(piece, cellSize);
     }
 
     /**
@@ -60,49 +47,11 @@ public class ShadowRenderer {
      * @param viewData updated view data
      */
     public void update(ViewData viewData) {
-        // Clear existing shadow
-        for (int i = 0; i < shadowRectangles.length; i++) {
-            for (int j = 0; j < shadowRectangles[i].length; j++) {
-                shadowRectangles[i][j].setFill(Color.TRANSPARENT);
-                gamePanel.getChildren().remove(shadowRectangles[i][j]);
-            }
-        }
-
-        int[][] brickData = viewData.getBrickData();
-
-        // Recreate if size changed
-        if (shadowRectangles.length != brickData.length ||
-                shadowRectangles[0].length != brickData[0].length) {
-            shadowRectangles = new Rectangle[brickData.length][brickData[0].length];
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
-                    shadowRectangles[i][j] = new Rectangle(
-                            GameConstants.BRICK_SIZE,
-                            GameConstants.BRICK_SIZE
-                    );
-                    shadowRectangles[i][j].setArcWidth(GameConstants.BRICK_ARC_SIZE);
-                    shadowRectangles[i][j].setArcHeight(GameConstants.BRICK_ARC_SIZE);
-                    shadowRectangles[i][j].setOpacity(GameConstants.SHADOW_OPACITY);
-                }
-            }
-        }
-
-        // Show shadow only if different from brick position
-        if (viewData.getShadowYPosition() != viewData.getyPosition()) {
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
-                    if (brickData[i][j] != 0) {
-                        int gridX = viewData.getxPosition() + j;
-                        int gridY = viewData.getShadowYPosition() + i;
-
-                        if (gridY >= GameConstants.VISIBLE_START_ROW && gridY < GameConstants.BOARD_WIDTH) {
-                            shadowRectangles[i][j].setFill(ColorPalette.getShadowColor(brickData[i][j]));
-                            gamePanel.add(shadowRectangles[i][j], gridX, gridY - GameConstants.VISIBLE_START_ROW);
-                        }
-                    }
-                }
-            }
+        if (viewData.getShadowYPosition() == viewData.getyPosition()) {
+            cells.hide();
+            return;
         }
+        cells.show(viewData.getBrickPiece(), viewData.getxPosition(), viewData.getShadowYPosition(), boardRows);
     }
 
     /**
@@ -120,8 +69,7 @@ public class ShadowRenderer {
      * @param visible true to show, false to hide
      */
     public void setVisible(boolean visible) {
-        if (shadowPanel != null) {
-            shadowPanel.setVisible(visible);
-        }
+        shadowPanel.setVisible(visible);
+        cells.setVisible(visible);
     }
-}
\ No newline at end of file
+}
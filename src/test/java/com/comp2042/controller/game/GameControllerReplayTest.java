@@ -0,0 +1,166 @@
+package com.comp2042.controller.game;
+
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.GameMode;
+import com.comp2042.model.data.MoveEvent;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.model.replay.ReplayReader;
+import com.comp2042.view.game.GuiController;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replay recording through {@link GameController}. Runs without the JavaFX
+ * toolkit, using a GUI stub that ignores every view call.
+ */
+class GameControllerReplayTest {
+
+    @TempDir
+    Path replayDir;
+
+    private SilentGuiController gui;
+    private GameController controller;
+    private final List<EventType> sent = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(GameController.REPLAY_DIR_PROPERTY, replayDir.toString());
+        gui = new SilentGuiController();
+        controller = new GameController(gui, GameMode.BLITZ);
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.dispose();
+        System.clearProperty(GameController.REPLAY_DIR_PROPERTY);
+    }
+
+    private void send(EventType type) {
+        MoveEvent event = new MoveEvent(type, EventSource.USER);
+        sent.add(type);
+        switch (type) {
+            case LEFT:
+                controller.onLeftEvent(event);
+                break;
+            case RIGHT:
+                controller.onRightEvent(event);
+                break;
+            case HARD_DROP:
+                controller.onHardDropEvent(event);
+                break;
+            default:
+                controller.onRotateEvent(event);
+                break;
+        }
+    }
+
+    private List<Path> replays() throws IOException {
+        try (Stream<Path> files = Files.list(replayDir)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<EventType> decode(Path file) throws IOException {
+        List<EventType> events = new ArrayList<>();
+        try (ReplayReader reader = new ReplayReader(FileChannel.open(file))) {
+            while (reader.next()) {
+                MoveEvent event = reader.getMoveEvent();
+                assertNotNull(event, "Replay should hold a single game");
+                events.add(event.getEventType());
+            }
+        }
+        return events;
+    }
+
+    // ==================== Replay Tests ====================
+
+    @Test
+    void testFinishedGame_ReplayHoldsEveryEvent() throws IOException {
+        // Stacking every brick in one spot tops out quickly (Zen would clear the board)
+        for (int drops = 0; !gui.gameOverCalled && drops < 500; drops++) {
+            send(drops % 2 == 0 ? EventType.LEFT : EventType.ROTATE);
+            send(EventType.HARD_DROP);
+        }
+
+        assertTrue(gui.gameOverCalled);
+        // Decoded before dispose: game over alone must finish the file
+        assertEquals(sent, decode(replays().get(0)));
+    }
+
+    @Test
+    void testDispose_WritesEventsSinceLastLock() throws IOException {
+        send(EventType.HARD_DROP);
+        send(EventType.LEFT);
+        send(EventType.RIGHT);
+        send(EventType.ROTATE);
+
+        controller.dispose();
+
+        assertEquals(sent, decode(replays().get(0)));
+    }
+
+    @Test
+    void testNewGameAfterDispose_StartsNewReplay() throws IOException {
+        send(EventType.LEFT);
+        controller.dispose();
+        controller.createNewGame();
+        controller.dispose();
+
+        assertEquals(2, replays().size());
+    }
+
+    /**
+     * GUI stub that records game over and ignores everything else.
+     */
+    private static class SilentGuiController extends GuiController {
+        boolean gameOverCalled;
+
+        @Override
+        public void setGameMode(GameMode mode) {
+        }
+
+        @Override
+        public void setEventListener(com.comp2042.controller.input.InputEventListener listener) {
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+        }
+
+        @Override
+        public void bindScore(IntegerProperty scoreProperty) {
+        }
+
+        @Override
+        public void bindHighScore(IntegerProperty highScoreProperty) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board) {
+        }
+
+        @Override
+        public void refreshGameRows(int[][] board, int top, int bottom) {
+        }
+
+        @Override
+        public void gameOver() {
+            gameOverCalled = true;
+        }
+    }
+}
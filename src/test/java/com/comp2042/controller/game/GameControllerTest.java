@@ -304,12 +304,48 @@ class GameControllerTest {
         latch.await(2, TimeUnit.SECONDS);
     }
 
+    @Test
+    void testParseBoardSize_DefaultWhenUnset() {
+        assertArrayEquals(new int[]{25, 10}, GameController.parseBoardSize(null));
+    }
+
+    @Test
+    void testParseBoardSize_ReadsRowsByColumns() {
+        assertArrayEquals(new int[]{100, 40}, GameController.parseBoardSize("100x40"));
+        assertArrayEquals(new int[]{1000, 64}, GameController.parseBoardSize(" 1000X64 "));
+    }
+
+    @Test
+    void testParseBoardSize_FallsBackOnBadValues() {
+        assertArrayEquals(new int[]{25, 10}, GameController.parseBoardSize("wide"));
+        assertArrayEquals(new int[]{25, 10}, GameController.parseBoardSize("40x100"));
+        assertArrayEquals(new int[]{25, 10}, GameController.parseBoardSize("3x10"));
+    }
+
+    @Test
+    void testConstructor_UsesGivenBoardSize() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        int[] size = new int[2];
+        Platform.runLater(() -> {
+            TestGuiController gui = new TestGuiController();
+            new GameController(gui, GameMode.ZEN, 100, 40);
+            size[0] = gui.lastBoardMatrix.length;
+            size[1] = gui.lastBoardMatrix[0].length;
+            latch.countDown();
+        });
+        latch.await(2, TimeUnit.SECONDS);
+
+        assertArrayEquals(new int[]{100, 40}, size);
+    }
+
     // Test implementation of GuiController
     private static class TestGuiController extends GuiController {
         boolean setGameModeCalled = false;
         GameMode lastGameMode = null;
         int refreshGameBackgroundCallCount = 0;
+        int refreshGameRowsCallCount = 0;
         boolean gameOverCalled = false;
+        int[][] lastBoardMatrix = null;
 
         @Override
         public void setGameMode(GameMode mode) {
@@ -324,7 +360,7 @@ class GameControllerTest {
 
         @Override
         public void initGameView(int[][] boardMatrix, ViewData brick) {
-            // Do nothing in test
+            lastBoardMatrix = boardMatrix;
         }
 
         @Override
@@ -342,6 +378,11 @@ class GameControllerTest {
             refreshGameBackgroundCallCount++;
         }
 
+        @Override
+        public void refreshGameRows(int[][] board, int top, int bottom) {
+            refreshGameRowsCallCount++;
+        }
+
         @Override
         public void gameOver() {
             gameOverCalled = true;
@@ -33,6 +33,7 @@ class InputHandlerTest {
             @Override
             public void onRotate(MoveEvent event) {
                 rotateCallbackTriggered = true;
+                lastEventType = event.getEventType();
             }
 
             @Override
@@ -61,4 +62,60 @@ class InputHandlerTest {
             }
         });
     }
-}
\ No newline at end of file
+
+    private void press(KeyCode code) {
+        inputHandler.handleKeyPressed(
+                new KeyEvent(KeyEvent.KEY_PRESSED, "", "", code, false, false, false, false), false, false);
+    }
+
+    private void release(KeyCode code) {
+        inputHandler.handleKeyReleased(
+                new KeyEvent(KeyEvent.KEY_RELEASED, "", "", code, false, false, false, false));
+    }
+
+    // ==================== Rotation Binding Tests ====================
+
+    @Test
+    void testRotateKeys_UpWAndXRotateClockwise() {
+        for (KeyCode code : new KeyCode[]{KeyCode.UP, KeyCode.W, KeyCode.X}) {
+            lastEventType = null;
+            press(code);
+            release(code);
+
+            assertEquals(EventType.ROTATE_CW, lastEventType, code + " should rotate clockwise");
+        }
+    }
+
+    @Test
+    void testRotateKey_ZRotatesCounterClockwise() {
+        press(KeyCode.Z);
+
+        assertTrue(rotateCallbackTriggered);
+        assertEquals(EventType.ROTATE, lastEventType);
+    }
+
+    @Test
+    void testRotateKey_QRotates180() {
+        press(KeyCode.Q);
+
+        assertTrue(rotateCallbackTriggered);
+        assertEquals(EventType.ROTATE_180, lastEventType);
+    }
+
+    @Test
+    void testRotateKey_HeldKeyDoesNotRepeat() {
+        press(KeyCode.X);
+        rotateCallbackTriggered = false;
+        press(KeyCode.X);
+
+        assertFalse(rotateCallbackTriggered);
+    }
+
+    @Test
+    void testRotateKey_IgnoredWhilePaused() {
+        inputHandler.handleKeyPressed(
+                new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.Z, false, false, false, false), true, false);
+
+        assertFalse(rotateCallbackTriggered);
+    }
+}
@@ -4,6 +4,7 @@ import com.comp2042.controller.game.GameStateManager;
 import com.comp2042.controller.input.InputEventListener;
 import com.comp2042.controller.input.InputHandler;
 import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RenderBackend;
 import com.comp2042.model.data.DownData;
 import com.comp2042.model.data.MoveEvent;
 import com.comp2042.model.data.ViewData;
@@ -204,6 +205,18 @@ class GameInitializerTest {
         latch.await(2, TimeUnit.SECONDS);
     }
 
+    @Test
+    void testParseRenderBackend_DefaultsToNodes() {
+        assertEquals(RenderBackend.NODES, GameInitializer.parseRenderBackend(null));
+        assertEquals(RenderBackend.NODES, GameInitializer.parseRenderBackend("vulkan"));
+    }
+
+    @Test
+    void testParseRenderBackend_IgnoresCase() {
+        assertEquals(RenderBackend.CANVAS, GameInitializer.parseRenderBackend(" Canvas "));
+        assertEquals(RenderBackend.NODES, GameInitializer.parseRenderBackend("nodes"));
+    }
+
     // Test implementation of InputEventListener
     private static class TestInputEventListener implements InputEventListener {
         DownData downEventReturn = null;
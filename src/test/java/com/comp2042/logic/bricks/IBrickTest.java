@@ -16,7 +16,7 @@ class IBrickTest {
     @Test
     void testGetShapeMatrix_ReturnsCorrectNumberOfRotations() {
         List<int[][]> shapes = brick.getShapeMatrix();
-        assertEquals(2, shapes.size(), "I-brick should have 2 rotations");
+        assertEquals(4, shapes.size(), "I-brick should have 4 rotations");
     }
 
     @Test
@@ -50,7 +50,7 @@ class IBrickTest {
 
         int count = 0;
         for (int i = 0; i < vertical.length; i++) {
-            if (vertical[i][1] == 1) count++;
+            if (vertical[i][2] == 1) count++;
         }
         assertEquals(4, count, "Vertical I-brick should have 4 blocks in a column");
     }
@@ -0,0 +1,82 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceShapeTest {
+
+    private final int[][] tShape = {
+            {0, 0, 0, 0},
+            {6, 6, 6, 0},
+            {0, 6, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    @Test
+    void testRowMasks_MatchFilledColumns() {
+        PieceShape shape = new PieceShape(tShape);
+
+        assertEquals(0L, shape.getRowMask(0));
+        assertEquals(0b0111L, shape.getRowMask(1));
+        assertEquals(0b0010L, shape.getRowMask(2));
+    }
+
+    @Test
+    void testBoundingBox() {
+        PieceShape shape = new PieceShape(tShape);
+
+        assertEquals(1, shape.getMinRow());
+        assertEquals(2, shape.getMaxRow());
+        assertEquals(0, shape.getMinColumn());
+        assertEquals(2, shape.getMaxColumn());
+    }
+
+    @Test
+    void testColumnBottoms_FormBottomProfile() {
+        PieceShape shape = new PieceShape(tShape);
+
+        assertEquals(1, shape.getColumnBottom(0));
+        assertEquals(2, shape.getColumnBottom(1));
+        assertEquals(1, shape.getColumnBottom(2));
+        assertEquals(-1, shape.getColumnBottom(3));
+    }
+
+    @Test
+    void testCells_InRowMajorOrder() {
+        PieceShape shape = new PieceShape(tShape);
+
+        assertEquals(4, shape.getCellCount());
+        assertEquals(1, shape.getCellRow(0));
+        assertEquals(0, shape.getCellColumn(0));
+        assertEquals(2, shape.getCellRow(3));
+        assertEquals(1, shape.getCellColumn(3));
+        assertEquals(6, shape.getColorId());
+    }
+
+    @Test
+    void testConstructor_CopiesInput() {
+        int[][] matrix = {{1, 1}, {1, 1}};
+        PieceShape shape = new PieceShape(matrix);
+        matrix[0][0] = 0;
+
+        assertEquals(1, shape.getCell(0, 0), "Shape should not see later changes to its input");
+    }
+
+    @Test
+    void testToMatrix_ReturnsIndependentCopy() {
+        PieceShape shape = new PieceShape(tShape);
+        int[][] copy = shape.toMatrix();
+        copy[1][0] = 999;
+
+        assertEquals(6, shape.getCell(1, 0));
+    }
+
+    @Test
+    void testEmptyShape() {
+        PieceShape shape = new PieceShape(new int[0][0]);
+
+        assertEquals(0, shape.getCellCount());
+        assertEquals(-1, shape.getMinRow());
+        assertEquals(0, shape.getColorId());
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+class PieceTableTest {
+
+    private static final Brick[] ALL_BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+            new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    @Test
+    void testPieceIds_AreDistinctAndMatchColor() {
+        boolean[] seen = new boolean[PieceTable.PIECE_COUNT + 1];
+        for (Brick brick : ALL_BRICKS) {
+            int id = brick.getPieceId();
+            assertFalse(seen[id], "Piece id " + id + " should be unique");
+            seen[id] = true;
+            for (int r = 0; r < brick.getRotationCount(); r++) {
+                assertEquals(id, brick.getPiece(r).getColorId(),
+                        "Color id should equal piece id");
+            }
+        }
+    }
+
+    @Test
+    void testRotationCount_MatchesShapeMatrix() {
+        for (Brick brick : ALL_BRICKS) {
+            assertEquals(brick.getShapeMatrix().size(), brick.getRotationCount());
+            assertEquals(brick.getRotationCount(), PieceTable.getRotationCount(brick.getPieceId()));
+        }
+    }
+
+    @Test
+    void testPieces_MatchShapeMatrices() {
+        for (Brick brick : ALL_BRICKS) {
+            List<int[][]> shapes = brick.getShapeMatrix();
+            for (int r = 0; r < shapes.size(); r++) {
+                assertArrayEquals(shapes.get(r), brick.getPiece(r).toMatrix());
+            }
+        }
+    }
+
+    @Test
+    void testGetPiece_ReturnsSharedInstance() {
+        Brick first = new TBrick();
+        Brick second = new TBrick();
+
+        assertSame(first.getPiece(2), second.getPiece(2),
+                "All bricks of a type should share one table entry");
+    }
+
+    @Test
+    void testEveryPiece_HasFourCells() {
+        for (Brick brick : ALL_BRICKS) {
+            for (int r = 0; r < brick.getRotationCount(); r++) {
+                assertEquals(4, brick.getPiece(r).getCellCount());
+            }
+        }
+    }
+
+    @Test
+    void testGet_InvalidPieceIdThrows() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PieceTable.get(0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PieceTable.get(8, 0));
+    }
+}
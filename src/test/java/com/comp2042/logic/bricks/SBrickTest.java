@@ -14,9 +14,9 @@ class SBrickTest {
     }
 
     @Test
-    void testGetShapeMatrix_HasTwoRotations() {
-        assertEquals(2, brick.getShapeMatrix().size(),
-                "S-brick should have 2 rotations");
+    void testGetShapeMatrix_HasFourRotations() {
+        assertEquals(4, brick.getShapeMatrix().size(),
+                "S-brick should have 4 rotations");
     }
 
     @Test
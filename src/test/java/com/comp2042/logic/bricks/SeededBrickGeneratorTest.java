@@ -0,0 +1,151 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.model.game.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import java.util.HashSet;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededBrickGeneratorTest {
+
+    // ==================== Determinism Tests ====================
+
+    @Test
+    void testSameSeed_SameSequence() {
+        SeededBrickGenerator first = new SeededBrickGenerator(42L);
+        SeededBrickGenerator second = new SeededBrickGenerator(42L);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(first.getBrick(), second.getBrick(), "Sequences should match at index " + i);
+        }
+    }
+
+    @Test
+    void testDifferentSeeds_DifferentSequences() {
+        SeededBrickGenerator first = new SeededBrickGenerator(1L);
+        SeededBrickGenerator second = new SeededBrickGenerator(2L);
+
+        boolean differs = false;
+        for (int i = 0; i < 70 && !differs; i++) {
+            differs = first.getBrick() != second.getBrick();
+        }
+        assertTrue(differs, "Different seeds should give different sequences");
+    }
+
+    @Test
+    void testReset_ReplaysSequence() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(7L);
+        Brick[] firstRun = new Brick[20];
+        for (int i = 0; i < firstRun.length; i++) {
+            firstRun[i] = generator.getBrick();
+        }
+
+        generator.reset();
+
+        for (Brick expected : firstRun) {
+            assertSame(expected, generator.getBrick());
+        }
+    }
+
+    // ==================== Bag Tests ====================
+
+    @Test
+    void testEveryBag_HasAllSevenPieces() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(123L);
+
+        for (int bag = 0; bag < 50; bag++) {
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 0; i < 7; i++) {
+                ids.add(generator.getBrick().getPieceId());
+            }
+            assertEquals(7, ids.size(), "Bag " + bag + " should contain each piece once");
+        }
+    }
+
+    @Test
+    void testBags_AreNotAllIdentical() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(99L);
+        Set<String> orders = new HashSet<>();
+
+        for (int bag = 0; bag < 20; bag++) {
+            StringBuilder order = new StringBuilder();
+            for (int i = 0; i < 7; i++) {
+                order.append(generator.getBrick().getPieceId());
+            }
+            orders.add(order.toString());
+        }
+        assertTrue(orders.size() > 1, "Bags should be shuffled differently");
+    }
+
+    // ==================== Jump-Ahead Tests ====================
+
+    @Test
+    void testPieceIdAt_MatchesSequentialGeneration() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(2025L);
+
+        for (long i = 0; i < 200; i++) {
+            assertEquals(generator.getBrick().getPieceId(), SeededBrickGenerator.pieceIdAt(2025L, i));
+        }
+    }
+
+    @Test
+    void testSetPosition_JumpsWithoutGenerating() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(5L);
+        long far = 1_000_000_000_003L;
+
+        generator.setPosition(far);
+
+        assertEquals(SeededBrickGenerator.pieceIdAt(5L, far), generator.getNextBrick().getPieceId());
+        assertEquals(SeededBrickGenerator.pieceIdAt(5L, far), generator.getBrick().getPieceId());
+        assertEquals(far + 1, generator.getPosition());
+    }
+
+    @Test
+    void testSetPosition_NegativeThrows() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(5L);
+        assertThrows(IllegalArgumentException.class, () -> generator.setPosition(-1));
+    }
+
+    @Test
+    void testGetNextBrick_DoesNotAdvance() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(8L);
+
+        Brick peeked = generator.getNextBrick();
+
+        assertSame(peeked, generator.getBrick());
+        assertEquals(1, generator.getPosition());
+    }
+
+    @Test
+    void testDeriveSeed_GivesDistinctStreams() {
+        Set<Long> seeds = new HashSet<>();
+        for (long stream = 0; stream < 1000; stream++) {
+            seeds.add(SeededBrickGenerator.deriveSeed(77L, stream));
+        }
+        assertEquals(1000, seeds.size());
+    }
+
+    // ==================== Board Integration Tests ====================
+
+    @Test
+    void testSeededBoards_ReplayIdentically() {
+        SimpleBoard first = new SimpleBoard(25, 10, GameMode.BLITZ, new SeededBrickGenerator(11L));
+        SimpleBoard second = new SimpleBoard(25, 10, GameMode.BLITZ, new SeededBrickGenerator(11L));
+        first.newGame();
+        second.newGame();
+
+        for (int i = 0; i < 10; i++) {
+            first.hardDropBrick();
+            second.hardDropBrick();
+            first.mergeBrickToBackground();
+            second.mergeBrickToBackground();
+            first.clearRows();
+            second.clearRows();
+            first.createNewBrick();
+            second.createNewBrick();
+        }
+
+        assertArrayEquals(first.getBoardMatrix(), second.getBoardMatrix());
+    }
+}
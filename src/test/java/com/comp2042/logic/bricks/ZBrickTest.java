@@ -14,9 +14,9 @@ class ZBrickTest {
     }
 
     @Test
-    void testGetShapeMatrix_HasTwoRotations() {
-        assertEquals(2, brick.getShapeMatrix().size(),
-                "Z-brick should have 2 rotations");
+    void testGetShapeMatrix_HasFourRotations() {
+        assertEquals(4, brick.getShapeMatrix().size(),
+                "Z-brick should have 4 rotations");
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.comp2042.model.ai;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardEvaluatorTest {
+    private static final int COLUMNS = 4;
+
+    private final BoardEvaluator heightOnly = new BoardEvaluator(-1, 0, 0, 0, 0);
+    private final BoardEvaluator holesOnly = new BoardEvaluator(0, 0, -1, 0, 0);
+    private final BoardEvaluator bumpinessOnly = new BoardEvaluator(0, 0, 0, -1, 0);
+    private final BoardEvaluator wellsOnly = new BoardEvaluator(0, 0, 0, 0, -1);
+
+    // ==================== Column Height Tests ====================
+
+    @Test
+    void testColumnHeights_EmptyBoard() {
+        int[] heights = {9, 9, 9, 9};
+
+        assertEquals(0, BoardEvaluator.columnHeights(new long[6], COLUMNS, heights));
+        assertArrayEquals(new int[4], heights);
+    }
+
+    @Test
+    void testColumnHeights_CountsHolesUnderCover() {
+        long[] rows = {0, 0, 0, 0b0011, 0b0001, 0b0010};
+        int[] heights = new int[COLUMNS];
+
+        assertEquals(2, BoardEvaluator.columnHeights(rows, COLUMNS, heights));
+        assertArrayEquals(new int[]{3, 3, 0, 0}, heights);
+    }
+
+    // ==================== Feature Tests ====================
+
+    @Test
+    void testEvaluate_AggregateHeight() {
+        long[] rows = {0, 0, 0, 0, 0b0001, 0b0011};
+
+        assertEquals(-3.0, heightOnly.evaluate(rows, COLUMNS, 0), 1e-9);
+    }
+
+    @Test
+    void testEvaluate_Holes() {
+        long[] rows = {0, 0, 0, 0, 0b1111, 0b0101};
+
+        assertEquals(-2.0, holesOnly.evaluate(rows, COLUMNS, 0), 1e-9);
+    }
+
+    @Test
+    void testEvaluate_Bumpiness() {
+        long[] rows = {0, 0, 0, 0b0001, 0b0001, 0b0101};
+
+        assertEquals(-3 - 1 - 1, bumpinessOnly.evaluate(rows, COLUMNS, 0), 1e-9);
+    }
+
+    @Test
+    void testEvaluate_WellsCountWallsAsFull() {
+        long[] rows = {0, 0, 0, 0, 0b0111, 0b0111};
+
+        // Column 3 is a well of depth 2 against the right wall
+        assertEquals(-2.0, wellsOnly.evaluate(rows, COLUMNS, 0), 1e-9);
+    }
+
+    @Test
+    void testEvaluate_LinesRaiseScore() {
+        BoardEvaluator evaluator = new BoardEvaluator();
+        long[] rows = new long[6];
+
+        assertTrue(evaluator.evaluate(rows, COLUMNS, 2) > evaluator.evaluate(rows, COLUMNS, 0));
+    }
+
+    @Test
+    void testEvaluateBoard_ReusedBufferMatchesFresh() {
+        BoardEvaluator evaluator = new BoardEvaluator();
+        long[] rows = {0, 0, 0, 0b0011, 0b0001, 0b0010};
+        int[] heights = {9, 9, 9, 9};
+
+        assertEquals(evaluator.evaluateBoard(rows, COLUMNS),
+                evaluator.evaluateBoard(rows, COLUMNS, heights), 1e-9);
+    }
+}
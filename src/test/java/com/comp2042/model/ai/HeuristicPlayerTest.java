@@ -0,0 +1,97 @@
+package com.comp2042.model.ai;
+
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.game.BoardCells;
+import com.comp2042.model.game.FixedBrickGenerator;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.model.simulation.SimulationResult;
+import com.comp2042.model.simulation.SimulationRunner;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeuristicPlayerTest {
+
+    private SimpleBoard boardWith(Brick brick) {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(brick));
+        board.createNewBrick();
+        return board;
+    }
+
+    // ==================== Decision Tests ====================
+
+    @Test
+    void testDecide_CompletesLine() {
+        SimpleBoard board = boardWith(new IBrick());
+        BoardCells.fillRow(board, 24, 0, 2);
+        BoardCells.fillRow(board, 24, 7, 9);
+
+        Placement placement = new HeuristicPlayer().decide(board);
+
+        // Either flat I state fills row 24, columns 3-6
+        PieceShape piece = PieceTable.get(1, placement.getRotation());
+        assertEquals(3, placement.getX() + piece.getMinColumn());
+        assertEquals(24, placement.getY() + piece.getMinRow());
+        assertEquals(4, piece.getMaxColumn() - piece.getMinColumn() + 1);
+    }
+
+    @Test
+    void testDecide_PathEndsResting() {
+        SimpleBoard board = boardWith(new OBrick());
+
+        Placement placement = new HeuristicPlayer().decide(board);
+
+        assertFalse(placement.getPath().isEmpty());
+        assertEquals(EventType.DOWN, placement.getPath().get(placement.getPath().size() - 1));
+    }
+
+    @Test
+    void testDecide_SameAnswerOnAnyPool() {
+        SimpleBoard board = boardWith(new IBrick());
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            Placement parallel = new HeuristicPlayer().decide(board);
+            Placement serial = new HeuristicPlayer(new BoardEvaluator(), single).decide(board);
+
+            assertEquals(parallel.getX(), serial.getX());
+            assertEquals(parallel.getY(), serial.getY());
+            assertEquals(parallel.getRotation(), serial.getRotation());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    // ==================== Play Tests ====================
+
+    @Test
+    void testAct_ClearsLinesWithOBricks() {
+        GameEngine engine = new GameEngine(boardWith(new OBrick()), GameMode.ZEN);
+        HeuristicPlayer player = new HeuristicPlayer();
+
+        for (int i = 0; i < 50; i++) {
+            player.act(engine);
+        }
+
+        assertEquals(50, engine.getPiecesPlaced());
+        assertTrue(engine.getTotalLinesCleared() >= 15, "Bot should clear most rows");
+        assertFalse(engine.wasBoardCleared());
+    }
+
+    @Test
+    void testSimulation_SurvivesSeededGames() {
+        SimulationRunner runner = new SimulationRunner(GameMode.ZEN, seed -> new HeuristicPlayer());
+        runner.setMaxPieces(300);
+
+        for (SimulationResult result : runner.runGames(5L, 4)) {
+            assertEquals(300, result.getPiecesPlaced());
+            assertTrue(result.getLinesCleared() > 100, "Bot should clear most of its bricks");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.comp2042.model.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    // ==================== Store and Probe Tests ====================
+
+    @Test
+    void testProbe_MissOnEmptyTable() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(12345L));
+    }
+
+    @Test
+    void testStore_RoundTripsFields() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        table.store(0xABCDEFL, -3.25f, 7, 513);
+        long entry = table.probe(0xABCDEFL);
+
+        assertNotEquals(TranspositionTable.NOT_FOUND, entry);
+        assertEquals(-3.25f, TranspositionTable.getScore(entry));
+        assertEquals(7, TranspositionTable.getDepth(entry));
+        assertEquals(513, TranspositionTable.getMove(entry));
+    }
+
+    @Test
+    void testStore_ZeroHashAndZeroScoreAreValid() {
+        TranspositionTable table = new TranspositionTable(16);
+
+        table.store(0L, 0f, 0, 0);
+
+        assertNotEquals(TranspositionTable.NOT_FOUND, table.probe(0L));
+    }
+
+    @Test
+    void testConstructor_RoundsUpToPowerOfTwo() {
+        assertEquals(128, new TranspositionTable(100).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    // ==================== Replacement Tests ====================
+
+    @Test
+    void testStore_KeepsDeeperEntryFromSameSearch() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(42L, 1f, 5, 0);
+
+        table.store(42L, 2f, 3, 0);
+
+        assertEquals(5, TranspositionTable.getDepth(table.probe(42L)));
+    }
+
+    @Test
+    void testStore_NewerSearchOverwrites() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(42L, 1f, 5, 0);
+        table.nextAge();
+
+        table.store(42L, 2f, 3, 0);
+
+        assertEquals(2f, TranspositionTable.getScore(table.probe(42L)));
+    }
+
+    @Test
+    void testStore_FullWindowEvictsShallowest() {
+        TranspositionTable table = new TranspositionTable(4);
+        // All four hashes share the whole table as their probe window
+        for (int i = 0; i < 4; i++) {
+            table.store(i * 4L, i, i + 1, 0);
+        }
+
+        table.store(16L, 9f, 9, 0);
+
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(0L));
+        assertNotEquals(TranspositionTable.NOT_FOUND, table.probe(16L));
+        assertNotEquals(TranspositionTable.NOT_FOUND, table.probe(12L));
+    }
+
+    @Test
+    void testStore_PrefersStaleEntriesForEviction() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(0L, 0f, 200, 0);
+        table.nextAge();
+        for (int i = 1; i < 4; i++) {
+            table.store(i * 4L, i, 1, 0);
+        }
+
+        table.store(16L, 9f, 1, 0);
+
+        assertEquals(TranspositionTable.NOT_FOUND, table.probe(0L));
+        assertNotEquals(TranspositionTable.NOT_FOUND, table.probe(4L));
+    }
+
+    // ==================== Concurrency Tests ====================
+
+    @Test
+    void testConcurrentStores_NeverReturnWrongEntry() {
+        TranspositionTable table = new TranspositionTable(256);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(() -> IntStream.range(0, 200_000).parallel().forEach(i -> {
+                long hash = i % 1000 * 0x9E3779B97F4A7C15L;
+                table.store(hash, i % 1000, 0, i % 1000);
+                long entry = table.probe(hash);
+                if (entry != TranspositionTable.NOT_FOUND) {
+                    assertEquals(i % 1000, TranspositionTable.getMove(entry));
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
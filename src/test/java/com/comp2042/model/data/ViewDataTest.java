@@ -1,5 +1,7 @@
 package com.comp2042.model.data;
 
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.PieceTable;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,4 +80,62 @@ class ViewDataTest {
         assertEquals(20, vd.getShadowYPosition());
         assertNotEquals(vd.getyPosition(), vd.getShadowYPosition());
     }
-}
\ No newline at end of file
+
+    // ==================== Change Mask Tests ====================
+
+    @Test
+    void testGetHoldBrickData_EmptyArrayIsShared() {
+        ViewData vd = new ViewData(new int[2][2], 0, 0, new int[2][2], 0, null);
+
+        assertSame(vd.getHoldBrickData(), vd.getHoldBrickData());
+    }
+
+    @Test
+    void testChangesSince_NullReportsEverything() {
+        ViewData vd = new ViewData(PieceTable.get(6, 0), 3, 2, PieceTable.get(1, 0), 20, null, 0L);
+
+        assertEquals(ViewData.ALL_CHANGED, vd.changesSince(null));
+    }
+
+    @Test
+    void testChangesSince_SameStateReportsNothing() {
+        PieceShape t = PieceTable.get(6, 0);
+        PieceShape i = PieceTable.get(1, 0);
+        ViewData first = new ViewData(t, 3, 2, i, 20, null, 4L);
+        ViewData second = new ViewData(t, 3, 2, i, 20, null, 4L);
+
+        assertEquals(0, second.changesSince(first));
+    }
+
+    @Test
+    void testChangesSince_FlagsEachPart() {
+        PieceShape t = PieceTable.get(6, 0);
+        PieceShape i = PieceTable.get(1, 0);
+        PieceShape o = PieceTable.get(4, 0);
+        ViewData base = new ViewData(t, 3, 2, i, 20, null, 0L);
+
+        assertEquals(ViewData.PIECE_MOVED,
+                new ViewData(t, 4, 2, i, 20, null, 0L).changesSince(base));
+        assertEquals(ViewData.PIECE_MOVED,
+                new ViewData(t, 3, 2, i, 19, null, 0L).changesSince(base));
+        assertEquals(ViewData.PIECE_ROTATED,
+                new ViewData(PieceTable.get(6, 1), 3, 2, i, 20, null, 0L).changesSince(base));
+        assertEquals(ViewData.NEXT_CHANGED,
+                new ViewData(t, 3, 2, o, 20, null, 0L).changesSince(base));
+        assertEquals(ViewData.HOLD_CHANGED,
+                new ViewData(t, 3, 2, i, 20, o, 0L).changesSince(base));
+        assertEquals(ViewData.BOARD_CHANGED,
+                new ViewData(t, 3, 2, i, 20, null, 1L).changesSince(base));
+    }
+
+    @Test
+    void testChangesSince_CombinesFlags() {
+        PieceShape t = PieceTable.get(6, 0);
+        PieceShape i = PieceTable.get(1, 0);
+        ViewData before = new ViewData(t, 3, 18, i, 18, null, 0L);
+        ViewData after = new ViewData(i, 3, 0, t, 20, null, 1L);
+
+        assertEquals(ViewData.PIECE_MOVED | ViewData.PIECE_ROTATED | ViewData.NEXT_CHANGED
+                | ViewData.BOARD_CHANGED, after.changesSince(before));
+    }
+}
@@ -0,0 +1,188 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.model.data.ViewData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+    private BitBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new BitBoard(25, 10, GameMode.BLITZ, new FixedBrickGenerator(new OBrick()));
+        board.createNewBrick();
+    }
+
+    /**
+     * Moves the current brick to the given x position and locks it at the bottom.
+     */
+    private ClearRow dropAt(BitBoard target, int x) {
+        while (target.getViewData().getxPosition() > x && target.moveBrickLeft()) { }
+        while (target.getViewData().getxPosition() < x && target.moveBrickRight()) { }
+        while (target.moveBrickDown()) { }
+        target.mergeBrickToBackground();
+        ClearRow clearRow = target.clearRows();
+        target.createNewBrick();
+        return clearRow;
+    }
+
+    @Test
+    void testConstructor_RejectsTooManyColumns() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BitBoard(25, BitBoard.MAX_COLUMNS + 1, GameMode.ZEN));
+    }
+
+    @Test
+    void testConstructor_MatrixHasRequestedSize() {
+        assertEquals(25, board.getBoardMatrix().length);
+        assertEquals(10, board.getBoardMatrix()[0].length);
+    }
+
+    @Test
+    void testMoveBrickLeft_StopsAtWall() {
+        while (board.moveBrickLeft()) { }
+
+        // O-brick cells sit in columns 1-2 of its matrix
+        assertEquals(-1, board.getViewData().getxPosition());
+    }
+
+    @Test
+    void testMoveBrickRight_StopsAtWall() {
+        while (board.moveBrickRight()) { }
+
+        assertEquals(7, board.getViewData().getxPosition());
+    }
+
+    @Test
+    void testShadowPosition_MatchesLandingRow() {
+        int shadowY = board.calculateShadowPosition();
+        while (board.moveBrickDown()) { }
+
+        assertEquals(shadowY, board.getViewData().getyPosition());
+    }
+
+    @Test
+    void testMerge_SetsBitsAndColors() {
+        dropAt(board, 3);
+
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(4, matrix[24][4]);
+        assertEquals(4, matrix[23][5]);
+        assertEquals(0b110000L, board.getRowBits(24));
+        assertEquals(0b110000L, board.getRowBits(23));
+    }
+
+    @Test
+    void testClearRows_RemovesFullRows() {
+        ClearRow last = null;
+        for (int x = -1; x <= 7; x += 2) {
+            last = dropAt(board, x);
+        }
+
+        assertEquals(2, last.getLinesRemoved());
+        assertEquals(200, last.getScoreBonus());
+        for (int row = 0; row < 25; row++) {
+            assertEquals(0L, board.getRowBits(row), "Row " + row + " should be empty");
+        }
+    }
+
+    @Test
+    void testClearRows_ShiftsRowsAboveDown() {
+        for (int x = -1; x <= 5; x += 2) {
+            dropAt(board, x);
+        }
+        dropAt(board, 3);
+        ClearRow clearRow = dropAt(board, 7);
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(0b110000L, board.getRowBits(24));
+        assertEquals(4, board.getBoardMatrix()[24][4]);
+        assertEquals(0, board.getBoardMatrix()[24][0]);
+    }
+
+    @Test
+    void testRotate_VerticalIBrickKicksOffWall() {
+        BitBoard iBoard = new BitBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new IBrick()));
+        iBoard.createNewBrick();
+        iBoard.rotateLeftBrick();
+        while (iBoard.moveBrickLeft()) { }
+
+        assertTrue(iBoard.rotateLeftBrick(), "Rotation at the wall should kick inwards");
+        ViewData vd = iBoard.getViewData();
+        assertEquals(0, vd.getxPosition());
+    }
+
+    @Test
+    void testCreateNewBrick_ZenClearsBoardWhenBlocked() {
+        BitBoard zenBoard = new BitBoard(4, 10, GameMode.ZEN, new FixedBrickGenerator(new OBrick()));
+        zenBoard.createNewBrick();
+        zenBoard.mergeBrickToBackground();
+
+        boolean gameOver = zenBoard.createNewBrick();
+
+        assertFalse(gameOver);
+        assertTrue(zenBoard.wasBoardCleared());
+        assertEquals(0L, zenBoard.getRowBits(1));
+    }
+
+    @Test
+    void testCreateNewBrick_BlitzReportsGameOver() {
+        BitBoard blitzBoard = new BitBoard(4, 10, GameMode.BLITZ, new FixedBrickGenerator(new OBrick()));
+        blitzBoard.createNewBrick();
+        blitzBoard.mergeBrickToBackground();
+
+        assertTrue(blitzBoard.createNewBrick());
+    }
+
+    @Test
+    void testHoldBrick_CannotHoldTwice() {
+        assertTrue(board.holdBrick());
+        assertFalse(board.holdBrick());
+    }
+
+    @Test
+    void testSixtyFourColumns_FullRowClears() {
+        BitBoard wide = new BitBoard(6, 64, GameMode.BLITZ, new FixedBrickGenerator(new OBrick()));
+        wide.createNewBrick();
+        ClearRow last = null;
+        for (int x = -1; x <= 61; x += 2) {
+            last = dropAt(wide, x);
+        }
+
+        assertEquals(2, last.getLinesRemoved());
+        assertEquals(0L, wide.getRowBits(5));
+    }
+
+    @Test
+    void testViewData_BoardVersionChangesOnLockOnly() {
+        ViewData start = board.getViewData();
+        board.moveBrickRight();
+        ViewData moved = board.getViewData();
+        assertEquals(ViewData.PIECE_MOVED, moved.changesSince(start));
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        assertNotEquals(0, board.getViewData().changesSince(moved) & ViewData.BOARD_CHANGED);
+    }
+
+    @Test
+    void testChangedRows_LineClearCoversShiftedStack() {
+        dropAt(board, -1);
+        dropAt(board, 1);
+        dropAt(board, 3);
+        dropAt(board, 5);
+        dropAt(board, -1);
+        board.resetChangedRows();
+
+        ClearRow clearRow = dropAt(board, 7);
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(21, board.getChangedRowsTop());
+        assertEquals(24, board.getChangedRowsBottom());
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.PieceShape;
+import java.util.Arrays;
+
+/**
+ * Test helper that fills cells on a board by merging them into its grid, so the
+ * row counts, column tops and cell hash stay in step with the matrix.
+ */
+public final class BoardCells {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoardCells() {
+    }
+
+    /**
+     * Fills one cell.
+     * @param board board to fill
+     * @param row row index
+     * @param column column index
+     * @param color color id written into the cell
+     */
+    public static void set(SimpleBoard board, int row, int column, int color) {
+        board.getGrid().merge(new PieceShape(new int[][]{{color}}), column, row);
+    }
+
+    /**
+     * Fills a run of cells in one row with color 1.
+     * @param board board to fill
+     * @param row row index
+     * @param fromColumn first column, inclusive
+     * @param toColumn last column, inclusive
+     */
+    public static void fillRow(SimpleBoard board, int row, int fromColumn, int toColumn) {
+        int[][] run = new int[1][toColumn - fromColumn + 1];
+        Arrays.fill(run[0], 1);
+        board.getGrid().merge(new PieceShape(run), fromColumn, row);
+    }
+}
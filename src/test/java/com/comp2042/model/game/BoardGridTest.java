@@ -0,0 +1,408 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.PieceShape;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGridTest {
+    private static final PieceShape DOMINO = new PieceShape(new int[][]{{2, 2}});
+    private static final PieceShape VERTICAL_DOMINO = new PieceShape(new int[][]{{3}, {3}});
+
+    private BoardGrid grid;
+    private int[] cleared;
+
+    @BeforeEach
+    void setUp() {
+        grid = new BoardGrid(6, 4);
+        cleared = new int[6];
+    }
+
+    // ==================== Row Count Tests ====================
+
+    @Test
+    void testMerge_UpdatesRowFillCounts() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(VERTICAL_DOMINO, 3, 4);
+
+        assertEquals(3, grid.getRowFillCount(5));
+        assertEquals(1, grid.getRowFillCount(4));
+        assertEquals(0, grid.getRowFillCount(3));
+    }
+
+    @Test
+    void testMerge_WritesCellValues() {
+        grid.merge(DOMINO, 1, 2);
+
+        assertEquals(2, grid.getMatrix()[2][1]);
+        assertEquals(2, grid.getMatrix()[2][2]);
+        assertEquals(0, grid.getMatrix()[2][0]);
+    }
+
+    // ==================== Clear Tests ====================
+
+    @Test
+    void testClearFullRows_NoFullRows() {
+        grid.merge(DOMINO, 0, 5);
+
+        assertEquals(0, grid.clearFullRows(cleared));
+        assertEquals(2, grid.getRowFillCount(5));
+    }
+
+    @Test
+    void testClearFullRows_ShiftsRowsAndCounts() {
+        grid.merge(VERTICAL_DOMINO, 0, 3);
+        grid.merge(DOMINO, 0, 5);
+        grid.clearFullRows(cleared);
+        grid.merge(DOMINO, 2, 5);
+
+        assertEquals(1, grid.clearFullRows(cleared));
+        assertEquals(5, cleared[0]);
+        assertEquals(1, grid.getRowFillCount(5));
+        assertEquals(1, grid.getRowFillCount(4));
+        assertEquals(3, grid.getMatrix()[5][0]);
+        assertEquals(0, grid.getMatrix()[5][1]);
+    }
+
+    @Test
+    void testClearFullRows_MultipleRowsTopToBottom() {
+        grid.merge(DOMINO, 0, 4);
+        grid.merge(DOMINO, 0, 5);
+        grid.clearFullRows(cleared);
+        grid.merge(VERTICAL_DOMINO, 2, 4);
+        grid.merge(VERTICAL_DOMINO, 3, 4);
+
+        assertEquals(2, grid.clearFullRows(cleared));
+        assertEquals(4, cleared[0]);
+        assertEquals(5, cleared[1]);
+        for (int row = 0; row < grid.getRows(); row++) {
+            assertEquals(0, grid.getRowFillCount(row));
+        }
+    }
+
+    @Test
+    void testClearFullRows_ReusesRowArrays() {
+        int[] bottom = grid.getMatrix()[5];
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+
+        grid.clearFullRows(cleared);
+
+        // Only the cleared row was stacked, so it comes back in place, emptied
+        assertSame(bottom, grid.getMatrix()[5]);
+        assertArrayEquals(new int[4], grid.getMatrix()[5]);
+    }
+
+    @Test
+    void testClearFullRows_DirectWritesNeedRebuild() {
+        Arrays.fill(grid.getMatrix()[5], 1);
+        grid.getMatrix()[4][0] = 1;
+
+        // The clear path never recounts the board by itself
+        assertEquals(0, grid.clearFullRows(cleared));
+
+        grid.rebuild();
+        assertEquals(1, grid.clearFullRows(cleared));
+        assertEquals(5, cleared[0]);
+        assertEquals(1, grid.getRowFillCount(5));
+    }
+
+    @Test
+    void testClear_ResetsCellsAndCounts() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+
+        grid.clear();
+
+        assertEquals(0, grid.getRowFillCount(5));
+        assertEquals(0, grid.clearFullRows(cleared));
+        assertArrayEquals(new int[4], grid.getMatrix()[5]);
+    }
+
+    @Test
+    void testTallGrid_OnlyTouchedRowsChecked() {
+        BoardGrid tall = new BoardGrid(1000, 2);
+        int[] buffer = new int[1000];
+        tall.merge(DOMINO, 0, 999);
+
+        assertEquals(1, tall.clearFullRows(buffer));
+        assertEquals(999, buffer[0]);
+        assertEquals(0, tall.getRowFillCount(999));
+    }
+
+    // ==================== Height Map Tests ====================
+
+    @Test
+    void testColumnTops_EmptyGridIsRowCount() {
+        for (int c = 0; c < grid.getColumns(); c++) {
+            assertEquals(6, grid.getColumnTop(c));
+        }
+    }
+
+    @Test
+    void testMerge_RaisesColumnTops() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(VERTICAL_DOMINO, 1, 3);
+
+        assertEquals(5, grid.getColumnTop(0));
+        assertEquals(3, grid.getColumnTop(1));
+        assertEquals(6, grid.getColumnTop(2));
+    }
+
+    @Test
+    void testClearFullRows_LowersColumnTops() {
+        grid.merge(VERTICAL_DOMINO, 0, 4);
+        grid.merge(DOMINO, 1, 5);
+        grid.merge(VERTICAL_DOMINO, 3, 4);
+
+        assertEquals(1, grid.clearFullRows(cleared));
+        assertEquals(5, grid.getColumnTop(0));
+        assertEquals(6, grid.getColumnTop(1));
+        assertEquals(6, grid.getColumnTop(2));
+        assertEquals(5, grid.getColumnTop(3));
+    }
+
+    @Test
+    void testFindLandingY_UsesBottomProfile() {
+        PieceShape t = new PieceShape(new int[][]{{6, 6, 6}, {0, 6, 0}});
+        grid.merge(VERTICAL_DOMINO, 0, 4);
+
+        // Side cells rest on column 0 before the stem reaches the floor
+        assertEquals(3, grid.findLandingY(t, 0, 0));
+        assertEquals(4, grid.findLandingY(t, 1, 0));
+    }
+
+    @Test
+    void testFindLandingY_UnderOverhangHasNoAnswer() {
+        grid.merge(DOMINO, 0, 2);
+
+        assertEquals(BoardGrid.NO_LANDING, grid.findLandingY(VERTICAL_DOMINO, 0, 3));
+    }
+
+    @Test
+    void testRebuild_PicksUpDirectWrites() {
+        grid.getMatrix()[3][2] = 1;
+
+        grid.rebuild();
+
+        assertEquals(3, grid.getColumnTop(2));
+        assertEquals(1, grid.getRowFillCount(3));
+    }
+
+    // ==================== Cell Hash Tests ====================
+
+    /**
+     * Builds a fresh grid with the same cells and returns its rebuilt hash.
+     */
+    private long rebuiltHash(BoardGrid source) {
+        BoardGrid copy = new BoardGrid(source.getRows(), source.getColumns());
+        for (int r = 0; r < source.getRows(); r++) {
+            System.arraycopy(source.getMatrix()[r], 0, copy.getMatrix()[r], 0, source.getColumns());
+        }
+        copy.rebuild();
+        return copy.getCellHash();
+    }
+
+    @Test
+    void testCellHash_EmptyGridIsZero() {
+        assertEquals(0L, grid.getCellHash());
+    }
+
+    @Test
+    void testCellHash_IndependentOfMergeOrder() {
+        BoardGrid other = new BoardGrid(6, 4);
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(VERTICAL_DOMINO, 3, 4);
+        other.merge(VERTICAL_DOMINO, 3, 4);
+        other.merge(DOMINO, 0, 5);
+
+        assertEquals(grid.getCellHash(), other.getCellHash());
+        assertNotEquals(0L, grid.getCellHash());
+    }
+
+    @Test
+    void testCellHash_MatchesRebuildAfterClears() {
+        grid.merge(VERTICAL_DOMINO, 0, 2);
+        grid.merge(VERTICAL_DOMINO, 0, 4);
+        grid.merge(DOMINO, 1, 5);
+        grid.merge(DOMINO, 1, 4);
+        grid.merge(VERTICAL_DOMINO, 3, 4);
+
+        assertEquals(2, grid.clearFullRows(cleared));
+        assertEquals(rebuiltHash(grid), grid.getCellHash());
+    }
+
+    @Test
+    void testCellHash_ClearedBackToEmpty() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+
+        grid.clearFullRows(cleared);
+
+        assertEquals(0L, grid.getCellHash());
+    }
+
+    // ==================== Snapshot Tests ====================
+
+    @Test
+    void testSnapshot_SharesUnchangedRows() {
+        grid.merge(DOMINO, 0, 5);
+        GridSnapshot first = grid.snapshot();
+        grid.merge(VERTICAL_DOMINO, 3, 3);
+        GridSnapshot second = grid.snapshot();
+
+        assertTrue(first.sharesRow(second, 5));
+        assertTrue(first.sharesRow(second, 0));
+        assertFalse(first.sharesRow(second, 3));
+        assertFalse(first.sharesRow(second, 4));
+        assertEquals(0, first.getCell(3, 3));
+        assertEquals(3, second.getCell(3, 3));
+    }
+
+    @Test
+    void testSnapshot_UnchangedByLaterClears() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+        GridSnapshot full = grid.snapshot();
+
+        assertEquals(1, grid.clearFullRows(cleared));
+        grid.clear();
+
+        assertEquals(2, full.getCell(5, 0));
+        assertEquals(2, full.getCell(5, 3));
+        assertEquals(0, grid.getMatrix()[5][0]);
+    }
+
+    @Test
+    void testRestore_BringsBackCellsCountsAndHash() {
+        grid.merge(VERTICAL_DOMINO, 1, 4);
+        GridSnapshot snapshot = grid.snapshot();
+        long hash = grid.getCellHash();
+        grid.merge(DOMINO, 2, 5);
+        grid.merge(DOMINO, 0, 2);
+
+        grid.restore(snapshot);
+
+        assertArrayEquals(snapshot.toMatrix(), grid.getMatrix());
+        assertEquals(1, grid.getRowFillCount(5));
+        assertEquals(4, grid.getColumnTop(1));
+        assertEquals(grid.getRows(), grid.getColumnTop(2));
+        assertEquals(hash, grid.getCellHash());
+    }
+
+    @Test
+    void testRestore_LaterWritesLeaveSnapshotIntact() {
+        GridSnapshot empty = grid.snapshot();
+        grid.restore(empty);
+
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+        grid.clearFullRows(cleared);
+        grid.merge(VERTICAL_DOMINO, 0, 4);
+
+        assertArrayEquals(new int[6][4], empty.toMatrix());
+        assertEquals(0L, empty.getCellHash());
+    }
+
+    @Test
+    void testRestore_MarksOnlyDifferingRows() {
+        grid.merge(DOMINO, 0, 5);
+        GridSnapshot snapshot = grid.snapshot();
+        grid.merge(VERTICAL_DOMINO, 3, 3);
+        grid.clearFullRows(cleared);
+        grid.resetChangedRows();
+
+        grid.restore(snapshot);
+
+        assertEquals(3, grid.getChangedTop());
+        assertEquals(4, grid.getChangedBottom());
+        assertArrayEquals(snapshot.toMatrix(), grid.getMatrix());
+        assertEquals(0, grid.clearFullRows(cleared));
+    }
+
+    @Test
+    void testRestore_SameSnapshotTwice() {
+        grid.merge(DOMINO, 0, 5);
+        GridSnapshot snapshot = grid.snapshot();
+        grid.merge(DOMINO, 2, 5);
+        grid.restore(snapshot);
+        grid.merge(VERTICAL_DOMINO, 2, 3);
+
+        grid.restore(snapshot);
+
+        assertArrayEquals(snapshot.toMatrix(), grid.getMatrix());
+        assertEquals(2, grid.getRowFillCount(5));
+        assertEquals(0, grid.getRowFillCount(3));
+        assertEquals(0, snapshot.getCell(3, 2));
+    }
+
+    @Test
+    void testRestore_TallGridKeepsSnapshotsApart() {
+        BoardGrid tall = new BoardGrid(1000, 4);
+        tall.merge(DOMINO, 0, 999);
+        GridSnapshot low = tall.snapshot();
+        tall.merge(VERTICAL_DOMINO, 3, 10);
+        GridSnapshot high = tall.snapshot();
+        tall.merge(DOMINO, 0, 500);
+        tall.resetChangedRows();
+
+        tall.restore(low);
+
+        assertEquals(10, tall.getChangedTop());
+        assertEquals(500, tall.getChangedBottom());
+        assertArrayEquals(low.toMatrix(), tall.getMatrix());
+        assertEquals(3, high.getCell(10, 3));
+        assertEquals(0, high.getCell(500, 0));
+        assertTrue(low.sharesRow(high, 999));
+        assertFalse(low.sharesRow(high, 10));
+    }
+
+    @Test
+    void testRestore_RejectsOtherSize() {
+        GridSnapshot small = new BoardGrid(3, 4).snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> grid.restore(small));
+    }
+
+    // ==================== Changed Row Tests ====================
+
+    @Test
+    void testChangedRows_EmptyOnNewGrid() {
+        assertTrue(grid.getChangedTop() > grid.getChangedBottom());
+    }
+
+    @Test
+    void testChangedRows_CoverMergedRowsUntilReset() {
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(VERTICAL_DOMINO, 3, 3);
+
+        assertEquals(3, grid.getChangedTop());
+        assertEquals(5, grid.getChangedBottom());
+
+        grid.resetChangedRows();
+        assertTrue(grid.getChangedTop() > grid.getChangedBottom());
+    }
+
+    @Test
+    void testChangedRows_ClearCoversShiftedRows() {
+        grid.merge(VERTICAL_DOMINO, 0, 3);
+        grid.merge(DOMINO, 0, 5);
+        grid.merge(DOMINO, 2, 5);
+        grid.resetChangedRows();
+
+        assertEquals(1, grid.clearFullRows(cleared));
+
+        // The domino moved from rows 3-4 to rows 4-5
+        assertEquals(3, grid.getChangedTop());
+        assertEquals(5, grid.getChangedBottom());
+    }
+
+    @Test
+    void testChangedRows_ClearMarksEveryRow() {
+        grid.clear();
+
+        assertEquals(0, grid.getChangedTop());
+        assertEquals(5, grid.getChangedBottom());
+    }
+}
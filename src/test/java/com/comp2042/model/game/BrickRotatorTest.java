@@ -47,11 +47,11 @@ class BrickRotatorTest {
 
     @Test
     void testSetCurrentShape_UpdatesPosition() {
-        rotator.setCurrentShape(1);
+        rotator.setCurrentShape(3);
 
         com.comp2042.model.data.NextShapeInfo next = rotator.getNextShape();
         assertEquals(0, next.getPosition(),
-                "IBrick has 2 states: after setting to 1, next should cycle to 0");
+                "IBrick has 4 states: after setting to 3, next should cycle to 0");
     }
 
     @Test
@@ -93,7 +93,7 @@ class BrickRotatorTest {
         com.comp2042.model.data.NextShapeInfo shape1 = rotator.getNextShape();
         assertEquals(1, shape1.getPosition());
 
-        rotator.setCurrentShape(1);
+        rotator.setCurrentShape(3);
         com.comp2042.model.data.NextShapeInfo shape2 = rotator.getNextShape();
         assertEquals(0, shape2.getPosition(), "Should cycle back to 0");
     }
@@ -279,6 +279,13 @@ class BrickRotatorTest {
                 "Next shape should match current shape after setting position");
     }
 
+    @Test
+    void testGetCurrentPiece_ReturnsSharedShapeWithoutCopying() {
+        assertSame(rotator.getCurrentPiece(), rotator.getCurrentPiece(),
+                "Piece shapes should come from the shared table");
+        assertSame(mockBrick.getPiece(1), rotator.getNextPiece());
+    }
+
     // Helper method
     private int countFilledCells(int[][] shape) {
         int count = 0;
@@ -57,20 +57,6 @@ class CollisionDetectorAdvancedTest {
                 "Cannot move right into obstacle");
     }
 
-    @Test
-    void testFindValidRotationPosition_WithWallKick() {
-        int[][] newShape = {{1, 1}, {1, 1}};
-        Point pos = new Point(9, 5);
-
-        Point validPos = detector.findValidRotationPosition(newShape, pos);
-
-        if (validPos != null) {
-            assertFalse(detector.wouldCollide(newShape,
-                            (int)validPos.getX(), (int)validPos.getY()),
-                    "Returned position should be valid");
-        }
-    }
-
     @Test
     void testCalculateShadowY_WithObstacles() {
         for (int j = 0; j < 10; j++) {
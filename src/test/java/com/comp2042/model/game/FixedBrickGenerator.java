@@ -0,0 +1,33 @@
+package com.comp2042.model.game;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Test generator that always returns the same brick.
+ */
+public class FixedBrickGenerator implements BrickGenerator {
+    private final Brick brick;
+
+    /**
+     * Creates a generator for one brick.
+     * @param brick brick to return every time
+     */
+    public FixedBrickGenerator(Brick brick) {
+        this.brick = brick;
+    }
+
+    @Override
+    public Brick getBrick() {
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return brick;
+    }
+
+    @Override
+    public void reset() {
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.model.game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    @Test
+    void testAdvance_AccumulatesMillis() {
+        GameClock clock = new GameClock();
+        clock.advance(1500);
+        clock.advance(700);
+
+        assertEquals(2200, clock.getElapsedMillis());
+        assertEquals(2, clock.getElapsedSeconds());
+    }
+
+    @Test
+    void testAdvance_NegativeThrows() {
+        GameClock clock = new GameClock();
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(-1));
+    }
+
+    @Test
+    void testReset_ReturnsToZero() {
+        GameClock clock = new GameClock();
+        clock.advance(5000);
+        clock.reset();
+
+        assertEquals(0, clock.getElapsedMillis());
+    }
+}
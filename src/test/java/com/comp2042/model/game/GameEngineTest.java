@@ -0,0 +1,142 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.model.data.ClearRow;
+import com.comp2042.util.GameConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+    private GameEngine blitzEngine;
+    private GameEngine zenEngine;
+
+    @BeforeEach
+    void setUp() {
+        blitzEngine = new GameEngine(
+                new BitBoard(25, 10, GameMode.BLITZ, new FixedBrickGenerator(new OBrick())), GameMode.BLITZ);
+        zenEngine = new GameEngine(
+                new BitBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new OBrick())), GameMode.ZEN);
+        blitzEngine.start();
+        zenEngine.start();
+    }
+
+    /**
+     * Moves the current brick to the given x position and hard drops it.
+     */
+    private ClearRow dropAt(GameEngine engine, int x) {
+        while (engine.getViewData().getxPosition() > x && engine.moveLeft()) { }
+        while (engine.getViewData().getxPosition() < x && engine.moveRight()) { }
+        return engine.hardDrop();
+    }
+
+    // ==================== Drop Tests ====================
+
+    @Test
+    void testHardDrop_ScoresTwoPointsPerRow() {
+        int startY = blitzEngine.getViewData().getyPosition();
+        int landingY = blitzEngine.getViewData().getShadowYPosition();
+
+        ClearRow clearRow = blitzEngine.hardDrop();
+
+        assertEquals(0, clearRow.getLinesRemoved());
+        assertEquals((landingY - startY) * 2, blitzEngine.getScore().getScore());
+        assertEquals(1, blitzEngine.getPiecesPlaced());
+    }
+
+    @Test
+    void testMoveDown_OnlyUserInputScores() {
+        assertNull(blitzEngine.moveDown(false));
+        assertEquals(0, blitzEngine.getScore().getScore());
+
+        assertNull(blitzEngine.moveDown(true));
+        assertEquals(1, blitzEngine.getScore().getScore());
+    }
+
+    @Test
+    void testMoveDown_LocksWhenBlocked() {
+        ClearRow clearRow = null;
+        while (clearRow == null) {
+            clearRow = blitzEngine.moveDown(false);
+        }
+
+        assertEquals(1, blitzEngine.getPiecesPlaced());
+        assertFalse(blitzEngine.isGameOver());
+    }
+
+    @Test
+    void testLineClear_UpdatesScoreLinesAndLevel() {
+        ClearRow clearRow = null;
+        for (int x = -1; x <= 7; x += 2) {
+            clearRow = dropAt(blitzEngine, x);
+        }
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(2, blitzEngine.getTotalLinesCleared());
+        assertEquals(2, blitzEngine.getLevel().getLinesCleared());
+        assertTrue(blitzEngine.getScore().getScore() >= clearRow.getScoreBonus());
+    }
+
+    @Test
+    void testStackingInPlace_EndsInGameOver() {
+        for (int i = 0; i < 20 && !blitzEngine.isGameOver(); i++) {
+            blitzEngine.hardDrop();
+        }
+
+        assertTrue(blitzEngine.isGameOver());
+        assertTrue(blitzEngine.isFinished());
+    }
+
+    // ==================== Clock Tests ====================
+
+    @Test
+    void testTick_AppliesGravityPerInterval() {
+        int interval = zenEngine.getDropInterval();
+        int startY = zenEngine.getViewData().getyPosition();
+
+        assertEquals(0, zenEngine.tick(interval - 1));
+        assertEquals(3, zenEngine.tick(interval * 3L));
+
+        assertEquals(startY + 3, zenEngine.getViewData().getyPosition());
+        assertEquals(interval * 4L - 1, zenEngine.getClock().getElapsedMillis());
+    }
+
+    @Test
+    void testDropInterval_FollowsMode() {
+        assertEquals(GameConstants.DEFAULT_DROP_SPEED, zenEngine.getDropInterval());
+        assertEquals(blitzEngine.getLevel().getDropSpeed(), blitzEngine.getDropInterval());
+    }
+
+    @Test
+    void testTick_BlitzEndsAtTimeLimit() {
+        blitzEngine.tick(GameConstants.BLITZ_TIME_SECONDS * 1000L);
+
+        assertTrue(blitzEngine.isFinished());
+        assertEquals(0, blitzEngine.tick(1000));
+    }
+
+    @Test
+    void testNewGame_ResetsCounters() {
+        blitzEngine.hardDrop();
+        blitzEngine.tick(1000);
+
+        blitzEngine.newGame();
+
+        assertEquals(0, blitzEngine.getScore().getScore());
+        assertEquals(0, blitzEngine.getPiecesPlaced());
+        assertEquals(0, blitzEngine.getClock().getElapsedMillis());
+        assertEquals(1, blitzEngine.getLevel().getLevel());
+        assertFalse(blitzEngine.isFinished());
+    }
+
+    @Test
+    void testNewGame_ReportsSpawnResult() {
+        while (!blitzEngine.isGameOver()) {
+            blitzEngine.hardDrop();
+        }
+
+        assertFalse(blitzEngine.newGame());
+        assertFalse(blitzEngine.isGameOver());
+    }
+}
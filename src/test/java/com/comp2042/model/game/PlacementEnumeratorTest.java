@@ -0,0 +1,208 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.util.MatrixOperations;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEnumeratorTest {
+    private PlacementEnumerator enumerator;
+    private int[][] board;
+
+    @BeforeEach
+    void setUp() {
+        enumerator = new PlacementEnumerator(25, 10);
+        board = new int[25][10];
+    }
+
+    /**
+     * Builds a string of the board cells a placement covers.
+     */
+    private String footprint(int index) {
+        return footprint(enumerator.getPlacementPiece(index),
+                enumerator.getPlacementX(index), enumerator.getPlacementY(index));
+    }
+
+    /**
+     * Builds a string of the board cells a shape covers at a position.
+     */
+    private static String footprint(PieceShape piece, int x, int y) {
+        StringBuilder cells = new StringBuilder();
+        for (int i = 0; i < piece.getCellCount(); i++) {
+            cells.append(y + piece.getCellRow(i)).append(',')
+                    .append(x + piece.getCellColumn(i)).append(';');
+        }
+        return cells.toString();
+    }
+
+    // ==================== Empty Board Tests ====================
+
+    @Test
+    void testEmptyBoard_OBrickHasOnePlacementPerPair() {
+        assertEquals(9, enumerator.enumerate(board, new OBrick().getPieceId(), 0, 3, 0));
+    }
+
+    @Test
+    void testEmptyBoard_IBrickHorizontalAndVertical() {
+        assertEquals(7 + 10, enumerator.enumerate(board, new IBrick().getPieceId(), 0, 3, 0));
+    }
+
+    @Test
+    void testEmptyBoard_TBrickAllRotations() {
+        assertEquals(8 + 9 + 8 + 9, enumerator.enumerate(board, new TBrick().getPieceId(), 0, 3, 0));
+    }
+
+    // ==================== Rule Tests ====================
+
+    @Test
+    void testPlacements_AreRestingAndUnique() {
+        for (int c = 0; c < 10; c += 3) {
+            board[24][c] = 1;
+            board[23][c] = 1;
+        }
+        int count = enumerator.enumerate(board, new TBrick().getPieceId(), 0, 3, 0);
+        Set<String> footprints = new HashSet<>();
+
+        for (int i = 0; i < count; i++) {
+            PieceShape piece = enumerator.getPlacementPiece(i);
+            int x = enumerator.getPlacementX(i);
+            int y = enumerator.getPlacementY(i);
+            assertFalse(MatrixOperations.intersect(board, piece, x, y), "Placement should fit");
+            assertTrue(MatrixOperations.intersect(board, piece, x, y + 1), "Placement should be resting");
+            assertTrue(footprints.add(footprint(i)), "Placements should be unique");
+        }
+    }
+
+    @Test
+    void testSlideUnderOverhang_IsReachable() {
+        for (int c = 0; c <= 2; c++) {
+            board[22][c] = 1;
+        }
+
+        int count = enumerator.enumerate(board, new OBrick().getPieceId(), 0, 3, 0);
+
+        boolean tucked = false;
+        for (int i = 0; i < count; i++) {
+            tucked |= footprint(i).equals("23,0;23,1;24,0;24,1;");
+        }
+        assertTrue(tucked, "O brick should slide under the shelf");
+    }
+
+    @Test
+    void testSealedCavity_IsNotReachable() {
+        for (int c = 0; c < 10; c++) {
+            board[22][c] = 1;
+        }
+
+        int count = enumerator.enumerate(board, new OBrick().getPieceId(), 0, 3, 0);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(enumerator.getPlacementY(i) + enumerator.getPlacementPiece(i).getMaxRow() < 22,
+                    "Nothing should land below a full roof");
+        }
+    }
+
+    @Test
+    void testBlockedSpawn_ReturnsNoPlacements() {
+        board[1][4] = 1;
+
+        assertEquals(0, enumerator.enumerate(board, new OBrick().getPieceId(), 0, 3, 0));
+    }
+
+    // ==================== Board Integration Tests ====================
+
+    @Test
+    void testEnumerateBoard_MatchesStepwiseHardDrop() {
+        SimpleBoard simpleBoard = new SimpleBoard(25, 10, GameMode.BLITZ, new SeededBrickGenerator(4L));
+        simpleBoard.createNewBrick();
+
+        int count = enumerator.enumerate(simpleBoard);
+
+        int dropY = simpleBoard.calculateShadowPosition();
+        int spawnX = simpleBoard.getViewData().getxPosition();
+        PieceShape current = simpleBoard.getViewData().getBrickPiece();
+        // Another rotation state may be listed for the same cells
+        String drop = footprint(current, spawnX, dropY);
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            found |= footprint(i).equals(drop);
+        }
+        assertTrue(found, "Straight drop from spawn should be listed");
+    }
+
+    @Test
+    void testEnumerateRowMasks_MatchesMatrix() {
+        board[24][0] = 1;
+        board[23][0] = 1;
+        long[] masks = new long[25];
+        PlacementEnumerator.toRowMasks(board, masks);
+
+        int fromMatrix = enumerator.enumerate(board, new TBrick().getPieceId(), 0, 3, 0);
+        int fromMasks = enumerator.enumerate(masks, new TBrick().getPieceId(), 0, 3, 0);
+
+        assertEquals(0b1L, masks[24]);
+        assertEquals(fromMatrix, fromMasks);
+    }
+
+    // ==================== Path Tests ====================
+
+    @Test
+    void testPlacementPath_ReplaysOnBoard() {
+        SimpleBoard simpleBoard = new SimpleBoard(25, 10, GameMode.ZEN, new SeededBrickGenerator(9L));
+        simpleBoard.createNewBrick();
+        BoardCells.fillRow(simpleBoard, 22, 0, 2);
+
+        int count = enumerator.enumerate(simpleBoard);
+        for (int i = 0; i < count; i++) {
+            SimpleBoard replay = new SimpleBoard(25, 10, GameMode.ZEN, new SeededBrickGenerator(9L));
+            replay.createNewBrick();
+            BoardCells.fillRow(replay, 22, 0, 2);
+            for (EventType move : enumerator.getPlacementPath(i)) {
+                boolean moved;
+                switch (move) {
+                    case LEFT:
+                        moved = replay.moveBrickLeft();
+                        break;
+                    case RIGHT:
+                        moved = replay.moveBrickRight();
+                        break;
+                    case ROTATE:
+                    case ROTATE_CW:
+                    case ROTATE_180:
+                        moved = replay.rotateBrick(RotationDirection.fromEventType(move));
+                        break;
+                    default:
+                        moved = replay.moveBrickDown();
+                        break;
+                }
+                assertTrue(moved, "Every path move should succeed");
+            }
+            assertFalse(replay.moveBrickDown(), "Path should end resting");
+            assertEquals(enumerator.getPlacementX(i), replay.getViewData().getxPosition());
+            assertEquals(enumerator.getPlacementY(i), replay.getViewData().getyPosition());
+            assertSame(enumerator.getPlacementPiece(i), replay.getViewData().getBrickPiece());
+        }
+    }
+
+    @Test
+    void testRotationOf_FindsTableRotation() {
+        TBrick brick = new TBrick();
+
+        assertEquals(2, PlacementEnumerator.rotationOf(brick.getPiece(2)));
+    }
+
+    @Test
+    void testConstructor_RejectsWideBoards() {
+        assertThrows(IllegalArgumentException.class, () -> new PlacementEnumerator(20, 65));
+    }
+}
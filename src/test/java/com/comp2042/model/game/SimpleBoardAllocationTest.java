@@ -0,0 +1,61 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the movement and collision path does not allocate.
+ */
+class SimpleBoardAllocationTest {
+
+    private static final int MOVES = 100_000;
+
+    /** Generous slack for allocations made by the measuring code itself */
+    private static final long ALLOCATION_SLACK_BYTES = 16 * 1024;
+
+    /**
+     * Performs one round of inputs that a player or bot would issue.
+     */
+    private static int playInputs(SimpleBoard board, int moves) {
+        int sink = 0;
+        for (int i = 0; i < moves; i++) {
+            switch (i & 3) {
+                case 0 -> sink += board.moveBrickLeft() ? 1 : 0;
+                case 1 -> sink += board.moveBrickRight() ? 1 : 0;
+                case 2 -> sink += board.rotateLeftBrick() ? 1 : 0;
+                default -> sink += board.calculateShadowPosition();
+            }
+            if ((i & 63) == 0) {
+                sink += board.moveBrickDown() ? 1 : 0;
+            }
+        }
+        return sink;
+    }
+
+    @Test
+    void testMovesAndCollisionChecks_DoNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Per-thread allocation counter not available");
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN);
+        board.createNewBrick();
+
+        // Warm up so JIT-compiled code is measured
+        playInputs(board, MOVES);
+
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        int sink = playInputs(board, MOVES);
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(sink > 0);
+        assertTrue(allocated < ALLOCATION_SLACK_BYTES,
+                "Expected no allocation across " + MOVES + " moves but saw " + allocated + " bytes");
+    }
+}
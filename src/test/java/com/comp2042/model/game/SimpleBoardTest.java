@@ -1,8 +1,11 @@
 package com.comp2042.model.game;
 
 import com.comp2042.enums.GameMode;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.bricks.TBrick;
 import com.comp2042.model.data.ClearRow;
 import com.comp2042.model.data.ViewData;
+import com.comp2042.util.MatrixOperations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
@@ -391,10 +394,7 @@ class SimpleBoardTest {
         // Fill and clear multiple times
         for (int iteration = 0; iteration < 3; iteration++) {
             // Fill bottom row
-            int[][] matrix = zenBoard.getBoardMatrix();
-            for (int j = 0; j < matrix[0].length; j++) {
-                matrix[matrix.length - 1][j] = 1;
-            }
+            BoardCells.fillRow(zenBoard, 24, 0, 9);
 
             // Clear rows
             ClearRow clearRow = zenBoard.clearRows();
@@ -416,11 +416,8 @@ class SimpleBoardTest {
         zenBoard.createNewBrick();
 
         // Fill bottom 5 rows
-        int[][] matrix = zenBoard.getBoardMatrix();
         for (int i = 20; i < 25; i++) {
-            for (int j = 0; j < 10; j++) {
-                matrix[i][j] = 1;
-            }
+            BoardCells.fillRow(zenBoard, i, 0, 9);
         }
 
         int shadowY = zenBoard.calculateShadowPosition();
@@ -466,10 +463,7 @@ class SimpleBoardTest {
         zenBoard.createNewBrick();
 
         // Fill bottom row completely
-        int[][] matrix = zenBoard.getBoardMatrix();
-        for (int j = 0; j < matrix[0].length; j++) {
-            matrix[matrix.length - 1][j] = 1;
-        }
+        BoardCells.fillRow(zenBoard, 24, 0, 9);
 
         ClearRow result = zenBoard.clearRows();
 
@@ -521,4 +515,288 @@ class SimpleBoardTest {
         assertEquals(0, holdAfterReset.length,
                 "Hold brick should be cleared after new game");
     }
-}
\ No newline at end of file
+
+    // ==================== Hard Drop Tests ====================
+
+    @Test
+    void testHardDropBrick_LandsOnShadowPosition() {
+        blitzBoard.createNewBrick();
+        int shadowY = blitzBoard.calculateShadowPosition();
+        int startY = blitzBoard.getViewData().getyPosition();
+
+        int distance = blitzBoard.hardDropBrick();
+
+        assertEquals(shadowY - startY, distance);
+        assertEquals(shadowY, blitzBoard.getViewData().getyPosition());
+        assertFalse(blitzBoard.moveBrickDown(), "Brick should be resting after hard drop");
+    }
+
+    @Test
+    void testShadowPosition_MatchesStepwiseDropOnStack() {
+        blitzBoard.createNewBrick();
+        for (int i = 0; i < 6; i++) {
+            for (int j = 0; j < i; j++) {
+                blitzBoard.moveBrickLeft();
+            }
+            blitzBoard.hardDropBrick();
+            blitzBoard.mergeBrickToBackground();
+            blitzBoard.clearRows();
+            blitzBoard.createNewBrick();
+        }
+
+        int shadowY = blitzBoard.calculateShadowPosition();
+        int steps = blitzBoard.getViewData().getyPosition();
+        while (blitzBoard.moveBrickDown()) {
+            steps++;
+        }
+        assertEquals(steps, shadowY);
+    }
+
+    @Test
+    void testShadowPosition_AfterCellsFilled() {
+        blitzBoard.createNewBrick();
+        int before = blitzBoard.calculateShadowPosition();
+
+        BoardCells.fillRow(blitzBoard, 24, 0, 9);
+
+        assertEquals(before - 1, blitzBoard.calculateShadowPosition());
+    }
+
+    @Test
+    void testShadowPosition_AgreesWithStepwiseScanThroughoutGame() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new SeededBrickGenerator(17L));
+        board.newGame();
+        java.util.Random random = new java.util.Random(17L);
+
+        for (int placed = 0; placed < 300; placed++) {
+            for (int r = random.nextInt(4); r > 0; r--) {
+                board.rotateLeftBrick();
+                assertShadowMatchesScan(board);
+            }
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+                assertShadowMatchesScan(board);
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+            assertShadowMatchesScan(board);
+        }
+    }
+
+    private static void assertShadowMatchesScan(SimpleBoard board) {
+        ViewData view = board.getViewData();
+        int scanned = new CollisionDetector(board.getBoardMatrix())
+                .calculateShadowY(view.getBrickPiece(), view.getxPosition(), view.getyPosition());
+        assertEquals(scanned, board.calculateShadowPosition());
+    }
+
+    // ==================== State Hash Tests ====================
+
+    @Test
+    void testStateHash_ChangesWithHoldAndDraws() {
+        blitzBoard.createNewBrick();
+        long initial = blitzBoard.getStateHash();
+
+        blitzBoard.holdBrick();
+
+        assertNotEquals(initial, blitzBoard.getStateHash());
+        assertEquals(2, blitzBoard.getBricksDrawn());
+    }
+
+    @Test
+    void testStateHash_StableWhenNothingChanges() {
+        blitzBoard.createNewBrick();
+        long before = blitzBoard.getStateHash();
+
+        blitzBoard.moveBrickLeft();
+        blitzBoard.rotateLeftBrick();
+
+        assertEquals(before, blitzBoard.getStateHash(), "Brick position is not part of the hash");
+    }
+
+    // ==================== Snapshot Tests ====================
+
+    @Test
+    void testRestore_RewindsBoardBrickHoldAndSequence() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new SeededBrickGenerator(5L));
+        board.newGame();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.clearRows();
+        board.createNewBrick();
+        board.holdBrick();
+        board.moveBrickLeft();
+        BoardSnapshot snapshot = board.snapshot();
+        int[][] matrix = MatrixOperations.copy(board.getBoardMatrix());
+        ViewData before = board.getViewData();
+        long hash = board.getStateHash();
+
+        for (int i = 0; i < 5; i++) {
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.restore(snapshot);
+
+        ViewData after = board.getViewData();
+        assertArrayEquals(matrix, board.getBoardMatrix());
+        assertSame(before.getBrickPiece(), after.getBrickPiece());
+        assertEquals(before.getxPosition(), after.getxPosition());
+        assertEquals(before.getyPosition(), after.getyPosition());
+        assertSame(before.getNextBrickPiece(), after.getNextBrickPiece());
+        assertSame(before.getHoldBrickPiece(), after.getHoldBrickPiece());
+        assertFalse(board.canHold());
+        assertEquals(hash, board.getStateHash());
+    }
+
+    @Test
+    void testRestore_ReplaysIdentically() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new SeededBrickGenerator(11L));
+        board.newGame();
+        BoardSnapshot start = board.snapshot();
+
+        int[][] first = playDrops(board, 12);
+        board.restore(start);
+        int[][] second = playDrops(board, 12);
+
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void testRestore_NonSeekableGeneratorKeepsItsPosition() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new TBrick()));
+        board.newGame();
+        BoardSnapshot snapshot = board.snapshot();
+
+        assertEquals(-1, snapshot.getGeneratorPosition());
+        playDrops(board, 2);
+        assertDoesNotThrow(() -> board.restore(snapshot));
+    }
+
+    /**
+     * Drops bricks at alternating columns and returns a copy of the board.
+     */
+    private static int[][] playDrops(SimpleBoard board, int drops) {
+        for (int i = 0; i < drops; i++) {
+            for (int m = 0; m < i % 4; m++) {
+                if (i % 2 == 0) {
+                    board.moveBrickLeft();
+                } else {
+                    board.moveBrickRight();
+                }
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        return MatrixOperations.copy(board.getBoardMatrix());
+    }
+
+    // ==================== Board Size Tests ====================
+
+    @Test
+    void testLargeBoard_SpawnsCentredAndDropsToFloor() {
+        SimpleBoard board = new SimpleBoard(100, 40, GameMode.ZEN, new SeededBrickGenerator(3L));
+        board.newGame();
+
+        assertEquals(18, board.getViewData().getxPosition());
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+
+        int filled = 0;
+        for (int c = 0; c < 40; c++) {
+            filled += board.getBoardMatrix()[99][c] != 0 ? 1 : 0;
+        }
+        assertTrue(filled > 0, "Brick should rest on the bottom row");
+    }
+
+    @Test
+    void testMegaBoard_ClearsFullBottomRow() {
+        SimpleBoard board = new SimpleBoard(1000, 64, GameMode.ZEN, new SeededBrickGenerator(3L));
+        board.newGame();
+        BoardCells.fillRow(board, 999, 1, 63);
+        BoardCells.set(board, 998, 0, 1);
+
+        // Fill the gap under the overhang in column 0
+        BoardCells.set(board, 999, 0, 1);
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(1, board.getBoardMatrix()[999][0]);
+        assertEquals(0, board.getBoardMatrix()[999][1]);
+    }
+
+    // ==================== View Change Tests ====================
+
+    @Test
+    void testCurrentBrick_MatchesViewData() {
+        zenBoard.newGame();
+        zenBoard.moveBrickLeft();
+        zenBoard.moveBrickDown();
+        ViewData view = zenBoard.getViewData();
+
+        assertSame(view.getBrickPiece(), zenBoard.getCurrentPiece());
+        assertEquals(view.getxPosition(), zenBoard.getCurrentX());
+        assertEquals(view.getyPosition(), zenBoard.getCurrentY());
+        assertSame(view.getNextBrickPiece(), zenBoard.getNextPiece());
+    }
+
+    @Test
+    void testViewData_MoveLeavesBoardVersion() {
+        zenBoard.newGame();
+        ViewData before = zenBoard.getViewData();
+        zenBoard.moveBrickLeft();
+        ViewData after = zenBoard.getViewData();
+
+        assertEquals(ViewData.PIECE_MOVED, after.changesSince(before));
+    }
+
+    @Test
+    void testViewData_LockChangesBoardVersion() {
+        zenBoard.newGame();
+        ViewData before = zenBoard.getViewData();
+        zenBoard.hardDropBrick();
+        zenBoard.mergeBrickToBackground();
+        zenBoard.clearRows();
+        zenBoard.createNewBrick();
+        ViewData after = zenBoard.getViewData();
+
+        assertNotEquals(0, after.changesSince(before) & ViewData.BOARD_CHANGED);
+    }
+
+    @Test
+    void testViewData_RestoreChangesBoardVersion() {
+        zenBoard.newGame();
+        BoardSnapshot snapshot = zenBoard.snapshot();
+        ViewData before = zenBoard.getViewData();
+        zenBoard.restore(snapshot);
+
+        assertEquals(ViewData.BOARD_CHANGED, zenBoard.getViewData().changesSince(before));
+    }
+
+    @Test
+    void testChangedRows_LockCoversBrickRowsOnly() {
+        zenBoard.newGame();
+        zenBoard.resetChangedRows();
+        zenBoard.hardDropBrick();
+        zenBoard.mergeBrickToBackground();
+
+        int top = zenBoard.getChangedRowsTop();
+        assertEquals(24, zenBoard.getChangedRowsBottom());
+        assertTrue(top >= 22 && top <= 24, "Brick rows should start near the floor");
+        for (int row = 0; row < top; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(0, zenBoard.getBoardMatrix()[row][col]);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.comp2042.model.game;
+
+import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.util.GameConstants;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WallKicksTest {
+
+    private static final int I = 1;
+    private static final int O = 4;
+    private static final int S = 5;
+    private static final int T = 6;
+
+    // ==================== Table Tests ====================
+
+    @Test
+    void testKicks_StartWithoutOffsetAndComeInPairs() {
+        for (int id = 1; id <= PieceTable.PIECE_COUNT; id++) {
+            for (int r = 0; r < PieceTable.getRotationCount(id); r++) {
+                for (RotationDirection direction : RotationDirection.values()) {
+                    int[] kicks = WallKicks.kicks(id, r, direction);
+                    assertEquals(0, kicks.length % 2);
+                    assertEquals(0, kicks[0]);
+                    assertEquals(0, kicks[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testTargetRotation_QuarterTurnsStepOrientation() {
+        for (int id = 1; id <= PieceTable.PIECE_COUNT; id++) {
+            if (id == O) {
+                continue;
+            }
+            for (int r = 0; r < 4; r++) {
+                assertEquals((r + 1) & 3, WallKicks.targetRotation(id, r, RotationDirection.CLOCKWISE));
+                assertEquals((r + 3) & 3, WallKicks.targetRotation(id, r, RotationDirection.COUNTER_CLOCKWISE));
+                assertEquals((r + 2) & 3, WallKicks.targetRotation(id, r, RotationDirection.HALF_TURN));
+            }
+        }
+    }
+
+    @Test
+    void testTargetRotation_OppositeTurnsCancel() {
+        for (int id = 1; id <= PieceTable.PIECE_COUNT; id++) {
+            for (int r = 0; r < PieceTable.getRotationCount(id); r++) {
+                int cw = WallKicks.targetRotation(id, r, RotationDirection.CLOCKWISE);
+                assertEquals(r, WallKicks.targetRotation(id, cw, RotationDirection.COUNTER_CLOCKWISE));
+            }
+        }
+    }
+
+    @Test
+    void testKicks_MatchSrsTablesInBoardCoordinates() {
+        // SRS lists these with y up: 0->R is (0,0) (-1,0) (-1,+1) (0,-2) (-1,-2)
+        assertArrayEquals(new int[]{0, 0, -1, 0, -1, -1, 0, 2, -1, 2},
+                WallKicks.kicks(T, 0, RotationDirection.CLOCKWISE));
+        // and for I, 0->R is (0,0) (-2,0) (+1,0) (-2,-1) (+1,+2)
+        assertArrayEquals(new int[]{0, 0, -2, 0, 1, 0, -2, 1, 1, -2},
+                WallKicks.kicks(I, 0, RotationDirection.CLOCKWISE));
+        // S uses the J, L, S, T, Z table for every quarter turn
+        assertArrayEquals(WallKicks.kicks(T, 3, RotationDirection.COUNTER_CLOCKWISE),
+                WallKicks.kicks(S, 3, RotationDirection.COUNTER_CLOCKWISE));
+    }
+
+    @Test
+    void testKicks_OBrickNeverMoves() {
+        for (RotationDirection direction : RotationDirection.values()) {
+            assertArrayEquals(new int[]{0, 0}, WallKicks.kicks(O, 0, direction));
+            assertEquals(0, WallKicks.targetRotation(O, 0, direction));
+        }
+    }
+
+    // ==================== Board Tests ====================
+
+    @Test
+    void testRotateBrick_KicksUpwardWhenBlockedBelow() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new TBrick()));
+        board.createNewBrick();
+        while (board.moveBrickDown()) { }
+        assertEquals(23, board.getViewData().getyPosition());
+
+        // (0, 0) and (-1, 0) reach below the floor; the third kick lifts the brick a row
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+
+        ViewData vd = board.getViewData();
+        assertEquals(2, vd.getxPosition());
+        assertEquals(22, vd.getyPosition());
+        assertSame(PieceTable.get(T, 1), vd.getBrickPiece());
+    }
+
+    @Test
+    void testRotateBrick_TSpinTripleUsesFifthKick() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new TBrick()));
+        // Slot in column 1 rows 22-24 with a foot at (2, 23), under an overhang at (1, 20)
+        BoardCells.fillRow(board, 24, 0, 0);
+        BoardCells.fillRow(board, 24, 2, 9);
+        BoardCells.fillRow(board, 23, 0, 0);
+        BoardCells.fillRow(board, 23, 3, 9);
+        BoardCells.fillRow(board, 22, 0, 0);
+        BoardCells.fillRow(board, 22, 2, 9);
+        BoardCells.fillRow(board, 21, 0, 0);
+        BoardCells.fillRow(board, 20, 0, 1);
+        board.createNewBrick();
+        assertTrue(board.moveBrickLeft());
+        while (board.moveBrickDown()) { }
+        assertTrue(board.moveBrickLeft());
+        assertEquals(1, board.getViewData().getxPosition());
+        assertEquals(20, board.getViewData().getyPosition());
+
+        // 0 -> R: (0, 0), (-1, 0), (-1, -1) and (0, +2) collide, (-1, +2) drops into the slot
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+
+        ViewData vd = board.getViewData();
+        assertEquals(0, vd.getxPosition());
+        assertEquals(22, vd.getyPosition());
+        assertSame(PieceTable.get(T, 1), vd.getBrickPiece());
+        board.mergeBrickToBackground();
+        assertEquals(3, board.clearRows().getLinesRemoved());
+    }
+
+    @Test
+    void testRotateBrick_IBrickKicksTwoOffLeftWall() {
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new IBrick()));
+        board.createNewBrick();
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+        while (board.moveBrickLeft()) { }
+        assertEquals(-2, board.getViewData().getxPosition());
+
+        // R -> 2: (0, 0) and (-1, 0) stick out of the wall, (+2, 0) fits
+        assertTrue(board.rotateBrick(RotationDirection.CLOCKWISE));
+
+        ViewData vd = board.getViewData();
+        assertEquals(0, vd.getxPosition());
+        assertEquals(GameConstants.SPAWN_Y, vd.getyPosition());
+        assertSame(PieceTable.get(I, 2), vd.getBrickPiece());
+    }
+
+    @Test
+    void testRotateBrick_BitBoardMatchesSimpleBoard() {
+        SimpleBoard simple = new SimpleBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new TBrick()));
+        BitBoard bits = new BitBoard(25, 10, GameMode.ZEN, new FixedBrickGenerator(new TBrick()));
+        simple.createNewBrick();
+        bits.createNewBrick();
+        RotationDirection[] turns = {RotationDirection.CLOCKWISE, RotationDirection.HALF_TURN,
+                RotationDirection.COUNTER_CLOCKWISE};
+
+        for (int i = 0; i < 12; i++) {
+            if (i % 3 == 0) {
+                while (simple.moveBrickLeft()) { }
+                while (bits.moveBrickLeft()) { }
+            }
+            RotationDirection turn = turns[i % turns.length];
+            assertEquals(simple.rotateBrick(turn), bits.rotateBrick(turn));
+            assertEquals(simple.getViewData().getxPosition(), bits.getViewData().getxPosition());
+            assertEquals(simple.getViewData().getyPosition(), bits.getViewData().getyPosition());
+            assertSame(simple.getViewData().getBrickPiece(), bits.getViewData().getBrickPiece());
+        }
+    }
+}
@@ -145,4 +145,17 @@ class BlitzLevelTest {
         assertTrue(speed2 < speed1, "Speed should decrease at level 2");
         assertTrue(speed3 < speed2, "Speed should decrease at level 3");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSharedProgression_RefreshShowsOutsideChanges() {
+        LevelProgression progression = new LevelProgression();
+        BlitzLevel shared = new BlitzLevel(progression);
+
+        progression.addLines(3);
+        assertEquals(1, shared.levelProperty().get());
+
+        shared.refresh();
+        assertEquals(2, shared.levelProperty().get());
+        assertEquals(progression.getDropSpeed(), shared.getDropSpeed());
+    }
+}
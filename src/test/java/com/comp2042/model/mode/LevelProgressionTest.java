@@ -0,0 +1,52 @@
+package com.comp2042.model.mode;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelProgressionTest {
+
+    @Test
+    void testInitialState_Level1() {
+        LevelProgression progression = new LevelProgression();
+
+        assertEquals(1, progression.getLevel());
+        assertEquals(3, progression.getLinesNeeded());
+        assertEquals(400, progression.getDropSpeed());
+    }
+
+    @Test
+    void testAddLines_CarriesOverflowAcrossLevels() {
+        LevelProgression progression = new LevelProgression();
+        progression.addLines(9);
+
+        assertEquals(3, progression.getLevel());
+        assertEquals(1, progression.getLinesCleared());
+        assertEquals(7, progression.getLinesNeeded());
+    }
+
+    @Test
+    void testAddLines_NegativeIgnored() {
+        LevelProgression progression = new LevelProgression();
+        progression.addLines(-2);
+
+        assertEquals(0, progression.getLinesCleared());
+    }
+
+    @Test
+    void testDropSpeed_FloorsAt30ms() {
+        LevelProgression progression = new LevelProgression();
+        progression.addLines(10000);
+
+        assertEquals(30, progression.getDropSpeed());
+    }
+
+    @Test
+    void testReset_ReturnsToLevel1() {
+        LevelProgression progression = new LevelProgression();
+        progression.addLines(20);
+        progression.reset();
+
+        assertEquals(1, progression.getLevel());
+        assertEquals(0, progression.getLinesCleared());
+    }
+}
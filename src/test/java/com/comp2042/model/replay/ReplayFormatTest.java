@@ -0,0 +1,222 @@
+package com.comp2042.model.replay;
+
+import com.comp2042.enums.EventSource;
+import com.comp2042.enums.EventType;
+import com.comp2042.enums.GameMode;
+import com.comp2042.enums.RotationDirection;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.data.MoveEvent;
+import com.comp2042.model.game.GameEngine;
+import com.comp2042.model.game.SimpleBoard;
+import com.comp2042.util.GameConstants;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayFormatTest {
+
+    /**
+     * Writes a replay to memory.
+     */
+    private static byte[] write(long seed, GameMode mode, MoveEvent[] events, long[] times) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(out), seed, mode,
+                GameConstants.BOARD_ROWS, GameConstants.BOARD_COLUMNS, 0)) {
+            for (int i = 0; i < events.length; i++) {
+                if (events[i] == null) {
+                    writer.recordNewGame(times[i]);
+                } else {
+                    writer.record(events[i], times[i]);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static ReplayReader read(byte[] data) throws IOException {
+        return new ReplayReader(Channels.newChannel(new ByteArrayInputStream(data)));
+    }
+
+    // ==================== Round Trip Tests ====================
+
+    @Test
+    void testRoundTrip_HeaderAndEvents() throws IOException {
+        MoveEvent[] events = {
+                new MoveEvent(EventType.LEFT, EventSource.USER),
+                new MoveEvent(EventType.DOWN, EventSource.THREAD),
+                new MoveEvent(EventType.DOWN, EventSource.USER),
+                null,
+                new MoveEvent(EventType.HOLD, EventSource.USER)
+        };
+        long[] times = {5, 400, 1_000_000_000L, 1_000_000_010L, 1_000_000_010L};
+
+        try (ReplayReader reader = read(write(-123456789L, GameMode.ZEN, events, times))) {
+            assertEquals(-123456789L, reader.getSeed());
+            assertEquals(GameMode.ZEN, reader.getGameMode());
+            assertEquals(GameConstants.BOARD_ROWS, reader.getRows());
+            assertEquals(GameConstants.BOARD_COLUMNS, reader.getColumns());
+
+            for (int i = 0; i < events.length; i++) {
+                assertTrue(reader.next());
+                assertEquals(times[i], reader.getTimeMillis());
+                MoveEvent event = reader.getMoveEvent();
+                if (events[i] == null) {
+                    assertEquals(ReplayFormat.ACTION_NEW_GAME, reader.getAction());
+                    assertNull(event);
+                } else {
+                    assertEquals(events[i].getEventType(), event.getEventType());
+                    assertEquals(events[i].getEventSource(), event.getEventSource());
+                }
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void testEncoding_QuickInputsTakeOneByte() throws IOException {
+        int count = 5000;
+        MoveEvent[] events = new MoveEvent[count];
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            events[i] = new MoveEvent(EventType.ROTATE_CW, EventSource.USER);
+            times[i] = i * 10L;
+        }
+
+        byte[] data = write(1L, GameMode.BLITZ, events, times);
+
+        assertEquals(ReplayFormat.HEADER_SIZE + count, data.length);
+    }
+
+    @Test
+    void testActionCodes_AllDistinct() {
+        int seen = 0;
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                int action = ReplayFormat.actionOf(new MoveEvent(type, source));
+                assertTrue(action >= 0 && action != ReplayFormat.ACTION_NEW_GAME);
+                seen |= 1 << action;
+            }
+        }
+        assertEquals(0x37F, seen, "Every event kind should map to its own code");
+    }
+
+    @Test
+    void testExtendedActions_TakeOneMoreByte() throws IOException {
+        MoveEvent[] events = {
+                new MoveEvent(EventType.ROTATE, EventSource.USER),
+                new MoveEvent(EventType.ROTATE_180, EventSource.USER)
+        };
+        byte[] data = write(1L, GameMode.ZEN, events, new long[]{1L, 2L});
+
+        assertEquals(ReplayFormat.HEADER_SIZE + 4, data.length);
+        try (ReplayReader reader = read(data)) {
+            assertTrue(reader.next());
+            assertEquals(ReplayFormat.ACTION_ROTATE, reader.getAction());
+            assertTrue(reader.next());
+            assertEquals(EventType.ROTATE_180, reader.getMoveEvent().getEventType());
+            assertFalse(reader.next());
+        }
+    }
+
+    // ==================== Error Tests ====================
+
+    @Test
+    void testReader_RejectsTruncatedHeader() {
+        assertThrows(EOFException.class, () -> read(new byte[]{0x54, 0x52}));
+    }
+
+    @Test
+    void testReader_RejectsWrongMagic() {
+        assertThrows(IOException.class, () -> read(new byte[ReplayFormat.HEADER_SIZE]));
+    }
+
+    @Test
+    void testReader_RejectsUnsupportedBoardSize() throws IOException {
+        byte[] data = write(1L, GameMode.ZEN, new MoveEvent[0], new long[0]);
+        // Columns field sits after magic, version, mode and rows
+        data[4 + 1 + 1 + 4 + 3] = (byte) (GameConstants.MAX_BOARD_COLUMNS + 1);
+
+        assertThrows(IOException.class, () -> read(data));
+    }
+
+    @Test
+    void testWriter_RejectsEventsAfterClose() throws IOException {
+        ReplayWriter writer = new ReplayWriter(Channels.newChannel(new ByteArrayOutputStream()),
+                1L, GameMode.ZEN, GameConstants.BOARD_ROWS, GameConstants.BOARD_COLUMNS, 0);
+        writer.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> writer.record(new MoveEvent(EventType.LEFT, EventSource.USER), 1));
+    }
+
+    // ==================== Replay Tests ====================
+
+    @Test
+    void testReplay_ReproducesHeadlessGame() throws IOException {
+        assertReplayReproduces(25, 10);
+    }
+
+    @Test
+    void testReplay_ReproducesGameOnLargerBoard() throws IOException {
+        assertReplayReproduces(100, 40);
+    }
+
+    /**
+     * Records a scripted game on a board of the given size, then replays it on a
+     * board built only from the replay header and checks both games match.
+     */
+    private static void assertReplayReproduces(int rows, int columns) throws IOException {
+        long seed = 31337L;
+        GameEngine original = new GameEngine(
+                new SimpleBoard(rows, columns, GameMode.BLITZ, new SeededBrickGenerator(seed)), GameMode.BLITZ);
+        original.start();
+
+        EventType[] pattern = {EventType.LEFT, EventType.ROTATE, EventType.LEFT, EventType.DOWN,
+                EventType.RIGHT, EventType.HARD_DROP, EventType.HOLD, EventType.ROTATE_CW, EventType.RIGHT,
+                EventType.HARD_DROP, EventType.ROTATE_180, EventType.HARD_DROP};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(Channels.newChannel(out), seed, GameMode.BLITZ,
+                rows, columns, 0)) {
+            for (int i = 0; i < 300 && !original.isGameOver(); i++) {
+                MoveEvent event = new MoveEvent(pattern[i % pattern.length], EventSource.USER);
+                writer.record(event, i * 16L);
+                apply(original, event);
+            }
+        }
+
+        try (ReplayReader reader = read(out.toByteArray())) {
+            assertEquals(rows, reader.getRows());
+            assertEquals(columns, reader.getColumns());
+            GameEngine replayed = new GameEngine(new SimpleBoard(reader.getRows(), reader.getColumns(),
+                    reader.getGameMode(),
+                    new SeededBrickGenerator(reader.getSeed())), reader.getGameMode());
+            replayed.start();
+            while (reader.next()) {
+                apply(replayed, reader.getMoveEvent());
+            }
+
+            assertArrayEquals(original.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix());
+            assertEquals(original.getScore().getScore(), replayed.getScore().getScore());
+            assertEquals(original.getPiecesPlaced(), replayed.getPiecesPlaced());
+        }
+    }
+
+    /**
+     * Applies an event to an engine the same way the controller does.
+     */
+    private static void apply(GameEngine engine, MoveEvent event) {
+        switch (event.getEventType()) {
+            case LEFT -> engine.moveLeft();
+            case RIGHT -> engine.moveRight();
+            case ROTATE, ROTATE_CW, ROTATE_180 ->
+                    engine.rotate(RotationDirection.fromEventType(event.getEventType()));
+            case HOLD -> engine.hold();
+            case HARD_DROP -> engine.hardDrop();
+            case DOWN -> engine.moveDown(event.getEventSource() == EventSource.USER);
+        }
+    }
+}
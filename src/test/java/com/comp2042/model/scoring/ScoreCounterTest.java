@@ -0,0 +1,34 @@
+package com.comp2042.model.scoring;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreCounterTest {
+
+    @Test
+    void testAdd_RaisesHighScore() {
+        ScoreCounter counter = new ScoreCounter();
+        counter.add(120);
+
+        assertEquals(120, counter.getScore());
+        assertEquals(120, counter.getHighScore());
+    }
+
+    @Test
+    void testAdd_KeepsHigherStartingHighScore() {
+        ScoreCounter counter = new ScoreCounter(500);
+        counter.add(120);
+
+        assertEquals(500, counter.getHighScore());
+    }
+
+    @Test
+    void testReset_PreservesHighScore() {
+        ScoreCounter counter = new ScoreCounter();
+        counter.add(300);
+        counter.reset();
+
+        assertEquals(0, counter.getScore());
+        assertEquals(300, counter.getHighScore());
+    }
+}
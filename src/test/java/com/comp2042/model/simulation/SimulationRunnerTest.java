@@ -0,0 +1,87 @@
+package com.comp2042.model.simulation;
+
+import com.comp2042.enums.GameMode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    private SimulationRunner blitzRunner() {
+        return new SimulationRunner(GameMode.BLITZ, RandomMovePolicy::new);
+    }
+
+    @Test
+    void testRunGames_ReturnsOneResultPerGame() {
+        List<SimulationResult> results = blitzRunner().runGames(1L, 40);
+
+        assertEquals(40, results.size());
+        for (SimulationResult result : results) {
+            assertTrue(result.getPiecesPlaced() > 0);
+            assertTrue(result.isGameOver() || result.getSurvivalMillis() > 0);
+        }
+    }
+
+    @Test
+    void testRunGames_DeterministicAcrossThreadCounts() {
+        SimulationRunner parallel = blitzRunner();
+        SimulationRunner serial = blitzRunner();
+        serial.setParallelism(1);
+
+        List<SimulationResult> first = parallel.runGames(99L, 24);
+        List<SimulationResult> second = serial.runGames(99L, 24);
+
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getSeed(), second.get(i).getSeed());
+            assertEquals(first.get(i).getScore(), second.get(i).getScore());
+            assertEquals(first.get(i).getPiecesPlaced(), second.get(i).getPiecesPlaced());
+            assertEquals(first.get(i).getSurvivalMillis(), second.get(i).getSurvivalMillis());
+        }
+    }
+
+    @Test
+    void testPlayGame_ReproducesBatchEntry() {
+        SimulationRunner runner = blitzRunner();
+        SimulationResult fromBatch = runner.runGames(7L, 5).get(3);
+
+        SimulationResult rerun = runner.playGame(fromBatch.getSeed());
+
+        assertEquals(fromBatch.getScore(), rerun.getScore());
+        assertEquals(fromBatch.getLinesCleared(), rerun.getLinesCleared());
+    }
+
+    @Test
+    void testZenGames_StopAtPieceLimit() {
+        SimulationRunner runner = new SimulationRunner(GameMode.ZEN, RandomMovePolicy::new);
+        runner.setMaxPieces(50);
+
+        SimulationResult result = runner.playGame(3L);
+
+        assertEquals(50, result.getPiecesPlaced());
+        assertFalse(result.isGameOver(), "Zen mode clears the board instead of ending");
+    }
+
+    @Test
+    void testBlitzGames_StopAtTimeLimit() {
+        SimulationRunner runner = new SimulationRunner(GameMode.BLITZ, seed -> engine -> { });
+
+        SimulationResult result = runner.playGame(5L);
+
+        assertTrue(result.isGameOver() || result.getSurvivalMillis() >= 120_000);
+    }
+
+    @Test
+    void testSummary_AggregatesResults() {
+        SimulationSummary summary = new SimulationSummary(List.of(
+                new SimulationResult(1L, 100, 2, 10, 5000, true),
+                new SimulationResult(2L, 300, 6, 30, 15000, false)));
+
+        assertEquals(2, summary.getGames());
+        assertEquals(1, summary.getGameOvers());
+        assertEquals(200.0, summary.getScore().getAverage());
+        assertEquals(4.0, summary.getLines().getAverage());
+        assertEquals(30, summary.getPieces().getMax());
+        assertEquals(10000.0, summary.getSurvival().getAverage());
+        assertEquals(Math.sqrt(20000), summary.getScoreStandardDeviation(), 1e-9);
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameConstantsTest {
+
+    // ==================== Spawn Tests ====================
+
+    @Test
+    void testSpawnX_DefaultWidthUnchanged() {
+        assertEquals(GameConstants.SPAWN_X, GameConstants.spawnX(GameConstants.BOARD_COLUMNS));
+    }
+
+    @Test
+    void testSpawnX_CentredOnWideBoards() {
+        // A brick's 4-column shape box sits in the middle of the board
+        assertEquals(18, GameConstants.spawnX(40));
+        assertEquals(30, GameConstants.spawnX(64));
+    }
+
+    @Test
+    void testSpawnX_FitsNarrowestBoard() {
+        assertEquals(0, GameConstants.spawnX(GameConstants.MIN_BOARD_COLUMNS));
+    }
+
+    // ==================== Cell Size Tests ====================
+
+    @Test
+    void testCellSize_DefaultBoardUsesBrickSize() {
+        assertEquals(GameConstants.BRICK_SIZE,
+                GameConstants.cellSize(GameConstants.BOARD_ROWS, GameConstants.BOARD_COLUMNS));
+    }
+
+    @Test
+    void testCellSize_ShrinksLargeBoardsToFit() {
+        int cell = GameConstants.cellSize(100, 40);
+        int pitch = cell + (int) GameConstants.BRICK_SPACING;
+
+        assertTrue(cell < GameConstants.BRICK_SIZE);
+        assertTrue(40 * pitch <= GameConstants.BOARD_COLUMNS * (GameConstants.BRICK_SIZE + 1));
+        assertTrue(98 * pitch <= 23 * (GameConstants.BRICK_SIZE + 1));
+    }
+
+    @Test
+    void testCellSize_NeverBelowOnePixel() {
+        assertEquals(1, GameConstants.cellSize(1000, 64));
+    }
+}
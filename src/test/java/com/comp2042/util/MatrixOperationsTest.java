@@ -1,5 +1,6 @@
 package com.comp2042.util;
 
+import com.comp2042.logic.bricks.PieceShape;
 import com.comp2042.model.data.ClearRow;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -447,4 +448,22 @@ class MatrixOperationsTest {
         assertEquals(10, newMatrix.length);
         assertEquals(10, newMatrix[0].length);
     }
-}
\ No newline at end of file
+
+    // ==================== PIECE SHAPE OPERATIONS ====================
+
+    @Test
+    void testIntersect_WithPieceShape_MatchesMatrixVersion() {
+        int[][] matrix = new int[10][10];
+        matrix[5][5] = 1;
+        int[][] brick = {{0, 1, 0}, {1, 1, 1}, {0, 0, 0}};
+        PieceShape piece = new PieceShape(brick);
+
+        for (int x = -2; x < 10; x++) {
+            for (int y = -2; y < 10; y++) {
+                assertEquals(MatrixOperations.intersect(matrix, brick, x, y),
+                        MatrixOperations.intersect(matrix, piece, x, y),
+                        "Mismatch at " + x + "," + y);
+            }
+        }
+    }
+}
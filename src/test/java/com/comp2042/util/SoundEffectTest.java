@@ -0,0 +1,62 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.Clip;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundEffectTest {
+
+    // ==================== Decode Tests ====================
+
+    @Test
+    void testDecode_ClearRowIsSignedPcm() throws Exception {
+        InputStream audioSrc = getClass().getClassLoader().getResourceAsStream("sounds/clear_row.wav");
+        assertNotNull(audioSrc);
+
+        try (AudioInputStream audioStream = SoundEffect.decode(audioSrc)) {
+            assertEquals(AudioFormat.Encoding.PCM_SIGNED, audioStream.getFormat().getEncoding());
+        }
+    }
+
+    // ==================== Load Tests ====================
+
+    @Test
+    void testLoad_DecodesWholeFrames() {
+        SoundEffect effect = SoundEffect.load("sounds/clear_row.wav", 0.9f, 2);
+
+        assertNotNull(effect);
+        assertTrue(effect.getDataLength() > 0);
+        assertEquals(0, effect.getDataLength() % effect.getFormat().getFrameSize());
+        assertTrue(effect.getVoices() <= 2);
+    }
+
+    @Test
+    void testLoad_MissingResourceReturnsNull() {
+        assertNull(SoundEffect.load("sounds/missing.wav", 0.9f, 2));
+    }
+
+    // ==================== Play Tests ====================
+
+    @Test
+    void testPlay_WithoutClipsDoesNotThrow() {
+        AudioFormat format = new AudioFormat(44100, 16, 1, true, false);
+        SoundEffect effect = new SoundEffect(format, new byte[0], new Clip[0]);
+
+        assertDoesNotThrow(effect::play);
+    }
+
+    @Test
+    void testPlay_CyclesThroughClips() {
+        SoundEffect effect = SoundEffect.load("sounds/clear_row.wav", 0.9f, 3);
+        assertNotNull(effect);
+
+        for (int i = 0; i < effect.getVoices() * 2 + 1; i++) {
+            assertDoesNotThrow(effect::play);
+        }
+    }
+}
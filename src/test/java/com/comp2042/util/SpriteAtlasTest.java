@@ -0,0 +1,63 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteAtlasTest {
+
+    @AfterEach
+    void tearDown() {
+        ColorPalette.setUiScale(1.0);
+    }
+
+    // ==================== Sprite Size Tests ====================
+
+    @Test
+    void testSpriteSize_UnscaledMatchesCellSize() {
+        assertEquals(GameConstants.BRICK_SIZE, SpriteAtlas.spriteSize(GameConstants.BRICK_SIZE, 1.0));
+    }
+
+    @Test
+    void testSpriteSize_RoundsUpScaledCells() {
+        assertEquals(30, SpriteAtlas.spriteSize(20, 1.5));
+        assertEquals(31, SpriteAtlas.spriteSize(20, 1.51));
+    }
+
+    @Test
+    void testSpriteSize_NeverEmpty() {
+        assertEquals(1, SpriteAtlas.spriteSize(1, 0.1));
+    }
+
+    // ==================== Slot Tests ====================
+
+    @Test
+    void testSlot_BrickIdsKeepTheirSlot() {
+        for (int id = 1; id <= 7; id++) {
+            assertEquals(id, SpriteAtlas.slot(id));
+        }
+    }
+
+    @Test
+    void testSlot_UnknownIdsShareLastSlot() {
+        assertEquals(SpriteAtlas.COLORS - 1, SpriteAtlas.slot(8));
+        assertEquals(SpriteAtlas.COLORS - 1, SpriteAtlas.slot(42));
+        assertEquals(SpriteAtlas.COLORS - 1, SpriteAtlas.slot(-1));
+    }
+
+    // ==================== UI Scale Tests ====================
+
+    @Test
+    void testSetUiScale_StoresScale() {
+        ColorPalette.setUiScale(1.25);
+        assertEquals(1.25, ColorPalette.getUiScale());
+    }
+
+    @Test
+    void testSetUiScale_IgnoresNonPositive() {
+        ColorPalette.setUiScale(2.0);
+        ColorPalette.setUiScale(0);
+        ColorPalette.setUiScale(-1);
+        assertEquals(2.0, ColorPalette.getUiScale());
+    }
+}
@@ -1,7 +1,9 @@
 package com.comp2042.view.game;
 
 import com.comp2042.enums.GameMode;
+import com.comp2042.util.GameConstants;
 import com.comp2042.view.components.GameOverPanel;
+import com.comp2042.view.components.NotificationPanel;
 import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -14,6 +16,8 @@ import org.junit.jupiter.api.BeforeEach;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -209,4 +213,48 @@ class UIManagerTest {
 
         latch.await(2, TimeUnit.SECONDS);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testShowNotification_CoalescesRepeats() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger panels = new AtomicInteger(-1);
+        AtomicReference<String> text = new AtomicReference<>();
+
+        Platform.runLater(() -> {
+            try {
+                uiManager.showNotification("+200");
+                uiManager.showNotification("+200");
+                uiManager.showNotification("+200");
+
+                panels.set(notificationGroup.getChildren().size());
+                text.set(((NotificationPanel) notificationGroup.getChildren().get(0)).getText());
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS), "FX thread did not run the check");
+        assertEquals(1, panels.get());
+        assertEquals("+200 x3", text.get());
+    }
+
+    @Test
+    void testShowNotification_CapsPanels() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger panels = new AtomicInteger(-1);
+
+        Platform.runLater(() -> {
+            try {
+                for (int i = 0; i < 10; i++) {
+                    uiManager.showNotification("+" + (i * 100));
+                }
+                panels.set(notificationGroup.getChildren().size());
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS), "FX thread did not run the check");
+        assertEquals(GameConstants.MAX_NOTIFICATIONS, panels.get());
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.view.rendering;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.PieceTable;
+import com.comp2042.model.data.ViewData;
+import com.comp2042.util.GameConstants;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shadow node visibility. Only builds nodes, so it runs without the JavaFX toolkit.
+ */
+class ShadowRendererTest {
+
+    private GridPane gamePanel;
+    private ShadowRenderer renderer;
+    private PieceShape piece;
+
+    @BeforeEach
+    void setUp() {
+        gamePanel = new GridPane();
+        renderer = new ShadowRenderer(gamePanel);
+        piece = PieceTable.get(6, 0);
+        renderer.initialize(piece, GameConstants.BOARD_ROWS, GameConstants.BRICK_SIZE);
+    }
+
+    private ViewData view(int x, int y, int shadowY) {
+        return new ViewData(piece, x, y, piece, shadowY, null);
+    }
+
+    private long visibleCells() {
+        return gamePanel.getChildren().stream().filter(Node::isVisible).count();
+    }
+
+    // ==================== Visibility Tests ====================
+
+    @Test
+    void testUpdate_ShowsShadowBelowBrick() {
+        renderer.update(view(3, 5, 20));
+
+        assertEquals(piece.getCellCount(), visibleCells());
+    }
+
+    @Test
+    void testUpdate_HidesShadowUnderRestingBrick() {
+        renderer.update(view(3, 5, 20));
+        renderer.update(view(4, 20, 20));
+
+        assertEquals(0, visibleCells());
+    }
+
+    @Test
+    void testSetVisible_KeepsHiddenShadowHidden() {
+        renderer.update(view(3, 5, 20));
+        renderer.update(view(4, 20, 20));
+
+        renderer.setVisible(false);
+        renderer.setVisible(true);
+
+        assertEquals(0, visibleCells());
+    }
+
+    @Test
+    void testSetVisible_RestoresShownShadow() {
+        renderer.update(view(3, 5, 20));
+
+        renderer.setVisible(false);
+        assertEquals(0, visibleCells());
+        renderer.setVisible(true);
+
+        assertEquals(piece.getCellCount(), visibleCells());
+    }
+}